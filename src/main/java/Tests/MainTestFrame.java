@@ -1,13 +1,13 @@
 package Tests;
 
 import Tests.Question;
+import gui.FrameScheduler;
 import gui.PauseAction;
 import org.example.Discipline;
 import org.example.Hero;
 import org.example.MusicPlayer;
 
 import javax.swing.*;
-import javax.swing.Timer;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -86,7 +86,7 @@ public class MainTestFrame  extends JFrame {
         this.onFinishCallback = onFinishCallback;
 
         testManager.generateQuestions(discipline);
-        questions = discipline.questions;
+        questions = discipline.getQuestions();
 
         // Встановлюємо український текст для кнопок "OK" та "Скасувати"
         UIManager.put("OptionPane.okButtonText", "ОК");
@@ -142,21 +142,17 @@ public class MainTestFrame  extends JFrame {
         final Color[] textColors = {simsAccent1, simsAccent2, simsAccent3};
         final int[] currentPhase = {0};
 
-        Timer timer = new Timer(150, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (currentPhase[0] < phases.length) {
-                    animationLabel.setText(phases[currentPhase[0]]);
-                    animationLabel.setForeground(textColors[currentPhase[0]]);
-                    currentPhase[0]++;
-                } else {
-                    ((Timer) e.getSource()).stop();
-                    animationDialog.dispose();
-                }
+        // Animation phases are advanced by the shared frame scheduler every 150ms
+        FrameScheduler.getInstance().subscribe("MainTestFrame.startAnimation", animationDialog, 150, frame -> {
+            if (currentPhase[0] < phases.length) {
+                animationLabel.setText(phases[currentPhase[0]]);
+                animationLabel.setForeground(textColors[currentPhase[0]]);
+                currentPhase[0]++;
+            } else {
+                frame.cancel();
+                animationDialog.dispose();
             }
         });
-        timer.setInitialDelay(50);
-        timer.start();
 
         animationDialog.setVisible(true);
     }
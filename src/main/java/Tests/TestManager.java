@@ -151,7 +151,7 @@ public class TestManager {
      */
     public void generateQuestions(Discipline discipline) {
         if (discipline.getName().equals("Забезпечення якости доступу програмних продуктів"))
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке забезпечення якості (QA) у розробці ПЗ?",
                             new String[]{"Написання коду", "Встановлення драйверів", "Сукупність процесів для гарантування якості продукту", "Розгортання сайту"}, 2),
                     new Question("2. Що таке тестування програмного забезпечення?",
@@ -182,9 +182,9 @@ public class TestManager {
                             new String[]{"CRUD", "ARIA", "POUR", "SOAP"}, 2),
                     new Question("15. Хто відповідає за забезпечення якості в команді?",
                             new String[]{"Лише тестувальник", "Менеджер проєкту", "Вся команда розробки", "Дизайнер"}, 2)
-            };
+            });
         else if (discipline.getName().equals("Основи штучного інтелекту")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке штучний інтелект (ШІ)?",
                             new String[]{"Програма для обробки відео", "Система, що імітує інтелектуальну поведінку людини", "Технологія збереження даних", "Середовище для програмування"}, 1),
                     new Question("2. Що таке інтелектуальний агент?",
@@ -215,9 +215,9 @@ public class TestManager {
                             new String[]{"Logistic Regression", "K-means", "Decision Tree", "Random Forest"}, 1),
                     new Question("15. Яка цільова функція використовується в класифікації?",
                             new String[]{"Mean Squared Error", "Log Loss", "Euclidean Distance", "Fuzzy membership"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Алгебра та геометрія")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке вектор у просторі?",
                             new String[]{"Число", "Множина", "Спрямований відрізок із напрямом і довжиною", "Кут між прямими"}, 2),
                     new Question("2. Як знайти довжину вектора \\( \\vec{a} = (3, 4) \\)?",
@@ -248,9 +248,9 @@ public class TestManager {
                             new String[]{"Ромб", "Паралелограм", "Квадрат", "Трапеція"}, 2),
                     new Question("15. Що таке ортонормований базис?",
                             new String[]{"Будь-який базис", "Система лінійно залежних векторів", "Ортогональна система векторів з довжиною 1", "Базис, що містить нульовий вектор"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Теорія алгоритмів та математичної логіки") || discipline.getName().equals("Математична логіка та теорія алгоритмів")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке алгоритм з точки зору теорії алгоритмів?",
                             new String[]{"Будь-яка послідовність дій", "Набір випадкових інструкцій", "Скінченна, однозначна, ефективна та результативна послідовність дій", "Математичне рівняння"}, 2),
                     new Question("2. Яка модель обчислень вважається універсальною?",
@@ -281,10 +281,10 @@ public class TestManager {
                             new String[]{"Її не можна вирішити за один крок", "Її не можна розв’язати жодним алгоритмом", "Потрібен потужний комп’ютер", "Вона потребує багато пам’яті"}, 1),
                     new Question("15. Яка з мов є контекстно-вільною?",
                             new String[]{"Мова паліндромів", "Мова рівної кількості a і b", "Мова арифметичних виразів", "Мова зі змінною довжиною"}, 2)
-            };
+            });
 
         } else if (discipline.getName().equals("Алгоритми і структури даних") || discipline.getName().equals("Програмування")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Яка основна функція компілятора?",
                             new String[]{"Виконання програми", "Перетворення вихідного коду у машинозрозумілий код", "Відлагодження програми", "Управління пам'яттю"}, 1),
                     new Question("2. Що таке змінна в програмуванні?",
@@ -327,9 +327,9 @@ public class TestManager {
                                     "Сортування злиттям (MergeSort)",
                                     "Бульбашкове сортування (Bubble Sort)",
                                     "Сортування вибором (Selection Sort)"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Патерни проєктування та дизайн АРІ")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке патерн проєктування (design pattern)?",
                             new String[]{"Мова програмування", "Конкретна реалізація", "Узагальнене рішення типових задач проєктування ПЗ", "Система команд"}, 2),
                     new Question("2. Який патерн належить до порожніх (creational) патернів?",
@@ -360,9 +360,9 @@ public class TestManager {
                             new String[]{"Strategy", "Prototype", "Factory", "Memento"}, 0),
                     new Question("15. Що є антипатерном при проєктуванні API?",
                             new String[]{"Чітке розділення маршрутів", "Використання status-кодів", "Нестабільна структура відповіді", "Фільтрація параметрами"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Архітектура інформаційних систем")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке архітектура інформаційної системи?",
                             new String[]{"Інструкція користувача", "Фізична схема мережі", "Структурне представлення компонентів ІС та їх взаємодії", "Алгоритм авторизації"}, 2),
                     new Question("2. Яка з моделей описує поділ системи на клієнт і сервер?",
@@ -393,9 +393,9 @@ public class TestManager {
                             new String[]{"Монолітна", "Мікросервісна", "Пірамідальна", "Реляційна"}, 1),
                     new Question("15. Що таке інтероперабельність у контексті ІС?",
                             new String[]{"Захист даних", "Можливість систем працювати разом та обмінюватися даними", "Зменшення розміру БД", "Компресія об’єктів"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Основи комп'ютерних алгоритмів")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке алгоритм?",
                             new String[]{"Мова програмування", "Покрокове розв’язання задачі", "Вид змінної", "Формат файлу"}, 1),
                     new Question("2. Яка характеристика описує ефективність алгоритму?",
@@ -426,9 +426,9 @@ public class TestManager {
                             new String[]{"Бінарний пошук", "DFS", "Сортування злиттям", "Алгоритм Дейкстри"}, 3),
                     new Question("15. Що таке Big-O нотація?",
                             new String[]{"Опис пам’яті", "Позначення типів даних", "Оцінка складності алгоритму", "Формула розмітки"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Аналіз великих даних (Big Data)") || discipline.getName().equals("Аналіз даних великого розміру (Big Data)")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке великі дані (Big Data)?",
                             new String[]{"Будь-які числові дані", "Дані, що не піддаються обробці традиційними методами через обсяг, швидкість або різноманіття", "Файли великих розмірів", "Тільки відео і аудіо файли"}, 1),
                     new Question("2. Які основні характеристики визначають Big Data? (модель 3V)",
@@ -459,9 +459,9 @@ public class TestManager {
                             new String[]{"Зменшення пам’яті", "Використання лише одного процесора", "Паралельна обробка великих обсягів даних", "Ручне керування"}, 2),
                     new Question("15. Який з інструментів дозволяє будувати пайплайни машинного навчання на великих даних?",
                             new String[]{"NumPy", "Spark MLlib", "Excel", "Pandas"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Комп'ютерна графіка")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке комп’ютерна графіка?",
                             new String[]{"Розділ програмування з базами даних", "Система для обчислення", "Методи створення, зберігання, обробки й виводу зображень за допомогою комп’ютера", "Система захисту інформації"}, 2),
                     new Question("2. Що таке піксель у растровій графіці?",
@@ -492,9 +492,9 @@ public class TestManager {
                             new String[]{"Тип текстури", "Полігональна сітка", "Гладка крива, що задається контрольними точками", "Піксельна маска"}, 2),
                     new Question("15. Що таке рендеринг?",
                             new String[]{"Процес створення сценарію", "Процес відображення 3D-сцени в 2D-зображення", "Компіляція графічного коду", "Моделювання освітлення"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Комп'ютерний зір / Computer Vision (англ. мовою)")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке комп’ютерний зір?",
                             new String[]{"Галузь штучного інтелекту, що вивчає людський зір", "Технологія для оптичного зберігання", "Метод дозволу зображень", "Галузь ІТ, що навчає машини аналізувати й інтерпретувати зображення та відео"}, 3),
                     new Question("2. Який інструмент найчастіше використовують для комп’ютерного зору у Python?",
@@ -525,9 +525,9 @@ public class TestManager {
                             new String[]{"ResNet", "YOLO", "U-Net", "VGG"}, 2),
                     new Question("15. Що таке data augmentation у комп’ютерному зорі?",
                             new String[]{"Стиснення зображення", "Створення синтетичних даних на основі модифікацій оригінальних", "Побудова дерев рішень", "Пошук контурів"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Аналіз даних")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке аналіз даних?",
                             new String[]{"Процес збору даних", "Процес створення вебінтерфейсу", "Процес обробки, візуалізації та інтерпретації даних", "Процес кодування у Python"}, 2),
                     new Question("2. Яке з наведених є прикладом кількісної змінної?",
@@ -558,9 +558,9 @@ public class TestManager {
                             new String[]{"Таблиця даних", "Діаграма розсіювання", "Графік, що показує медіану, квартилі та викиди", "Графік розподілу частот"}, 2),
                     new Question("15. Що таке нормалізація даних?",
                             new String[]{"Перетворення в числовий формат", "Видалення рядків", "Приведення значень до одного масштабу", "Випадкове змішування"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Бази даних") || discipline.getName().equals("Бази даних та інформаційні системи")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке база даних?",
                             new String[]{"Сукупність вебсторінок", "Формат файлу для зображень", "Організована сукупність даних", "Мова програмування"}, 2),
                     new Question("2. Яка основна функція СУБД?",
@@ -591,9 +591,9 @@ public class TestManager {
                             new String[]{"INT", "VARCHAR", "DATE", "FLOAT"}, 1),
                     new Question("15. Яка команда використовується для видалення таблиці?",
                             new String[]{"DELETE TABLE", "REMOVE", "DROP TABLE", "TRUNCATE"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Диференціальні рівняння")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке диференціальне рівняння?",
                             new String[]{"Рівняння, що містить похідну невідомої функції", "Рівняння з модулями", "Рівняння з логарифмами", "Система рівнянь без похідних"}, 0),
                     new Question("2. Який порядок має рівняння y'' + y = 0?",
@@ -624,9 +624,9 @@ public class TestManager {
                             new String[]{"Розв’язок без похідної", "Будь-яке рівняння, що не містить y", "Розв’язок, який задовольняє праву частину рівняння", "Постійна функція"}, 2),
                     new Question("15. Як отримати загальний розв’язок неоднорідного рівняння?",
                             new String[]{"Скласти загальний розв’язок однорідного та частинний неоднорідного", "Взяти інтеграл правої частини", "Поділити на y", "Обчислити межу"}, 0)
-            };
+            });
         } else if (discipline.getName().equals("Дискретна математика")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке множина в дискретній математиці?",
                             new String[]{"Рядок тексту", "Набір впорядкованих елементів", "Набір об'єктів, які розглядаються як єдине ціле", "Математична функція"}, 2),
                     new Question("2. Який символ позначає перетин множин?",
@@ -657,9 +657,9 @@ public class TestManager {
                             new String[]{"¬", "∧", "∨", "→"}, 2),
                     new Question("15. Для яких значень A і B висловлювання A → B хибне?",
                             new String[]{"A = false, B = true", "A = true, B = true", "A = false, B = false", "A = true, B = false"}, 3)
-            };
+            });
         } else if (discipline.getName().equals("Стохастична фінансова математика / Stochastic Financial Mathematics (англ.мовою)")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що вивчає стохастична фінансова математика?",
                             new String[]{"Оптимізацію бізнес-процесів", "Випадкові процеси, які використовуються в моделюванні фінансових ринків", "Економіку підприємств", "Детерміновані рівняння"}, 1),
                     new Question("2. Який процес лежить в основі моделі Брауна?",
@@ -690,9 +690,9 @@ public class TestManager {
                             new String[]{"Блек–Шоулз", "Модель Васичека", "Модель Мертона з стрибками", "Модель Каплана–Майєра"}, 2),
                     new Question("15. Який з фінансових інструментів є похідним (деривативом)?",
                             new String[]{"Акція", "Облігація", "Опціон", "Готівка"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Функціональний аналіз")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке нормований простір?",
                             new String[]{"Множина з внутрішнім добутком", "Множина з визначеним інтегралом", "Лінійний простір з нормою, що визначає довжину векторів", "Система координат"}, 2),
                     new Question("2. Як називається операція, що перетворює вектор у скаляр, обчислюючи його довжину або величину?",
@@ -723,9 +723,9 @@ public class TestManager {
                             new String[]{"Функція, що має похідну", "Функція з двома змінними", "Лінійне відображення з простору у поле скалярів", "Векторна функція"}, 2),
                     new Question("15. Яка з теорем гарантує наявність ортонормованого базису у просторі Гільберта?",
                             new String[]{"Теорема Больцано", "Теорема Рісса", "Теорема Гільберта", "Теорема про ортогоналізацію Грама-Шмідта"}, 3)
-            };
+            });
         } else if (discipline.getName().equals("Інтелектуальні системи")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке інтелектуальна система?",
                             new String[]{"Система автоматичного керування", "Система з можливістю приймати рішення, подібно до людини", "Система для створення графіки", "Операційна система"}, 1),
                     new Question("2. Яка з наведених галузей є частиною інтелектуальних систем?",
@@ -756,9 +756,9 @@ public class TestManager {
                             new String[]{"Реалізація", "Точність (accuracy)", "Обсяг пам’яті", "Частота кадрів"}, 1),
                     new Question("15. Що таке агент в інтелектуальній системі?",
                             new String[]{"Підключення до сервера", "Сутність, що сприймає середовище і діє у ньому", "Назва процесу", "Вікно програми"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Логічне програмування")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке логічне програмування?",
                             new String[]{"Парадигма, заснована на логіці предикатів", "Програмування графіки", "Робота з апаратним забезпеченням", "Програмування алгоритмів сортування"}, 0),
                     new Question("2. Яка мова є основною для логічного програмування?",
@@ -789,9 +789,9 @@ public class TestManager {
                             new String[]{"Виведе помилку", "Програма завершиться", "Поверне false", "Згенерує випадкове значення"}, 2),
                     new Question("15. Як Prolog шукає рішення?",
                             new String[]{"За принципом стеку", "З допомогою жадібного алгоритму", "Зліва направо з backtracking", "Випадково"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Машинне навчання / Machine Learning (англ. мовою)")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке машинне навчання?",
                             new String[]{"Алгоритм пошуку в інтернеті", "Процес написання коду вручну", "Підгалузь штучного інтелекту, де моделі навчаються з даних", "Інструмент для створення вебсайтів"}, 2),
                     new Question("2. Який із наведених типів навчання вимагає міток у даних?",
@@ -822,9 +822,9 @@ public class TestManager {
                             new String[]{"Метод зменшення розмірності", "Модель класифікації/регресії у вигляді послідовних розгалужень", "Графік функції", "Результат активації"}, 1),
                     new Question("15. Який алгоритм машинного навчання працює шляхом побудови гіперплощини?",
                             new String[]{"Naive Bayes", "SVM", "KNN", "Gradient Descent"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Математичний аналіз")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке границя функції в точці?",
                             new String[]{"Максимальне значення", "Похідна у точці", "Значення, до якого прямує функція при наближенні аргументу до певної точки", "Межа області визначення"}, 2),
                     new Question("2. Яка з наведених формул є означенням похідної?",
@@ -855,9 +855,9 @@ public class TestManager {
                             new String[]{"Рівняння з похідною", "Рівняння з логарифмами", "Рівняння з модулем", "Система лінійних рівнянь"}, 0),
                     new Question("15. Яке з рівнянь є лінійним диференціальним рівнянням першого порядку?",
                             new String[]{"y'' + y = 0", "y' + y = x", "y² + y' = 0", "y = sin(x)"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Методика викладання математики та інформатики у вищій школі")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Яка з функцій вищої освіти є головною в контексті викладання математики та інформатики?",
                             new String[]{"Комерційна", "Репродуктивна", "Освітня і виховна", "Адміністративна"}, 2),
                     new Question("2. Що таке компетентнісний підхід у викладанні?",
@@ -888,9 +888,9 @@ public class TestManager {
                             new String[]{"Мотивація", "Засвоєння нового матеріалу", "Актуалізація", "Закріплення"}, 0),
                     new Question("15. Який стиль викладання є найбільш ефективним у вищій школі?",
                             new String[]{"Авторитарний", "Партнерський", "Ігровий", "Формальний"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Математична теорія ігор")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке стратегічна гра (гра в нормальній формі)?",
                             new String[]{"Гра, де результат залежить лише від випадку", "Гра, де учасники приймають рішення одночасно", "Гра з нескінченною кількістю стратегій", "Гра з одним гравцем"}, 1),
                     new Question("2. Який з варіантів є визначенням рівноваги Неша?",
@@ -921,9 +921,9 @@ public class TestManager {
                             new String[]{"Динамічне програмування", "Графи", "Табличний метод", "Симплекс-метод"}, 2),
                     new Question("15. Який метод застосовується для знаходження рівноваги Неша в змішаних стратегіях?",
                             new String[]{"Розв’язання системи лінійних рівнянь", "Ітераційний метод", "Метод Сімпсона", "Диференціювання функції"}, 0)
-            };
+            });
         } else if (discipline.getName().equals("Багатозадачне та паралельне програмування")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке багатозадачність у програмуванні?",
                             new String[]{"Виконання кількох функцій однією програмою", "Здатність ОС одночасно виконувати кілька задач", "Використання одного потоку для всіх задач", "Зберігання кількох програм"}, 1),
                     new Question("2. Що таке потік (thread)?",
@@ -954,9 +954,9 @@ public class TestManager {
                             new String[]{"Програмування для смартфонів", "Використання GPU", "Робота з декількома потоками, що мають доступ до спільних ресурсів", "Штучний інтелект"}, 2),
                     new Question("15. Яке ключове слово в C# використовується для асинхронних методів?",
                             new String[]{"await", "async", "thread", "run"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Основи мережевих технологій")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке IP-адреса?",
                             new String[]{
                                     "Унікальний ідентифікатор мережевого пристрою",
@@ -1076,9 +1076,9 @@ public class TestManager {
                                     "Тип кабелю",
                                     "Мережевий комутатор"
                             }, 1)
-            };
+            });
         } else if (discipline.getName().equals("Об'єктно-орієнтоване програмування")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке об'єкт в ООП?",
                             new String[]{"Процедура в програмі", "Змінна типу integer", "Екземпляр класу", "Функція, що повертає значення"}, 2),
                     new Question("2. Що таке клас в ООП?",
@@ -1109,9 +1109,9 @@ public class TestManager {
                             new String[]{"Назва методу", "Посилання на поточний об'єкт", "Ключове слово для зупинки програми", "Ідентифікатор змінної"}, 1),
                     new Question("15. Що таке композиція в ООП?",
                             new String[]{"Використання одного об'єкта в іншому як частини", "Зміна типів", "Видалення об'єктів", "Підключення бібліотек"}, 0)
-            };
+            });
         } else if (discipline.getName().equals("Методи оптимізації та дослідження операцій")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що вивчає дослідження операцій?",
                             new String[]{"Фізичні процеси в техніці", "Оптимізацію складних систем прийняття рішень", "Інженерні креслення", "Графічний дизайн"}, 1),
                     new Question("2. Що є метою задачі лінійного програмування?",
@@ -1142,9 +1142,9 @@ public class TestManager {
                             new String[]{"Застосовується для задачі пошуку коренів рівняння", "Застосовується в цілочисельному програмуванні", "Використовується для обчислення інтегралів", "Застосовується до транспортної задачі"}, 1),
                     new Question("15. Що таке допустиме розв’язання?",
                             new String[]{"Розв’язання без обмежень", "Розв’язання, що не задовольняє жодне обмеження", "Розв’язання, що задовольняє всі обмеження задачі", "Мінімум цільової функції"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Управління проєктами в інженерії програмного забезпечення")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке проєкт в контексті ІПЗ?",
                             new String[]{"Набір вимог до ПЗ", "Тимчасова діяльність з чіткою метою — створити унікальний продукт або послугу", "Файл з кодом", "Серверна конфігурація"}, 1),
                     new Question("2. Який з етапів є першим у життєвому циклі ПЗ?",
@@ -1175,9 +1175,9 @@ public class TestManager {
                             new String[]{"Зустріч команди", "Інтервал, протягом якого створюється інкремент продукту", "Оцінка ризиків", "Код модуля"}, 1),
                     new Question("15. Яка модель зрілості процесів включає 5 рівнів розвитку організації?",
                             new String[]{"Waterfall", "TOGAF", "CMMI", "Scrum"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Методологія наукових досліджень в програмній інженерії")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке наукове дослідження?",
                             new String[]{"Систематизований процес здобуття нових знань", "Опис алгоритму", "Інтерфейсна розробка", "Базова програма"}, 0),
                     new Question("2. Яка з форм є типовою для наукового результату в ІПЗ?",
@@ -1208,9 +1208,9 @@ public class TestManager {
                             new String[]{"Інтерв’ю", "Експеримент", "Анкетування", "Статистичний прогноз"}, 1),
                     new Question("15. Що таке плагіат у науковій роботі?",
                             new String[]{"Посилання на джерела", "Повтор теми", "Привласнення чужого тексту або ідей без відповідного цитування", "Копіювання структури"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Системне програмування")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке системне програмування?",
                             new String[]{"Програмування вебсторінок", "Розробка прикладного ПЗ", "Розробка програм, що взаємодіють з апаратним забезпеченням", "Створення баз даних"}, 2),
                     new Question("2. Яке основне призначення операційної системи?",
@@ -1241,9 +1241,9 @@ public class TestManager {
                             new String[]{"exec()", "open()", "fork()", "wait()"}, 2),
                     new Question("15. Що таке таблиця дескрипторів файлів?",
                             new String[]{"Графічний інтерфейс для файлів", "Масив назв файлів", "Список відкритих файлів у процесі", "Реєстр користувачів"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Теорія функції комплексної змінної")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке аналітична функція в області D?",
                             new String[]{"Функція, що має похідну в одній точці", "Функція, що має похідну всюди в D", "Функція, що не обмежена", "Функція з розривом в точці"}, 1),
                     new Question("2. Яка умова є необхідною для диференційовності функції комплексної змінної?",
@@ -1274,9 +1274,9 @@ public class TestManager {
                             new String[]{"Формула для обчислення похідної", "Метод наближення", "Обчислення контурного інтегралу через суму залишків", "Побудова ряду Фур'є"}, 2),
                     new Question("15. Що таке голоморфна функція?",
                             new String[]{"Неперервна функція", "Функція, яка має похідну всюди в області", "Функція без границь", "Функція з дійсними значеннями"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Теорія керування")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що вивчає теорія керування?",
                             new String[]{"Фізичні коливання", "Статистичні дані", "Принципи побудови і аналізу керованих динамічних систем", "Теорію чисел"}, 2),
                     new Question("2. Що таке об'єкт керування?",
@@ -1307,9 +1307,9 @@ public class TestManager {
                             new String[]{"Зміна її структури", "Налаштування амплітуди сигналу", "Забезпечення її стійкості", "Зменшення періоду"}, 2),
                     new Question("15. Яке з тверджень відповідає принципу суперпозиції?",
                             new String[]{"Система не залежить від початкових умов", "Сума реакцій відповідає сумі впливів", "Будь-який вхід призводить до сталого стану", "Система не має похибки"}, 1)
-            };
+            });
         } else if (discipline.getName().equals("Вебпрограмування")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Яке призначення HTML у вебпрограмуванні?",
                             new String[]{"Опис логіки роботи сайту", "Визначення структури вебсторінки", "Зберігання даних", "Шифрування контенту"}, 1),
                     new Question("2. Який тег HTML використовується для додавання зображення?",
@@ -1340,9 +1340,9 @@ public class TestManager {
                             new String[]{".html", ".php", ".css", ".js"}, 2),
                     new Question("15. Який фреймворк JavaScript призначений для створення односторінкових застосунків?",
                             new String[]{"jQuery", "Bootstrap", "React", "SASS"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Основи вебтехнологій")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Яке призначення HTML у веброзробці?",
                             new String[]{"Створення стилів для сторінки", "Визначення структури вебсторінки", "Обробка запитів на сервері", "Створення баз даних"}, 1),
                     new Question("2. Який тег використовується для створення гіперпосилання в HTML?",
@@ -1373,9 +1373,9 @@ public class TestManager {
                             new String[]{"eventHandler()", "onclick", "getElementById()", "loadDocument()"}, 1),
                     new Question("15. Що таке форма (form) в HTML?",
                             new String[]{"Засіб стилізації", "Розмітка таблиці", "Інструмент взаємодії користувача з вебсторінкою", "Компонент навігації"}, 2)
-            };
+            });
         } else if (discipline.getName().equals("Технології чисельного моделювання")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке чисельне моделювання?",
                             new String[]{"Емпіричне спостереження", "Використання числових методів для апроксимації розв’язків задач", "Проектування інтерфейсу", "Ручне обчислення формул"}, 1),
                     new Question("2. Який метод використовують для інтегрування звичайних диференціальних рівнянь?",
@@ -1406,9 +1406,9 @@ public class TestManager {
                             new String[]{"Аналітичне обчислення похідної", "Обчислення похідних за допомогою дискретних різниць", "Малювання графіка", "Метод попереднього кроку"}, 1),
                     new Question("15. Який з методів використовується для інтеграції випадкових процесів?",
                             new String[]{"Метод Рунге–Кутта", "Метод Маркова", "Метод Монте-Карло", "Метод Ньютон–Гауса"}, 2),
-            };
+            });
         } else if (discipline.getName().equals("Нелінійні процеси та моделі")) {
-            discipline.questions = new Question[]{
+            discipline.setQuestions(new Question[]{
                     new Question("1. Що таке нелінійна система?",
                             new String[]{"Система з однозначними розв’язками", "Система, в якій вихід не пропорційний входу", "Лінійна суперпозиція", "Система без змінних"}, 1),
                     new Question("2. Що таке біфуркація?",
@@ -1439,9 +1439,9 @@ public class TestManager {
                             new String[]{"Спосіб аналізу періодичної траєкторії в перетинаючій площині", "Графік похибок", "Карта GPS", "Планування експерименту"}, 0),
                     new Question("15. Що таке синхронізація в нелінійних системах?",
                             new String[]{"Наявність стабільного стану", "Випадковість", "Припасування траєкторій двох систем під впливом зв’язку", "Зникнення атрактора"}, 2),
-            };
+            });
         } else {
-            discipline.questions = new Question[]{new Question("1. Що вивчає теорія керування?",
+            discipline.setQuestions(new Question[]{new Question("1. Що вивчає теорія керування?",
                     new String[]{"Фізичні коливання", "Статистичні дані", "Принципи побудови і аналізу керованих динамічних систем", "Теорію чисел"}, 2),
                     new Question("2. Що таке об'єкт керування?",
                             new String[]{"Пристрій в інтернеті", "Сигнал з шумом", "Система, на яку впливають з метою зміни її поведінки", "Значення параметра"}, 2),
@@ -1471,7 +1471,7 @@ public class TestManager {
                             new String[]{"Зміна її структури", "Налаштування амплітуди сигналу", "Забезпечення її стійкості", "Зменшення періоду"}, 2),
                     new Question("15. Яке з тверджень відповідає принципу суперпозиції?",
                             new String[]{"Система не залежить від початкових умов", "Сума реакцій відповідає сумі впливів", "Будь-який вхід призводить до сталого стану", "Система не має похибки"}, 1)
-            };
+            });
         }
     }
 }
\ No newline at end of file
@@ -41,6 +41,7 @@ public class DeDialogPanel extends JPanel {
         add(new JButton(new ResumeAction("ПРОДОВЖИТИ")));
         add(new JButton(new PlayerPanelAction("ПАНЕЛЬ ПЕРСОНАЖКИ")));
         add(new JButton(new SettingsAction("НАЛАШТУВАННЯ")));
+        add(new JButton(new DiagnosticsAction("ДІАГНОСТИКА")));
     }
 
     /**
@@ -62,6 +63,7 @@ public class DeDialogPanel extends JPanel {
         add(pausedPanel);
 
         add(new JButton(new SettingsAction("НАЛАШТУВАННЯ")));
+        add(new JButton(new DiagnosticsAction("ДІАГНОСТИКА")));
     }
 
     /**
@@ -132,6 +134,36 @@ public class DeDialogPanel extends JPanel {
         }
     }
 
+    /**
+     * Private class for showing the recorded interface freezes.
+     */
+    private class DiagnosticsAction extends AbstractAction {
+        /**
+         * Constructor for DiagnosticsAction.
+         *
+         * @param name the display name for the action
+         */
+        public DiagnosticsAction(String name) {
+            super(name);
+        }
+
+        /**
+         * Performs the action to open the diagnostics dialog.
+         *
+         * @param e the action event that triggered this action
+         */
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            MusicPlayer.getInstance().playButtonClick();
+            Window win = SwingUtilities.getWindowAncestor((Component) e.getSource());
+            Window owner = win != null ? win.getOwner() : null;
+            if (win != null) {
+                win.dispose();
+            }
+            new EdtDiagnosticsDialog(owner).setVisible(true);
+        }
+    }
+
     /**
      * Private class for showing all possible adjustments a user can do.
      */
@@ -0,0 +1,140 @@
+package gui;
+
+import org.example.EnrollmentSystemGUI;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diagnostics window that shows the UI freezes recorded by {@link EdtWatchdog}:
+ * culprits ranked by total frozen time, the list of recent stalls with their EDT stacks,
+ * the per-subscriber animation cost reported by {@link FrameScheduler} and, when opened over the
+ * enrollment window, the faults injected by its enrollment service.
+ */
+public class EdtDiagnosticsDialog extends JDialog {
+    private static final Color BG = new Color(159, 131, 244); // Same background as the pause panel
+
+    private final JLabel summaryLabel = new JLabel();
+    private final DefaultTableModel culpritModel = new DefaultTableModel(new Object[]{"Місце в коді", "Кількість", "Сумарно, мс", "Макс., мс"}, 0) {
+        @Override
+        public boolean isCellEditable(int row, int column) {
+            return false;
+        }
+    };
+    private final DefaultListModel<EdtWatchdog.Stall> stallListModel = new DefaultListModel<>();
+    private final JTextArea stackArea = new JTextArea();
+    private final JTextArea frameStatsArea = new JTextArea();
+    private final JTextArea serviceStatsArea = new JTextArea();
+    private final Window owner;
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+
+    /**
+     * Creates the diagnostics window and fills it with the current data.
+     *
+     * @param owner The window the dialog belongs to, may be null.
+     */
+    public EdtDiagnosticsDialog(Window owner) {
+        super(owner, "Діагностика зависань інтерфейсу", ModalityType.MODELESS);
+        this.owner = owner;
+        setSize(900, 600);
+        setLocationRelativeTo(owner);
+
+        JPanel content = new JPanel(new BorderLayout(10, 10));
+        content.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        content.setBackground(BG);
+
+        JPanel top = new JPanel(new BorderLayout());
+        top.setOpaque(false);
+        summaryLabel.setFont(new Font("Arial", Font.BOLD, 13));
+        top.add(summaryLabel, BorderLayout.CENTER);
+        JButton refreshButton = new JButton("ОНОВИТИ");
+        refreshButton.addActionListener(e -> refresh());
+        top.add(refreshButton, BorderLayout.EAST);
+        content.add(top, BorderLayout.NORTH);
+
+        JTable culpritTable = new JTable(culpritModel);
+        culpritTable.getColumnModel().getColumn(0).setPreferredWidth(500);
+
+        JList<EdtWatchdog.Stall> stallList = new JList<>(stallListModel);
+        stallList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                JLabel label = (JLabel) super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                if (value instanceof EdtWatchdog.Stall stall) {
+                    label.setText(timeFormat.format(new Date(stall.getStartTime())) + " — " + stall.getDurationMs() + " мс");
+                }
+                return label;
+            }
+        });
+        stallList.addListSelectionListener(e -> showStack(stallList.getSelectedValue()));
+
+        stackArea.setEditable(false);
+        stackArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11));
+        frameStatsArea.setEditable(false);
+        frameStatsArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11));
+        serviceStatsArea.setEditable(false);
+        serviceStatsArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11));
+
+        JSplitPane stallSplit = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT,
+                new JScrollPane(stallList), new JScrollPane(stackArea));
+        stallSplit.setResizeWeight(0.25);
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Рейтинг зависань", new JScrollPane(culpritTable));
+        tabs.addTab("Останні зависання", stallSplit);
+        tabs.addTab("Анімації", new JScrollPane(frameStatsArea));
+        tabs.addTab("Сервіс запису", new JScrollPane(serviceStatsArea));
+        content.add(tabs, BorderLayout.CENTER);
+
+        setContentPane(content);
+        refresh();
+    }
+
+    /**
+     * Reloads all data from the watchdog, the frame scheduler and the enrollment service.
+     */
+    public void refresh() {
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        List<EdtWatchdog.Stall> stalls = watchdog.getRecentStalls();
+        summaryLabel.setText("Пульсів: " + watchdog.getHeartbeats()
+                + ", макс. затримка: " + watchdog.getMaxLatencyMs() + " мс"
+                + ", поріг: " + watchdog.getThresholdMs() + " мс"
+                + ", зависань: " + stalls.size());
+
+        culpritModel.setRowCount(0);
+        for (Map.Entry<String, long[]> entry : watchdog.getRankedCulprits().entrySet()) {
+            long[] stats = entry.getValue();
+            culpritModel.addRow(new Object[]{entry.getKey(), stats[0], stats[1], stats[2]});
+        }
+
+        stallListModel.clear();
+        for (EdtWatchdog.Stall stall : stalls) {
+            stallListModel.addElement(stall);
+        }
+        stackArea.setText("");
+
+        frameStatsArea.setText(FrameScheduler.getInstance().getStatsReport());
+
+        String serviceReport = owner instanceof EnrollmentSystemGUI ? ((EnrollmentSystemGUI) owner).getServiceReport() : null;
+        serviceStatsArea.setText(serviceReport != null ? serviceReport : "Сервіс запису не запущено.");
+    }
+
+    private void showStack(EdtWatchdog.Stall stall) {
+        if (stall == null) {
+            stackArea.setText("");
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        text.append("EDT заблоковано на ").append(stall.getDurationMs()).append(" мс\n");
+        for (StackTraceElement frame : stall.getStack()) {
+            text.append("    at ").append(frame).append('\n');
+        }
+        stackArea.setText(text.toString());
+        stackArea.setCaretPosition(0);
+    }
+}
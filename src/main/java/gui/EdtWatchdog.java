@@ -0,0 +1,260 @@
+package gui;
+
+import java.awt.*;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Singleton watchdog that detects freezes of the Event Dispatch Thread.
+ * A daemon thread keeps one heartbeat event queued on the EDT and measures how long it takes to be
+ * dispatched. When a heartbeat waits longer than the threshold, the current EDT stack is captured;
+ * once the EDT gets to the heartbeat the stall is recorded with its full duration, appended to a
+ * rolling log file and kept in memory for {@link EdtDiagnosticsDialog}.
+ */
+public class EdtWatchdog {
+    private static final long HEARTBEAT_INTERVAL_MS = 100; // How often a heartbeat is posted
+    private static final long DEFAULT_THRESHOLD_MS = 200; // Dispatch latency that counts as a stall
+    private static final int MAX_RECENT_STALLS = 200; // Stalls kept in memory
+    private static final long MAX_LOG_BYTES = 512 * 1024; // Log is rolled over to .1 beyond this size
+    private static final String LOG_FILE = "edt_stalls.log";
+
+    private static EdtWatchdog instance;
+
+    private final Deque<Stall> recentStalls = new ArrayDeque<>();
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private volatile long thresholdMs = DEFAULT_THRESHOLD_MS;
+    private volatile Thread edtThread;
+    private volatile long pendingSince; // nanoTime when the pending heartbeat was posted, 0 if none
+    private volatile long maxLatencyMs;
+    private volatile long heartbeats;
+
+    // Handed between the watchdog thread and the EDT
+    private volatile StackTraceElement[] pendingStack; // EDT stack captured while the current heartbeat waits
+    private volatile long pendingStallStart;
+    private volatile Stall completedStall; // Waiting to be written to the log by the watchdog thread
+
+    private Thread watchdogThread;
+
+    /**
+     * A single recorded EDT freeze.
+     */
+    public static class Stall {
+        private final long startTime;
+        private final long durationMs;
+        private final StackTraceElement[] stack;
+
+        Stall(long startTime, long durationMs, StackTraceElement[] stack) {
+            this.startTime = startTime;
+            this.durationMs = durationMs;
+            this.stack = stack;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        public StackTraceElement[] getStack() {
+            return stack;
+        }
+
+        /**
+         * Returns the first frame that belongs to the game's own code, used to group stalls by culprit.
+         * @return The culprit frame as text, or the top frame if no game frame is on the stack.
+         */
+        public String getCulprit() {
+            for (StackTraceElement frame : stack) {
+                String cls = frame.getClassName();
+                if (cls.startsWith("org.example.") || cls.startsWith("gui.") || cls.startsWith("mainstage.") || cls.startsWith("Tests.")) {
+                    if (!cls.equals(EdtWatchdog.class.getName())) {
+                        return frame.toString();
+                    }
+                }
+            }
+            return stack.length > 0 ? stack[0].toString() : "невідомо";
+        }
+    }
+
+    /**
+     * Returns the singleton instance of the EdtWatchdog.
+     * @return The single instance of EdtWatchdog.
+     */
+    public static synchronized EdtWatchdog getInstance() {
+        if (instance == null) {
+            instance = new EdtWatchdog();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts the watchdog thread if it is not already running.
+     */
+    public synchronized void start() {
+        if (watchdogThread != null) {
+            return;
+        }
+        watchdogThread = new Thread(this::run, "edt-watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+    }
+
+    /**
+     * Sets the dispatch latency above which a heartbeat is recorded as a stall.
+     * @param thresholdMs The threshold in milliseconds.
+     */
+    public void setThresholdMs(long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    /**
+     * Returns the largest heartbeat dispatch latency seen so far.
+     * @return The maximum latency in milliseconds.
+     */
+    public long getMaxLatencyMs() {
+        return maxLatencyMs;
+    }
+
+    public long getHeartbeats() {
+        return heartbeats;
+    }
+
+    /**
+     * Returns the most recent stalls, newest first.
+     * @return A snapshot list of stalls.
+     */
+    public synchronized List<Stall> getRecentStalls() {
+        return new ArrayList<>(recentStalls);
+    }
+
+    /**
+     * Groups the recent stalls by culprit frame and ranks the groups by total frozen time.
+     * @return Culprit frame mapped to {count, total ms, max ms}, worst first.
+     */
+    public synchronized Map<String, long[]> getRankedCulprits() {
+        Map<String, long[]> byCulprit = new LinkedHashMap<>();
+        for (Stall stall : recentStalls) {
+            long[] stats = byCulprit.computeIfAbsent(stall.getCulprit(), k -> new long[3]);
+            stats[0]++;
+            stats[1] += stall.durationMs;
+            stats[2] = Math.max(stats[2], stall.durationMs);
+        }
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(byCulprit.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed());
+        Map<String, long[]> ranked = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> e : entries) {
+            ranked.put(e.getKey(), e.getValue());
+        }
+        return ranked;
+    }
+
+    /**
+     * Main loop of the watchdog thread.
+     */
+    private void run() {
+        long lastPost = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            long posted = pendingSince;
+            if (posted == 0) {
+                long now = System.nanoTime();
+                if ((now - lastPost) / 1_000_000 < HEARTBEAT_INTERVAL_MS) {
+                    sleepQuietly();
+                    continue;
+                }
+                // Nothing in flight: post the next heartbeat
+                pendingStack = null;
+                lastPost = now;
+                pendingSince = now;
+                EventQueue.invokeLater(() -> onHeartbeat(now));
+            } else if (pendingStack == null && edtThread != null) {
+                long waitingMs = (System.nanoTime() - posted) / 1_000_000;
+                if (waitingMs >= thresholdMs) {
+                    // The EDT is stuck right now: remember what it is doing
+                    pendingStallStart = System.currentTimeMillis() - waitingMs;
+                    pendingStack = edtThread.getStackTrace();
+                }
+            }
+
+            Stall finished = completedStall;
+            if (finished != null) {
+                completedStall = null;
+                writeToLog(finished);
+            }
+
+            sleepQuietly();
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(HEARTBEAT_INTERVAL_MS / 4);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs on the EDT when a heartbeat is dispatched.
+     */
+    private void onHeartbeat(long postedAt) {
+        edtThread = Thread.currentThread();
+        long latencyMs = (System.nanoTime() - postedAt) / 1_000_000;
+        heartbeats++;
+        if (latencyMs > maxLatencyMs) {
+            maxLatencyMs = latencyMs;
+        }
+
+        if (latencyMs >= thresholdMs) {
+            StackTraceElement[] stack = pendingStack;
+            long start = stack != null ? pendingStallStart : System.currentTimeMillis() - latencyMs;
+            Stall stall = new Stall(start, latencyMs, stack != null ? stack : new StackTraceElement[0]);
+            synchronized (this) {
+                recentStalls.addFirst(stall);
+                if (recentStalls.size() > MAX_RECENT_STALLS) {
+                    recentStalls.removeLast();
+                }
+            }
+            completedStall = stall; // Written to the log by the watchdog thread, not here
+        }
+        pendingSince = 0;
+    }
+
+    /**
+     * Appends the stall to the log file, rolling the file over when it gets too large.
+     */
+    private void writeToLog(Stall stall) {
+        File log = new File(LOG_FILE);
+        if (log.length() > MAX_LOG_BYTES) {
+            File old = new File(LOG_FILE + ".1");
+            old.delete();
+            log.renameTo(old);
+        }
+        try (PrintWriter out = new PrintWriter(new FileWriter(log, true))) {
+            out.println(timeFormat.format(new Date(stall.startTime)) + " EDT заблоковано на " + stall.durationMs + " мс");
+            for (StackTraceElement frame : stall.stack) {
+                out.println("\tat " + frame);
+            }
+            out.println();
+        } catch (IOException e) {
+            System.err.println("Помилка під час запису журналу зависань: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Singleton frame scheduler that drives every animated component of the game from one Swing timer.
+ * The timer fires once per display frame on the EDT; each tick visits the registered subscribers,
+ * skips the ones whose owner component is not showing or whose period has not yet elapsed,
+ * and records how long every subscriber took. A subscription whose owner has been disposed is removed,
+ * and the timer only runs while there are subscribers.
+ */
+public class FrameScheduler {
+    private static final int DEFAULT_REFRESH_RATE = 60; // Used when the display does not report its refresh rate
+
+    private static final FrameScheduler instance = new FrameScheduler();
+
+    private final List<Subscription> subscribers = new CopyOnWriteArrayList<>();
+    private final Timer frameTimer;
+    private long frameCount;
+
+    /**
+     * Callback invoked by the scheduler on the EDT.
+     * <p>
+     * All subscribers share one tick, so a callback must not block: while it runs, no other animation
+     * advances. Work that opens a modal dialog (e.g. when an animation completes) is to be handed to
+     * {@link SwingUtilities#invokeLater(Runnable)} after cancelling the subscription.
+     */
+    public interface FrameListener {
+        /**
+         * Called once per frame (or once per period) while the subscription is active.
+         *
+         * @param subscription The subscription being run; call {@link Subscription#cancel()} to stop.
+         */
+        void onFrame(Subscription subscription);
+    }
+
+    /**
+     * A registered subscriber together with its timing statistics.
+     */
+    public static class Subscription {
+        private final String name;
+        private final Component owner;
+        private final long periodMillis;
+        private final FrameListener listener;
+        private long lastRunMillis;
+        private boolean active = true;
+        private boolean ownerDisplayed; // The owner has been displayable at least once
+
+        private long calls;
+        private long skipped;
+        private long totalNanos;
+        private long maxNanos;
+
+        private Subscription(String name, Component owner, long periodMillis, FrameListener listener) {
+            this.name = name;
+            this.owner = owner;
+            this.periodMillis = periodMillis;
+            this.listener = listener;
+            this.lastRunMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * Removes this subscription from the scheduler. Safe to call from inside its own callback.
+         */
+        public void cancel() {
+            if (active) {
+                active = false;
+                getInstance().remove(this);
+            }
+        }
+
+        /**
+         * Checks whether this subscription is still registered.
+         * @return true if the callback will keep being called.
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the average time spent in the callback.
+         * @return The mean cost per call in microseconds.
+         */
+        public double getAverageMicros() {
+            return calls == 0 ? 0 : totalNanos / 1000.0 / calls;
+        }
+    }
+
+    /**
+     * Returns the singleton instance of the FrameScheduler.
+     * @return The single instance of FrameScheduler.
+     */
+    public static FrameScheduler getInstance() {
+        return instance;
+    }
+
+    private FrameScheduler() {
+        frameTimer = new Timer(1000 / detectRefreshRate(), e -> tick());
+        frameTimer.setCoalesce(true);
+    }
+
+    /**
+     * Registers a callback that runs on every display frame.
+     *
+     * @param name The name shown in the cost statistics.
+     * @param owner The component the animation belongs to; while it is not showing the callback is skipped,
+     *              and once its window is disposed the subscription is cancelled. May be null.
+     * @param listener The callback.
+     * @return The subscription handle.
+     */
+    public Subscription subscribe(String name, Component owner, FrameListener listener) {
+        return subscribe(name, owner, 0, listener);
+    }
+
+    /**
+     * Registers a callback that runs on the first frame after each period has elapsed.
+     *
+     * @param name The name shown in the cost statistics.
+     * @param owner The component the animation belongs to; while it is not showing the callback is skipped,
+     *              and once its window is disposed the subscription is cancelled. May be null.
+     * @param periodMillis The minimum time between two calls, or 0 to run on every frame.
+     * @param listener The callback.
+     * @return The subscription handle.
+     */
+    public Subscription subscribe(String name, Component owner, long periodMillis, FrameListener listener) {
+        Subscription subscription = new Subscription(name, owner, periodMillis, listener);
+        subscribers.add(subscription);
+        if (!frameTimer.isRunning()) {
+            frameTimer.start();
+        }
+        return subscription;
+    }
+
+    /**
+     * Returns the number of frames ticked since the scheduler was created.
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the currently registered subscriptions with their statistics.
+     * @return A snapshot list of subscriptions.
+     */
+    public List<Subscription> getSubscriptions() {
+        return new ArrayList<>(subscribers);
+    }
+
+    /**
+     * Builds a human-readable table of per-subscriber animation cost.
+     * @return One line per subscriber with call count, skipped frames, average and worst cost.
+     */
+    public String getStatsReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Кадрів: ").append(frameCount).append(", підписників: ").append(subscribers.size()).append('\n');
+        for (Subscription s : subscribers) {
+            report.append(String.format("%-28s викликів: %7d, пропущено: %7d, сер.: %8.1f мкс, макс.: %8.1f мкс%n",
+                    s.name, s.calls, s.skipped, s.getAverageMicros(), s.maxNanos / 1000.0));
+        }
+        return report.toString();
+    }
+
+    private void remove(Subscription subscription) {
+        subscribers.remove(subscription);
+        if (subscribers.isEmpty()) {
+            frameTimer.stop();
+        }
+    }
+
+    /**
+     * Runs one frame: every due and visible subscriber is called once.
+     */
+    private void tick() {
+        frameCount++;
+        long now = System.currentTimeMillis();
+        for (Subscription s : subscribers) {
+            if (!s.active) {
+                continue;
+            }
+            if (s.owner != null) {
+                if (s.owner.isDisplayable()) {
+                    s.ownerDisplayed = true;
+                } else if (s.ownerDisplayed) {
+                    s.cancel(); // Its window was disposed
+                    continue;
+                }
+                if (!s.owner.isShowing()) {
+                    s.skipped++;
+                    continue;
+                }
+            }
+            if (s.periodMillis > 0 && now - s.lastRunMillis < s.periodMillis) {
+                continue;
+            }
+            s.lastRunMillis = now;
+
+            long start = System.nanoTime();
+            try {
+                s.listener.onFrame(s);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+            long cost = System.nanoTime() - start;
+            s.calls++;
+            s.totalNanos += cost;
+            if (cost > s.maxNanos) {
+                s.maxNanos = cost;
+            }
+        }
+    }
+
+    private static int detectRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        int rate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDisplayMode()
+                .getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : rate;
+    }
+}
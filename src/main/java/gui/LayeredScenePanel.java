@@ -0,0 +1,106 @@
+package gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Base class for procedurally painted scenes that are split into a static and a dynamic layer.
+ * The static layer is rendered once per component size (and display scale) into a cached image
+ * compatible with the screen, so an ordinary repaint is a single blit followed by the dynamic overlay.
+ * The cache is dropped automatically on resize, or explicitly with {@link #invalidateStaticLayer()}.
+ */
+public abstract class LayeredScenePanel extends JPanel {
+    private BufferedImage staticLayer;
+    private int cachedWidth = -1;
+    private int cachedHeight = -1;
+    private double cachedScaleX;
+    private double cachedScaleY;
+
+    /**
+     * Paints everything that does not change between repaints.
+     * Called only when the cached layer is missing or the size has changed.
+     *
+     * @param g2d The graphics context of the cache image, in component coordinates.
+     * @param width The width of the component.
+     * @param height The height of the component.
+     */
+    protected abstract void paintStaticLayer(Graphics2D g2d, int width, int height);
+
+    /**
+     * Paints the parts of the scene that change, on top of the cached static layer.
+     * Does nothing by default.
+     *
+     * @param g2d The graphics context of the component.
+     * @param width The width of the component.
+     * @param height The height of the component.
+     */
+    protected void paintDynamicLayer(Graphics2D g2d, int width, int height) {
+    }
+
+    /**
+     * Drops the cached static layer so it is rendered again on the next repaint.
+     */
+    public void invalidateStaticLayer() {
+        staticLayer = null;
+        repaint();
+    }
+
+    @Override
+    public void setBackground(Color bg) {
+        super.setBackground(bg);
+        staticLayer = null; // The background is part of the cached layer
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g;
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        // Render the cache at device resolution so it stays sharp on scaled (HiDPI) displays
+        AffineTransform transform = g2d.getTransform();
+        double scaleX = transform.getScaleX();
+        double scaleY = transform.getScaleY();
+
+        if (staticLayer == null || width != cachedWidth || height != cachedHeight
+                || scaleX != cachedScaleX || scaleY != cachedScaleY) {
+            staticLayer = renderStaticLayer(width, height, scaleX, scaleY);
+            cachedWidth = width;
+            cachedHeight = height;
+            cachedScaleX = scaleX;
+            cachedScaleY = scaleY;
+        }
+
+        if (!isOpaque()) {
+            super.paintComponent(g);
+        }
+        g2d.drawImage(staticLayer, 0, 0, width, height, null);
+        paintDynamicLayer(g2d, width, height);
+    }
+
+    private BufferedImage renderStaticLayer(int width, int height, double scaleX, double scaleY) {
+        int imageWidth = (int) Math.ceil(width * scaleX);
+        int imageHeight = (int) Math.ceil(height * scaleY);
+        int transparency = isOpaque() ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        BufferedImage image = gc != null
+                ? gc.createCompatibleImage(imageWidth, imageHeight, transparency)
+                : new BufferedImage(imageWidth, imageHeight, isOpaque() ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D layer = image.createGraphics();
+        layer.scale(scaleX, scaleY);
+        if (isOpaque()) {
+            layer.setColor(getBackground());
+            layer.fillRect(0, 0, width, height);
+        }
+        paintStaticLayer(layer, width, height);
+        layer.dispose();
+        return image;
+    }
+}
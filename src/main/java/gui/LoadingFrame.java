@@ -16,7 +16,7 @@ public class LoadingFrame extends JFrame {
     private JProgressBar progressBar;
     private final JLabel textLabel = new JLabel("", SwingConstants.CENTER);
     private ArrayList<String> messages = new ArrayList<>();
-    private final Timer messageTimer;
+    private FrameScheduler.Subscription messageTimer;
     private final Random random = new Random();
 
     /**
@@ -56,7 +56,6 @@ public class LoadingFrame extends JFrame {
 
         setContentPane(contentPanel);
         updateMessage();
-        messageTimer = new Timer(3000, e -> updateMessage());
         requestFocusInWindow();
     }
 
@@ -68,6 +67,7 @@ public class LoadingFrame extends JFrame {
      */
     public void startLoading(Runnable onFinish) {
         setVisible(true);
+        messageTimer = FrameScheduler.getInstance().subscribe("LoadingFrame.messages", this, 3000, frame -> updateMessage());
         MusicPlayer.getInstance().setMusicEnabled(true);
         MusicPlayer.getInstance().playMusic("/assets/Sounds/theme2.wav");
         new Thread(() -> {
@@ -81,7 +81,7 @@ public class LoadingFrame extends JFrame {
                 }
             }
             SwingUtilities.invokeLater(() -> {
-                messageTimer.stop();
+                messageTimer.cancel();
                 dispose();
                 MusicPlayer.getInstance().setMusicEnabled(false);
                 onFinish.run();
@@ -1,6 +1,7 @@
 package gui;
 
 import com.formdev.flatlaf.FlatLightLaf;
+import org.example.DisciplineCatalog;
 import org.example.MusicPlayer;
 import org.example.StartWindow;
 
@@ -265,7 +266,13 @@ public class WelcomeFrame extends JFrame implements ActionListener {
         // Set the FlatLaf Light theme for a modern look
         UIManager.setLookAndFeel(new FlatLightLaf());
 
+        // Start watching the Event Dispatch Thread for freezes
+        EdtWatchdog.getInstance().start();
+
         // Create and show the WelcomeFrame on the Event Dispatch Thread
         SwingUtilities.invokeLater(WelcomeFrame::new);
+
+        // Load the discipline catalog on the main thread while the welcome screen is being shown
+        DisciplineCatalog.getInstance();
     }
 }
\ No newline at end of file
@@ -0,0 +1,241 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * A window in which students hand in ranked elective preferences instead of racing for seats; when it
+ * closes, the seats are assigned to everybody at once by a {@link SeatAllocationEngine}.
+ * <p>
+ * Registered students submit with {@link #submit(Student, List)} and are enrolled through
+ * {@link EnrollmentSystem#enrollStudentToDiscipline(String, String)}, with the usual checks; simulated
+ * students submit with {@link #submitAnonymous(List, int)} and get anonymous seats
+ * ({@link EnrollmentSystem#reserveSeat(Discipline)}). Priorities are a lottery over all submissions,
+ * so arriving early in the window gives no advantage. Seats taken outside the round while it was being
+ * resolved may make some assigned seats unavailable; those are simply not given. A registered student is
+ * never assigned an elective that clashes with their timetable or with another elective they are assigned,
+ * nor one whose prerequisites they have not met.
+ * Submissions are thread-safe; {@link #resolve()} is called once, by whoever closes the window.
+ */
+public class AllocationRound {
+    private final EnrollmentSystem system;
+    private final List<Discipline> electives;
+    private final Map<Discipline, Integer> electiveIndexes = new HashMap<>();
+    private final SeatAllocationEngine.Mechanism mechanism;
+    private final long seed;
+
+    private final Map<String, Submission> registered = new LinkedHashMap<>(); // Guarded by this
+    private final List<Submission> submissions = new ArrayList<>(); // Guarded by this
+    private boolean closed; // Guarded by this
+
+    private static final class Submission {
+        private final Student student; // Null for a simulated student
+        private final List<Discipline> ranked;
+        private final int demand;
+        private final CompletableFuture<List<Discipline>> outcome = new CompletableFuture<>();
+
+        Submission(Student student, List<Discipline> ranked, int demand) {
+            this.student = student;
+            this.ranked = ranked;
+            this.demand = demand;
+        }
+    }
+
+    /**
+     * Summary of a resolved round.
+     */
+    public static final class Result {
+        private final int students;
+        private final int seatsAssigned;
+        private final int seatsGiven;
+        private final long millis;
+
+        private Result(int students, int seatsAssigned, int seatsGiven, long millis) {
+            this.students = students;
+            this.seatsAssigned = seatsAssigned;
+            this.seatsGiven = seatsGiven;
+            this.millis = millis;
+        }
+
+        public int getStudents() {
+            return students;
+        }
+
+        public int getSeatsAssigned() {
+            return seatsAssigned;
+        }
+
+        /**
+         * Returns the number of assigned seats that the students actually got.
+         * @return The number of seats given.
+         */
+        public int getSeatsGiven() {
+            return seatsGiven;
+        }
+
+        /**
+         * Returns how long the allocation and the enrollments took.
+         * @return The time in milliseconds.
+         */
+        public long getMillis() {
+            return millis;
+        }
+    }
+
+    /**
+     * Opens a round.
+     *
+     * @param system The enrollment system the seats are taken in.
+     * @param electives The electives the round assigns.
+     * @param mechanism The assignment rule.
+     * @param seed Seed of the lottery.
+     */
+    public AllocationRound(EnrollmentSystem system, List<Discipline> electives, SeatAllocationEngine.Mechanism mechanism, long seed) {
+        this.system = system;
+        this.electives = List.copyOf(electives);
+        this.mechanism = mechanism;
+        this.seed = seed;
+        for (Discipline elective : this.electives) {
+            electiveIndexes.put(elective, electiveIndexes.size());
+        }
+    }
+
+    /**
+     * Checks whether preferences are still accepted.
+     * @return true until {@link #resolve()} is called.
+     */
+    public synchronized boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Hands in the preferences of a registered student. A student submits once; later calls return
+     * the outcome of the first submission.
+     *
+     * @param student The student.
+     * @param ranked The electives the student wants, best first; the student wants all of them if possible.
+     * @return The electives the student got, once the round is resolved; null if the round is closed.
+     */
+    public synchronized CompletableFuture<List<Discipline>> submit(Student student, List<Discipline> ranked) {
+        if (closed) {
+            return null;
+        }
+        Submission existing = registered.get(student.getStudentId());
+        if (existing != null) {
+            return existing.outcome;
+        }
+        Submission submission = new Submission(student, List.copyOf(ranked), ranked.size());
+        registered.put(student.getStudentId(), submission);
+        submissions.add(submission);
+        return submission.outcome;
+    }
+
+    /**
+     * Hands in the preferences of a simulated student, who has no credit limit.
+     *
+     * @param ranked The electives the student would take, best first.
+     * @param demand How many of them the student wants.
+     * @return The electives the student got, once the round is resolved; null if the round is closed.
+     */
+    public synchronized CompletableFuture<List<Discipline>> submitAnonymous(List<Discipline> ranked, int demand) {
+        if (closed) {
+            return null;
+        }
+        Submission submission = new Submission(null, List.copyOf(ranked), demand);
+        submissions.add(submission);
+        return submission.outcome;
+    }
+
+    /**
+     * Closes the window, assigns the seats and enrolls the students, then completes every submission.
+     * @return The summary, or null if the round was already resolved.
+     */
+    public Result resolve() {
+        List<Submission> taken;
+        synchronized (this) {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            taken = new ArrayList<>(submissions);
+        }
+        long begin = System.nanoTime();
+
+        int[] capacity = new int[electives.size()];
+        int[] units = new int[electives.size()];
+        long[] slots = new long[electives.size()];
+        for (int c = 0; c < capacity.length; c++) {
+            Discipline.CapacitySnapshot seats = electives.get(c).snapshotCapacity();
+            capacity[c] = seats.isUnlimited() ? SeatAllocationEngine.UNLIMITED : seats.getFreeSlots();
+            units[c] = ElectiveRecommender.toUnits(electives.get(c).getCredits());
+            slots[c] = electives.get(c).getScheduleSlots();
+        }
+        int students = taken.size();
+        int[] budget = new int[students];
+        long[] busy = new long[students];
+        int[] demand = new int[students];
+        int[][] ranked = new int[students][];
+        PrerequisiteGraph prerequisites = system.getPrerequisites();
+        IntStream.range(0, students).parallel().forEach(s -> {
+            Submission submission = taken.get(s);
+            demand[s] = submission.demand;
+            budget[s] = submission.student == null ? Integer.MAX_VALUE : creditsLeft(submission.student);
+            busy[s] = submission.student == null ? SeatAllocationEngine.NO_TIMETABLE : submission.student.getBusySlots();
+            ranked[s] = submission.ranked.stream().mapToInt(d -> electiveIndexes.getOrDefault(d, -1)).toArray();
+            if (submission.student != null) {
+                // A locked choice would be refused on enrollment and its seat lost to the others
+                long[] satisfied = system.getSatisfiedSet(submission.student.getStudentId());
+                for (int i = 0; i < ranked[s].length; i++) {
+                    if (ranked[s][i] >= 0 && !prerequisites.isUnlocked(electives.get(ranked[s][i]).getDisciplineId(), satisfied)) {
+                        ranked[s][i] = -1; // Dropped by the engine like an unknown elective
+                    }
+                }
+            }
+        });
+
+        SeatAllocationEngine.Allocation allocation = new SeatAllocationEngine(capacity, units, slots, budget, busy, demand,
+                SeatAllocationEngine.lottery(students, seed), ranked).allocate(mechanism);
+
+        int[] given = new int[students];
+        IntStream.range(0, students).parallel().forEach(s -> {
+            Submission submission = taken.get(s);
+            List<Discipline> got = new ArrayList<>();
+            for (int c : allocation.getAssigned(s)) {
+                Discipline elective = electives.get(c);
+                if (take(submission.student, elective)) {
+                    got.add(elective);
+                }
+            }
+            given[s] = got.size();
+            submission.outcome.complete(Collections.unmodifiableList(got));
+        });
+
+        int seatsGiven = 0;
+        for (int count : given) {
+            seatsGiven += count;
+        }
+        return new Result(students, allocation.getTotalAssigned(), seatsGiven, (System.nanoTime() - begin) / 1_000_000);
+    }
+
+    private static int creditsLeft(Student student) {
+        int limit = EnrollmentSystem.getCourseCreditLimit(student.getCourse());
+        if (limit == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(0, ElectiveRecommender.toUnits(limit - student.getTotalCredits()));
+    }
+
+    private boolean take(Student student, Discipline elective) {
+        if (student == null) {
+            return system.reserveSeat(elective);
+        }
+        system.enrollStudentToDiscipline(student.getStudentId(), elective.getDisciplineId());
+        return student.isEnrolledIn(elective.getDisciplineId());
+    }
+}
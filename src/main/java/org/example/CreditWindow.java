@@ -1,9 +1,9 @@
 package org.example;
 
+import gui.FrameScheduler;
+
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.util.Random;
 import java.awt.geom.AffineTransform; // Import for AffineTransform
 
@@ -304,7 +304,7 @@ public class CreditWindow extends JDialog {
      */
     class WheelPanel extends JPanel {
         private double rotationAngle = 0; // Current rotation angle of the wheel
-        private Timer timer; // Timer for animation
+        private FrameScheduler.Subscription timer; // Timer for animation
         private long startTime; // Start time of the spin animation
         private long duration = 3000; // Duration of the spin animation in milliseconds
         private double totalRotation = 0; // Total target rotation angle for the wheel
@@ -336,34 +336,32 @@ public class CreditWindow extends JDialog {
             this.startTime = System.currentTimeMillis(); // Record start time
 
             // Stop any existing timer to prevent multiple spins at once
-            if (timer != null && timer.isRunning()) {
-                timer.stop();
+            if (timer != null) {
+                timer.cancel();
             }
 
             // Initialize and start the animation timer
-            timer = new Timer(15, new ActionListener() { // Timer fires every 15ms
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    long elapsed = System.currentTimeMillis() - startTime;
-                    if (elapsed < duration) {
-                        double progress = (double) elapsed / duration;
-                        // Apply ease-out cubic function for a smoother deceleration effect
-                        double easedProgress = 1 - Math.pow(1 - progress, 3);
-                        rotationAngle = totalRotation * easedProgress; // Calculate current angle
-                        repaint(); // Request repaint to update wheel position
-                    } else {
-                        timer.stop(); // Stop the timer when animation ends
-                        rotationAngle = totalRotation; // Ensure final angle is exact
-                        repaint();
-                        // Calculate final score and notify listener
-                        int resultScore = calculateScoreFromResultAngle(rotationAngle);
-                        if (completionListener != null) {
-                            completionListener.onSpinComplete(resultScore);
-                        }
+            timer = FrameScheduler.getInstance().subscribe("CreditWindow.wheel", this, frame -> {
+                long elapsed = System.currentTimeMillis() - startTime;
+                if (elapsed < duration) {
+                    double progress = (double) elapsed / duration;
+                    // Apply ease-out cubic function for a smoother deceleration effect
+                    double easedProgress = 1 - Math.pow(1 - progress, 3);
+                    rotationAngle = totalRotation * easedProgress; // Calculate current angle
+                    repaint(); // Request repaint to update wheel position
+                } else {
+                    frame.cancel(); // Stop the timer when animation ends
+                    rotationAngle = totalRotation; // Ensure final angle is exact
+                    repaint();
+                    // Calculate final score and notify listener
+                    int resultScore = calculateScoreFromResultAngle(rotationAngle);
+                    SpinCompletionListener onComplete = completionListener;
+                    if (onComplete != null) {
+                        // Outside the frame tick: the listener opens modal dialogs, which would stall every other animation
+                        SwingUtilities.invokeLater(() -> onComplete.onSpinComplete(resultScore));
                     }
                 }
             });
-            timer.start();
         }
 
         /**
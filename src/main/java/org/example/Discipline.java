@@ -1,94 +1,210 @@
 package org.example;
 
 import Tests.Question;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import static org.example.EnrollmentSystem.UNLIMITED_CAPACITY;
 
+@JsonAdapter(Discipline.JsonForm.class)
 public class Discipline implements Serializable {
-    private String disciplineId;
-    private String name;
-    private String instructor; // Changed from 'lecturer' to 'instructor' for consistency
-    private double credits;
+    private DisciplineDefinition definition; // Shared, see DisciplineRegistry
+    // State of this offering
     private int maxCapacity;
-    private int currentEnrollment;
+    private volatile int currentEnrollment; // Changed only through SEATS (compare-and-set)
     private boolean isMandatory;
     private int targetCourse;
-    private String controlType = CONTROL_TYPE_ZALIK;
     private boolean isZalik;
     private boolean avtomat = false;
-
-    public Question[] questions;
+    private long scheduleSlots; // Weekly time slots, see Timetable
 
     private int currentStudentsMark;
+    private transient Question[] questions; // Generated for each test by the test manager, not saved
 
     public static final String CONTROL_TYPE_ZALIK = "Залік";
     public static final String CONTROL_TYPE_EXAM = "Екзамен";
 
+    // CAS access to currentEnrollment, which stays a plain int field
+    private static final AtomicIntegerFieldUpdater<Discipline> SEATS =
+            AtomicIntegerFieldUpdater.newUpdater(Discipline.class, "currentEnrollment");
+
+    /**
+     * A consistent view of the enrollment counter and capacity of a discipline at one moment.
+     */
+    public static final class CapacitySnapshot {
+        private final int enrolled;
+        private final int maxCapacity;
+
+        private CapacitySnapshot(int enrolled, int maxCapacity) {
+            this.enrolled = enrolled;
+            this.maxCapacity = maxCapacity;
+        }
+
+        public int getEnrolled() {
+            return enrolled;
+        }
+
+        public int getMaxCapacity() {
+            return maxCapacity;
+        }
+
+        public boolean isUnlimited() {
+            return maxCapacity == UNLIMITED_CAPACITY;
+        }
+
+        /**
+         * Returns the number of seats still free.
+         * @return The free seats, or Integer.MAX_VALUE for unlimited capacity.
+         */
+        public int getFreeSlots() {
+            return isUnlimited() ? Integer.MAX_VALUE : Math.max(0, maxCapacity - enrolled);
+        }
+
+        public boolean isFull() {
+            return getFreeSlots() == 0;
+        }
+    }
+
+    /**
+     * Reads and writes a discipline as the flat object of older saves, with the definition values next to
+     * the offering values. The questions are left out: the test manager generates them by name before
+     * every test, so saving them in every discipline of every student only made the saves large. Older
+     * saves that contain them are still read. A read discipline gets the interned definition, so it shares
+     * it with the catalog.
+     */
+    static final class JsonForm extends TypeAdapter<Discipline> {
+        @Override
+        public void write(JsonWriter out, Discipline discipline) throws IOException {
+            if (discipline == null) {
+                out.nullValue();
+                return;
+            }
+            DisciplineDefinition definition = discipline.definition;
+            out.beginObject();
+            out.name("disciplineId").value(definition.getDisciplineId());
+            out.name("name").value(definition.getName());
+            out.name("instructor").value(definition.getInstructor());
+            out.name("credits").value(definition.getCredits());
+            out.name("maxCapacity").value(discipline.maxCapacity);
+            out.name("currentEnrollment").value(discipline.currentEnrollment);
+            out.name("isMandatory").value(discipline.isMandatory);
+            out.name("targetCourse").value(discipline.targetCourse);
+            out.name("controlType").value(definition.getControlType());
+            out.name("isZalik").value(discipline.isZalik);
+            out.name("avtomat").value(discipline.avtomat);
+            out.name("currentStudentsMark").value(discipline.currentStudentsMark);
+            out.name("scheduleSlots").value(discipline.scheduleSlots);
+            out.endObject();
+        }
+
+        @Override
+        public Discipline read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String disciplineId = null;
+            String name = null;
+            String instructor = null;
+            String controlType = null;
+            double credits = 0;
+            Discipline discipline = new Discipline((DisciplineDefinition) null, 0, 0, false, 0);
+            in.beginObject();
+            while (in.hasNext()) {
+                String key = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (key) {
+                    case "disciplineId" -> disciplineId = in.nextString();
+                    case "name" -> name = in.nextString();
+                    case "instructor" -> instructor = in.nextString();
+                    case "credits" -> credits = in.nextDouble();
+                    case "controlType" -> controlType = in.nextString();
+                    case "maxCapacity" -> discipline.maxCapacity = in.nextInt();
+                    case "currentEnrollment" -> discipline.currentEnrollment = in.nextInt();
+                    case "isMandatory" -> discipline.isMandatory = in.nextBoolean();
+                    case "targetCourse" -> discipline.targetCourse = in.nextInt();
+                    case "isZalik" -> discipline.isZalik = in.nextBoolean();
+                    case "avtomat" -> discipline.avtomat = in.nextBoolean();
+                    case "currentStudentsMark" -> discipline.currentStudentsMark = in.nextInt();
+                    case "scheduleSlots" -> discipline.scheduleSlots = in.nextLong();
+                    default -> in.skipValue(); // "questions" of older saves
+                }
+            }
+            in.endObject();
+            discipline.definition = DisciplineRegistry.getInstance().intern(
+                    new DisciplineDefinition(disciplineId, name, instructor, credits, controlType));
+            return discipline;
+        }
+    }
+
     public Discipline(String disciplineId, String name, String instructor, double credits, int currentEnrollment, int maxCapacity, boolean isMandatory, int targetCourse) {
-        this.disciplineId = disciplineId;
-        this.name = name;
-        this.instructor = instructor;
-        this.credits = credits;
-        this.currentEnrollment = currentEnrollment;
-        this.maxCapacity = maxCapacity;
-        this.isMandatory = isMandatory;
-        this.targetCourse = targetCourse;
+        this(disciplineId, name, instructor, credits, currentEnrollment, maxCapacity, isMandatory, targetCourse, CONTROL_TYPE_ZALIK);
     }
 
     public Discipline(String disciplineId, String name, String instructor, double credits, int currentEnrollment, int maxCapacity, boolean isMandatory, int targetCourse, String controlType) {
-        this.disciplineId = disciplineId;
-        this.name = name;
-        this.instructor = instructor;
-        this.credits = credits;
-        this.currentEnrollment = currentEnrollment;
-        this.maxCapacity = maxCapacity;
-        this.isMandatory = isMandatory;
-        this.targetCourse = targetCourse;
-        if (controlType != null && (controlType.equals(CONTROL_TYPE_ZALIK) || controlType.equals(CONTROL_TYPE_EXAM))) {
-            this.controlType = controlType;
-        } else {
-            this.controlType = CONTROL_TYPE_ZALIK;
-        }
+        this(disciplineId, name, instructor, credits, currentEnrollment, maxCapacity, isMandatory, targetCourse, controlType, false);
     }
 
     public Discipline(String disciplineId, String name, String instructor, double credits, int currentEnrollment, int maxCapacity, boolean isMandatory, int targetCourse, String controlType, boolean isZalik) {
-        this.disciplineId = disciplineId;
-        this.name = name;
-        this.instructor = instructor;
-        this.credits = credits;
+        this(DisciplineRegistry.getInstance().intern(new DisciplineDefinition(disciplineId, name, instructor, credits,
+                        controlType != null && (controlType.equals(CONTROL_TYPE_ZALIK) || controlType.equals(CONTROL_TYPE_EXAM))
+                                ? controlType : CONTROL_TYPE_ZALIK)),
+                currentEnrollment, maxCapacity, isMandatory, targetCourse);
+        this.isZalik = isZalik;
+    }
+
+    /**
+     * Creates an offering of a shared definition.
+     *
+     * @param definition The interned definition (see {@link DisciplineRegistry}).
+     * @param currentEnrollment The number of seats already taken.
+     * @param maxCapacity The number of seats, or {@link EnrollmentSystem#UNLIMITED_CAPACITY}.
+     * @param isMandatory Whether the discipline is mandatory for the target course.
+     * @param targetCourse The course the discipline is offered to.
+     */
+    public Discipline(DisciplineDefinition definition, int currentEnrollment, int maxCapacity, boolean isMandatory, int targetCourse) {
+        this.definition = definition;
         this.currentEnrollment = currentEnrollment;
         this.maxCapacity = maxCapacity;
         this.isMandatory = isMandatory;
         this.targetCourse = targetCourse;
-        if (controlType != null && (controlType.equals(CONTROL_TYPE_ZALIK) || controlType.equals(CONTROL_TYPE_EXAM))) {
-            this.controlType = controlType;
-        } else {
-            this.controlType = CONTROL_TYPE_ZALIK;
-        }
-        this.isZalik = isZalik;
     }
+
     public Discipline (String name){
-        this.name = name;
+        this.definition = DisciplineRegistry.getInstance().intern(
+                new DisciplineDefinition(null, name, null, 0, CONTROL_TYPE_ZALIK));
     }
 
     // Гетери
+    public DisciplineDefinition getDefinition() {
+        return definition;
+    }
+
     public String getDisciplineId() {
-        return disciplineId;
+        return definition.getDisciplineId();
     }
 
     public String getName() {
-        return name;
+        return definition.getName();
     }
 
     public String getInstructor() { // Changed getter name
-        return instructor;
+        return definition.getInstructor();
     }
 
     public double getCredits() {
-        return credits;
+        return definition.getCredits();
     }
 
     public int getMaxCapacity() {
@@ -108,43 +224,113 @@ public class Discipline implements Serializable {
     }
 
     public String getControlType() {
-        return controlType; }
+        return definition.getControlType(); }
+
+    /**
+     * Returns the questions of the current test of the discipline.
+     * @return The questions, or null if none were assigned.
+     */
+    public Question[] getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(Question[] questions) {
+        this.questions = questions;
+    }
 
-    // Методи для керування заповненням дисципліни (потокобезпечні)
-    public synchronized boolean enrollStudent() {
-        if (currentEnrollment < maxCapacity) {
-            currentEnrollment++;
+    /**
+     * Returns the weekly time slots of the discipline's classes.
+     * @return The slot set (see {@link Timetable}), 0 if the discipline has no fixed time.
+     */
+    public long getScheduleSlots() {
+        return scheduleSlots;
+    }
+
+    public void setScheduleSlots(long scheduleSlots) {
+        this.scheduleSlots = scheduleSlots;
+    }
+
+    // Методи для керування заповненням дисципліни (потокобезпечні, без блокувань)
+
+    /**
+     * Atomically takes one seat if the discipline is not full.
+     * A discipline with unlimited capacity always has a seat, so the call always succeeds.
+     * @return true if a seat was taken, false if the discipline is full.
+     */
+    public boolean tryReserveSeat() {
+        if (maxCapacity == UNLIMITED_CAPACITY) {
+            SEATS.incrementAndGet(this);
             return true;
-        } else if (maxCapacity == UNLIMITED_CAPACITY){
-            currentEnrollment++;
         }
-        return false;
+        while (true) {
+            int enrolled = currentEnrollment;
+            if (enrolled >= maxCapacity) {
+                return false;
+            }
+            if (SEATS.compareAndSet(this, enrolled, enrolled + 1)) {
+                return true;
+            }
+        }
     }
 
-    public synchronized boolean dropStudent() {
-        if (currentEnrollment > 0) {
-            currentEnrollment--;
-            return true;
+    /**
+     * Atomically gives back one seat.
+     * @return true if a seat was released, false if nobody was enrolled.
+     */
+    public boolean releaseSeat() {
+        return releaseSeatAndGetPrevious() > 0;
+    }
+
+    /**
+     * Atomically gives back one seat and tells how many were taken before, so the caller knows
+     * whether this release is the one that made a full discipline open again.
+     * @return The enrollment before the release, or 0 if nobody was enrolled and nothing was released.
+     */
+    int releaseSeatAndGetPrevious() {
+        while (true) {
+            int enrolled = currentEnrollment;
+            if (enrolled <= 0) {
+                return 0;
+            }
+            if (SEATS.compareAndSet(this, enrolled, enrolled - 1)) {
+                return enrolled;
+            }
         }
-        return false;
     }
 
+    /**
+     * Adds a net number of seats recorded in a journal, without the capacity check of
+     * {@link #tryReserveSeat()}; the counter never goes below zero.
+     * @param delta Seats taken (positive) or given back (negative).
+     */
+    void restoreEnrollment(int delta) {
+        SEATS.getAndUpdate(this, enrolled -> Math.max(0, enrolled + delta));
+    }
+
+    /**
+     * Reads the enrollment counter once and returns it together with the capacity.
+     * @return A snapshot of the current occupancy.
+     */
+    public CapacitySnapshot snapshotCapacity() {
+        return new CapacitySnapshot(currentEnrollment, maxCapacity);
+    }
+
+    /**
+     * Checks whether a seat can currently be taken. Unlimited disciplines always have free seats.
+     * The answer may be stale by the time it is used; {@link #tryReserveSeat()} is the authoritative check.
+     * @return true if the discipline is not full.
+     */
     public boolean hasAvailableSlots() {
-        if (currentEnrollment < maxCapacity) {
-            return currentEnrollment < maxCapacity;
-        } else if (maxCapacity == UNLIMITED_CAPACITY){
-            return currentEnrollment < 64;
-        }
-        return false;
+        return maxCapacity == UNLIMITED_CAPACITY || currentEnrollment < maxCapacity;
     }
 
     @Override
     public String toString() {
         // Відображаємо заповнення лише для вибіркових дисциплін
         if (!isMandatory) {
-            return name + " (Вибіркова, зайнято місць: " + currentEnrollment + "/" + maxCapacity + ")";
+            return getName() + " (Вибіркова, зайнято місць: " + currentEnrollment + "/" + maxCapacity + ")";
         } else {
-            return name + " (Обов'язкова)";
+            return getName() + " (Обов'язкова)";
         }
     }
 
@@ -157,16 +343,16 @@ public class Discipline implements Serializable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Discipline that = (Discipline) o;
-        return Objects.equals(disciplineId, that.disciplineId);
+        return Objects.equals(getDisciplineId(), that.getDisciplineId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(disciplineId);
+        return Objects.hash(getDisciplineId());
     }
 
     public void setControlType(String controlType) {
-        this.controlType = controlType;
+        this.definition = definition.withControlType(controlType);
     }
 
     public int getCurrentStudentsMark() {
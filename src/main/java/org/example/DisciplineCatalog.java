@@ -0,0 +1,375 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable catalog of all disciplines offered by the university, loaded once from the versioned
+ * resource {@value #RESOURCE_PATH}.
+ * <p>
+ * The file has two sections. {@code disciplines} lists every distinct discipline definition once,
+ * under a unique {@code ref}. {@code programs} lists, for each degree, major and course, the refs of
+ * the disciplines offered there, in order. An offering whose target course differs from the course
+ * of the program is written as {@code "ref@course"}. The optional {@code schedule} of a definition lists
+ * the weekly time slots of its classes, e.g. {@code ["Пн 2", "Чт 3"]} (see {@link Timetable}). The optional
+ * {@code prerequisites} section maps a discipline ID to the IDs of its direct prerequisites; it is
+ * compiled into a {@link PrerequisiteGraph} on load, and a cycle or an unknown ID makes the file invalid.
+ * <p>
+ * On load the offerings are indexed by degree, major and course and split into mandatory and elective
+ * lists, so opening the enrollment window is a lookup. The catalog holds no mutable state:
+ * every call to {@link Offering#newDiscipline()} returns a fresh {@link Discipline} with the initial
+ * enrollment from the file.
+ */
+public class DisciplineCatalog {
+    public static final String RESOURCE_PATH = "/data/discipline_catalog.json";
+    public static final int SUPPORTED_VERSION = 1;
+    public static final String BACHELOR_DEGREE = "Бакалаврат";
+    public static final String MASTER_DEGREE = "Магістратура";
+
+    private static DisciplineCatalog instance;
+
+    private final int version;
+    private final int definitionCount;
+    private final Map<String, Program> programs;
+    private final PrerequisiteGraph prerequisites;
+
+    /**
+     * An immutable discipline definition from the catalog.
+     */
+    public static final class Definition {
+        private final String ref;
+        private final String disciplineId;
+        private final String name;
+        private final String instructor;
+        private final double credits;
+        private final boolean mandatory;
+        private final int initialEnrollment;
+        private final int maxCapacity;
+        private final String controlType;
+        private final long scheduleSlots;
+        private final DisciplineDefinition shared; // What every discipline of this definition points to
+
+        private Definition(DefinitionData data) {
+            this.ref = data.ref;
+            this.disciplineId = data.id;
+            this.name = data.name;
+            this.instructor = data.instructor;
+            this.credits = data.credits;
+            this.mandatory = data.mandatory;
+            this.initialEnrollment = data.initialEnrollment;
+            this.maxCapacity = data.maxCapacity;
+            this.controlType = data.controlType;
+            this.scheduleSlots = Timetable.parse(data.schedule);
+            this.shared = DisciplineRegistry.getInstance().intern(new DisciplineDefinition(disciplineId, name, instructor, credits,
+                    Discipline.CONTROL_TYPE_EXAM.equals(controlType) ? controlType : Discipline.CONTROL_TYPE_ZALIK));
+        }
+
+        public String getRef() {
+            return ref;
+        }
+
+        public String getDisciplineId() {
+            return disciplineId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getInstructor() {
+            return instructor;
+        }
+
+        public double getCredits() {
+            return credits;
+        }
+
+        public boolean isMandatory() {
+            return mandatory;
+        }
+
+        public int getInitialEnrollment() {
+            return initialEnrollment;
+        }
+
+        public int getMaxCapacity() {
+            return maxCapacity;
+        }
+
+        public String getControlType() {
+            return controlType;
+        }
+
+        /**
+         * Returns the weekly time slots of the discipline's classes.
+         * @return The slot set (see {@link Timetable}), 0 if the catalog gives no schedule.
+         */
+        public long getScheduleSlots() {
+            return scheduleSlots;
+        }
+    }
+
+    /**
+     * A discipline definition offered to a particular course.
+     */
+    public static final class Offering {
+        private final Definition definition;
+        private final int targetCourse;
+
+        private Offering(Definition definition, int targetCourse) {
+            this.definition = definition;
+            this.targetCourse = targetCourse;
+        }
+
+        public Definition getDefinition() {
+            return definition;
+        }
+
+        public int getTargetCourse() {
+            return targetCourse;
+        }
+
+        /**
+         * Creates a new discipline for this offering with the initial enrollment from the catalog.
+         * The discipline shares the interned definition with every other offering of it.
+         * @return A new Discipline instance.
+         */
+        public Discipline newDiscipline() {
+            Definition d = definition;
+            Discipline discipline = new Discipline(d.shared, d.initialEnrollment, d.maxCapacity, d.mandatory, targetCourse);
+            discipline.setScheduleSlots(d.scheduleSlots);
+            return discipline;
+        }
+    }
+
+    /**
+     * The offerings of one degree, major and course.
+     */
+    private static final class Program {
+        private final List<Offering> all;
+        private final List<Offering> mandatory;
+        private final List<Offering> electives;
+
+        private Program(List<Offering> all) {
+            List<Offering> mandatory = new ArrayList<>();
+            List<Offering> electives = new ArrayList<>();
+            for (Offering offering : all) {
+                if (offering.definition.mandatory) {
+                    mandatory.add(offering);
+                } else {
+                    electives.add(offering);
+                }
+            }
+            this.all = List.copyOf(all);
+            this.mandatory = List.copyOf(mandatory);
+            this.electives = List.copyOf(electives);
+        }
+    }
+
+    // Shapes of the resource file, filled by Gson
+    private static class CatalogData {
+        int version;
+        List<DefinitionData> disciplines;
+        List<ProgramData> programs;
+        Map<String, List<String>> prerequisites;
+    }
+
+    private static class DefinitionData {
+        String ref;
+        String id;
+        String name;
+        String instructor;
+        double credits;
+        boolean mandatory;
+        int initialEnrollment;
+        int maxCapacity;
+        String controlType;
+        List<String> schedule;
+    }
+
+    private static class ProgramData {
+        String degree;
+        String major;
+        int course;
+        List<String> offerings;
+    }
+
+    /**
+     * Returns the singleton catalog, loading it from the resource file on first use.
+     * @return The single instance of DisciplineCatalog.
+     * @throws IllegalStateException if the resource is missing, malformed or of an unsupported version.
+     */
+    public static synchronized DisciplineCatalog getInstance() {
+        if (instance == null) {
+            instance = load();
+        }
+        return instance;
+    }
+
+    private DisciplineCatalog(CatalogData data) {
+        Map<String, Definition> byRef = new HashMap<>();
+        for (DefinitionData definitionData : data.disciplines) {
+            if (byRef.put(definitionData.ref, new Definition(definitionData)) != null) {
+                throw new IllegalStateException("Каталог дисциплін містить повторюваний ключ '" + definitionData.ref + "'.");
+            }
+        }
+
+        Map<String, Program> programs = new HashMap<>();
+        for (ProgramData programData : data.programs) {
+            List<Offering> offerings = new ArrayList<>(programData.offerings.size());
+            for (String entry : programData.offerings) {
+                int at = entry.indexOf('@');
+                String ref = at < 0 ? entry : entry.substring(0, at);
+                int targetCourse = at < 0 ? programData.course : Integer.parseInt(entry.substring(at + 1));
+                Definition definition = byRef.get(ref);
+                if (definition == null) {
+                    throw new IllegalStateException("Каталог дисциплін посилається на невідому дисципліну '" + ref + "'.");
+                }
+                offerings.add(new Offering(definition, targetCourse));
+            }
+            programs.put(key(programData.degree, programData.major, programData.course), new Program(offerings));
+        }
+
+        this.version = data.version;
+        this.definitionCount = byRef.size();
+        this.programs = Map.copyOf(programs);
+
+        Map<String, String> disciplineNames = new LinkedHashMap<>();
+        for (DefinitionData definitionData : data.disciplines) {
+            disciplineNames.putIfAbsent(definitionData.id, definitionData.name);
+        }
+        this.prerequisites = PrerequisiteGraph.compile(disciplineNames,
+                data.prerequisites == null ? Collections.emptyMap() : data.prerequisites);
+    }
+
+    private static DisciplineCatalog load() {
+        try (InputStream in = DisciplineCatalog.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (in == null) {
+                throw new IllegalStateException("Не знайдено каталог дисциплін " + RESOURCE_PATH);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                CatalogData data = new Gson().fromJson(reader, CatalogData.class);
+                if (data == null || data.disciplines == null || data.programs == null) {
+                    throw new IllegalStateException("Каталог дисциплін порожній або пошкоджений.");
+                }
+                if (data.version != SUPPORTED_VERSION) {
+                    throw new IllegalStateException("Непідтримувана версія каталогу дисциплін: " + data.version);
+                }
+                return new DisciplineCatalog(data);
+            }
+        } catch (IOException | JsonParseException | IllegalArgumentException e) {
+            throw new IllegalStateException("Помилка під час читання каталогу дисциплін: " + e.getMessage(), e);
+        }
+    }
+
+    private static String key(String degree, String major, int course) {
+        return degree + '|' + major + '|' + course;
+    }
+
+    private Program program(String degree, String major, int course) {
+        return programs.get(key(degree, major, course));
+    }
+
+    /**
+     * Returns all offerings of a program in catalog order.
+     *
+     * @param degree The degree, e.g. "Бакалаврат" or "Магістратура".
+     * @param major The major of the student.
+     * @param course The course of the student.
+     * @return An unmodifiable list, empty if the program is not in the catalog.
+     */
+    public List<Offering> getOfferings(String degree, String major, int course) {
+        Program program = program(degree, major, course);
+        return program == null ? Collections.emptyList() : program.all;
+    }
+
+    /**
+     * Returns the mandatory offerings of a program in catalog order.
+     *
+     * @param degree The degree.
+     * @param major The major of the student.
+     * @param course The course of the student.
+     * @return An unmodifiable list, empty if the program is not in the catalog.
+     */
+    public List<Offering> getMandatoryOfferings(String degree, String major, int course) {
+        Program program = program(degree, major, course);
+        return program == null ? Collections.emptyList() : program.mandatory;
+    }
+
+    /**
+     * Returns the elective offerings of a program in catalog order.
+     *
+     * @param degree The degree.
+     * @param major The major of the student.
+     * @param course The course of the student.
+     * @return An unmodifiable list, empty if the program is not in the catalog.
+     */
+    public List<Offering> getElectiveOfferings(String degree, String major, int course) {
+        Program program = program(degree, major, course);
+        return program == null ? Collections.emptyList() : program.electives;
+    }
+
+    /**
+     * Returns the IDs of the mandatory disciplines a student of a program has passed before: those of
+     * the earlier courses of the same degree and major and, for the master's degree, of the whole
+     * bachelor's program of the major. Electives of earlier years are not known.
+     *
+     * @param degree The degree.
+     * @param major The major of the student.
+     * @param course The course of the program.
+     * @return The discipline IDs, earliest course first.
+     */
+    public List<String> getCompletedBefore(String degree, String major, int course) {
+        List<String> completed = new ArrayList<>();
+        if (MASTER_DEGREE.equals(degree)) {
+            for (int bachelorCourse = 1; program(BACHELOR_DEGREE, major, bachelorCourse) != null; bachelorCourse++) {
+                addMandatoryIds(completed, program(BACHELOR_DEGREE, major, bachelorCourse));
+            }
+        }
+        for (int earlier = 1; earlier < course; earlier++) {
+            Program program = program(degree, major, earlier);
+            if (program != null) {
+                addMandatoryIds(completed, program);
+            }
+        }
+        return completed;
+    }
+
+    private static void addMandatoryIds(List<String> ids, Program program) {
+        for (Offering offering : program.mandatory) {
+            ids.add(offering.definition.disciplineId);
+        }
+    }
+
+    /**
+     * Returns the prerequisite graph of the catalog.
+     * @return The compiled graph; without a prerequisites section every discipline is unlocked.
+     */
+    public PrerequisiteGraph getPrerequisites() {
+        return prerequisites;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of distinct discipline definitions in the catalog.
+     * @return The definition count.
+     */
+    public int getDefinitionCount() {
+        return definitionCount;
+    }
+}
@@ -0,0 +1,95 @@
+package org.example;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The part of a discipline that is the same wherever it is offered: ID, name, instructor, credits and
+ * control type. The test questions are not part of it; they are generated for each test and kept by the
+ * {@link Discipline}.
+ * <p>
+ * Definitions are immutable and interned in the {@link DisciplineRegistry}, so every {@link Discipline}
+ * (one per offering, per course or per loaded save) of the same discipline points to one shared instance.
+ * Changing the control type of a discipline means switching it to another interned definition; see
+ * {@link #withControlType(String)}.
+ */
+public final class DisciplineDefinition implements Serializable {
+    private final String disciplineId;
+    private final String name;
+    private final String instructor;
+    private final double credits;
+    private final String controlType;
+    private final transient int hash;
+
+    /**
+     * Creates a definition. Use {@link DisciplineRegistry#intern(DisciplineDefinition)} to get the shared instance.
+     *
+     * @param disciplineId The unique ID of the discipline.
+     * @param name The name of the discipline.
+     * @param instructor The instructor.
+     * @param credits The ECTS credits.
+     * @param controlType The form of control, see {@link Discipline#CONTROL_TYPE_ZALIK}.
+     */
+    public DisciplineDefinition(String disciplineId, String name, String instructor, double credits, String controlType) {
+        this.disciplineId = disciplineId;
+        this.name = name;
+        this.instructor = instructor;
+        this.credits = credits;
+        this.controlType = controlType;
+        this.hash = Objects.hash(disciplineId, name, instructor, credits, controlType);
+    }
+
+    public String getDisciplineId() {
+        return disciplineId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getInstructor() {
+        return instructor;
+    }
+
+    public double getCredits() {
+        return credits;
+    }
+
+    public String getControlType() {
+        return controlType;
+    }
+
+    /**
+     * Returns the interned definition that differs from this one only in the control type.
+     * @param controlType The new control type.
+     * @return The shared definition.
+     */
+    public DisciplineDefinition withControlType(String controlType) {
+        if (Objects.equals(this.controlType, controlType)) {
+            return this;
+        }
+        return DisciplineRegistry.getInstance().intern(
+                new DisciplineDefinition(disciplineId, name, instructor, credits, controlType));
+    }
+
+    // A deserialized definition is replaced by the shared one (the transient hash is recomputed on the way)
+    private Object readResolve() {
+        return DisciplineRegistry.getInstance().intern(
+                new DisciplineDefinition(disciplineId, name, instructor, credits, controlType));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DisciplineDefinition that = (DisciplineDefinition) o;
+        return hash == that.hash && Double.compare(credits, that.credits) == 0
+                && Objects.equals(disciplineId, that.disciplineId) && Objects.equals(name, that.name)
+                && Objects.equals(instructor, that.instructor) && Objects.equals(controlType, that.controlType);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
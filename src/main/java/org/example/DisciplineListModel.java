@@ -0,0 +1,102 @@
+package org.example;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * List model for the discipline lists of the enrollment window.
+ * <p>
+ * Unlike {@link DefaultListModel}, the contents are replaced as a whole with
+ * {@link #setDisciplines(List)}, which compares the new list with the current one and fires events
+ * only for the range that differs: the common head and tail are kept, so their cells and selection
+ * stay untouched. When only the seat count of a discipline changes, {@link #disciplineChanged(Discipline)}
+ * repaints just its row. Must be used on the event dispatch thread, like any Swing model.
+ */
+public class DisciplineListModel extends AbstractListModel<Discipline> {
+    private List<Discipline> disciplines = Collections.emptyList();
+    private final Map<Discipline, Integer> positions = new HashMap<>();
+
+    @Override
+    public int getSize() {
+        return disciplines.size();
+    }
+
+    @Override
+    public Discipline getElementAt(int index) {
+        return disciplines.get(index);
+    }
+
+    /**
+     * Returns the row of a discipline.
+     * @param discipline The discipline to look for.
+     * @return Its index, or -1 if it is not in the list.
+     */
+    public int indexOf(Discipline discipline) {
+        return positions.getOrDefault(discipline, -1);
+    }
+
+    /**
+     * Replaces the contents of the list. Only the middle part that differs from the current contents
+     * is reported to the listeners, as one removal followed by one insertion.
+     *
+     * @param newDisciplines The new contents, in display order; copied.
+     */
+    public void setDisciplines(List<Discipline> newDisciplines) {
+        List<Discipline> oldDisciplines = disciplines;
+        int oldSize = oldDisciplines.size();
+        int newSize = newDisciplines.size();
+
+        int head = 0;
+        int shorter = Math.min(oldSize, newSize);
+        while (head < shorter && oldDisciplines.get(head) == newDisciplines.get(head)) {
+            head++;
+        }
+        int tail = 0;
+        while (tail < shorter - head
+                && oldDisciplines.get(oldSize - 1 - tail) == newDisciplines.get(newSize - 1 - tail)) {
+            tail++;
+        }
+        if (head == oldSize && head == newSize) {
+            return; // Same contents
+        }
+
+        // Removal and insertion rather than a change, so the selection never moves to another discipline.
+        // Each event is fired with the model in the state it describes: only the removal applied, then both.
+        if (oldSize - tail > head) {
+            List<Discipline> remaining = new ArrayList<>(head + tail);
+            remaining.addAll(oldDisciplines.subList(0, head));
+            remaining.addAll(oldDisciplines.subList(oldSize - tail, oldSize));
+            setContents(remaining);
+            fireIntervalRemoved(this, head, oldSize - tail - 1);
+        }
+        if (newSize - tail > head) {
+            setContents(new ArrayList<>(newDisciplines));
+            fireIntervalAdded(this, head, newSize - tail - 1);
+        }
+    }
+
+    private void setContents(List<Discipline> contents) {
+        disciplines = contents;
+        positions.clear();
+        for (int i = 0; i < contents.size(); i++) {
+            positions.put(contents.get(i), i);
+        }
+    }
+
+    /**
+     * Tells the listeners that the row of a discipline must be painted again, e.g. because its seat
+     * count has changed. Does nothing if the discipline is not in the list.
+     *
+     * @param discipline The discipline that has changed.
+     */
+    public void disciplineChanged(Discipline discipline) {
+        int index = indexOf(discipline);
+        if (index >= 0) {
+            fireContentsChanged(this, index, index);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The shared pool of {@link DisciplineDefinition}s, keyed by discipline ID. Equal definitions, wherever
+ * they come from (the catalog, a loaded save, a test run), are replaced by one instance, so the memory
+ * taken by definitions grows with the number of distinct disciplines and not with offerings or students.
+ * <p>
+ * An ID normally has one definition. The catalog gives a few IDs another name, credits or control type in
+ * another program; those variants are kept side by side under the ID. Definitions hold nothing that
+ * changes from test to test, so the number of variants stays bounded by the catalog and the saves.
+ * <p>
+ * Thread-safe; definitions are never removed.
+ */
+public class DisciplineRegistry {
+    private static final DisciplineRegistry instance = new DisciplineRegistry();
+
+    private final ConcurrentMap<String, DisciplineDefinition[]> definitions = new ConcurrentHashMap<>();
+
+    private DisciplineRegistry() {
+    }
+
+    /**
+     * Returns the singleton registry.
+     * @return The single instance of DisciplineRegistry.
+     */
+    public static DisciplineRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the shared definition equal to the given one, registering it if it is the first.
+     * A definition without an ID has nothing to be shared by and is returned as it is.
+     *
+     * @param definition The definition.
+     * @return The shared instance.
+     */
+    public DisciplineDefinition intern(DisciplineDefinition definition) {
+        String disciplineId = definition.getDisciplineId();
+        if (disciplineId == null) {
+            return definition;
+        }
+        DisciplineDefinition existing = find(definitions.get(disciplineId), definition);
+        if (existing != null) {
+            return existing;
+        }
+        DisciplineDefinition[] variants = definitions.merge(disciplineId, new DisciplineDefinition[]{definition},
+                (current, added) -> find(current, definition) != null ? current : append(current, definition));
+        return find(variants, definition);
+    }
+
+    /**
+     * Returns the number of discipline IDs.
+     * @return The number of IDs in the registry.
+     */
+    public int size() {
+        return definitions.size();
+    }
+
+    private static DisciplineDefinition find(DisciplineDefinition[] variants, DisciplineDefinition definition) {
+        if (variants != null) {
+            for (DisciplineDefinition variant : variants) {
+                if (variant.equals(definition)) {
+                    return variant;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static DisciplineDefinition[] append(DisciplineDefinition[] variants, DisciplineDefinition definition) {
+        DisciplineDefinition[] result = Arrays.copyOf(variants, variants.length + 1);
+        result[variants.length] = definition;
+        return result;
+    }
+}
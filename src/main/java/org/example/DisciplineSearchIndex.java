@@ -0,0 +1,287 @@
+package org.example;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory full-text index over disciplines for the search box of the enrollment window.
+ * <p>
+ * Every searchable field (name, code, instructor) is normalized once when a discipline is added:
+ * Unicode NFC, Ukrainian lower case, all apostrophe variants removed (so {@code Комп'ютерні},
+ * {@code Комп’ютерні} and {@code Компютерні} are the same word) and runs of whitespace collapsed.
+ * The normalized text is split into bigrams and trigrams, and each gram maps to the ascending list
+ * of documents containing it.
+ * <p>
+ * A query of two or more letters intersects the posting lists of its grams, starting from the
+ * shortest one, and verifies the few remaining candidates against the normalized text; a single
+ * letter is checked against every document. Results are ranked: whole-field match, field prefix,
+ * word prefix, then infix, earlier positions first. Disciplines can be added and removed at any
+ * time. A removed discipline is taken out of the posting lists of its grams and its texts are
+ * dropped, so the index only holds what it can find; ids of removed documents are not reused.
+ */
+public class DisciplineSearchIndex {
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+    private static final Locale UKRAINIAN = Locale.forLanguageTag("uk");
+
+    /**
+     * The fields a query can be restricted to.
+     */
+    public enum Field {
+        NAME, CODE, INSTRUCTOR
+    }
+
+    private final List<Discipline> documents = new ArrayList<>(); // Index is the document id, null if removed
+    private final Map<Discipline, Integer> documentIds = new HashMap<>();
+    private final EnumMap<Field, List<String>> texts = new EnumMap<>(Field.class);
+    private final EnumMap<Field, Map<String, IntList>> postings = new EnumMap<>(Field.class);
+
+    /**
+     * A growable list of ascending document ids.
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return; // The same gram occurs twice in one document
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        void remove(int value) {
+            int at = Arrays.binarySearch(values, 0, size, value);
+            if (at >= 0) {
+                System.arraycopy(values, at + 1, values, at, size - at - 1);
+                size--;
+            }
+        }
+    }
+
+    public DisciplineSearchIndex() {
+        for (Field field : Field.values()) {
+            texts.put(field, new ArrayList<>());
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Normalizes text for indexing and searching: NFC, Ukrainian lower case, no apostrophes,
+     * single spaces, trimmed.
+     *
+     * @param text The text to normalize, may be null.
+     * @return The normalized text, empty for null.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(UKRAINIAN);
+        StringBuilder out = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (isApostrophe(c)) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(c);
+        }
+        return out.toString();
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '’' || c == 'ʼ' || c == '‘' || c == '`' || c == '´' || c == '′';
+    }
+
+    /**
+     * Adds a discipline to the index. Adding the same discipline twice has no effect.
+     * @param discipline The discipline to index.
+     */
+    public synchronized void add(Discipline discipline) {
+        if (documentIds.containsKey(discipline)) {
+            return;
+        }
+        int id = documents.size();
+        documents.add(discipline);
+        documentIds.put(discipline, id);
+        indexField(Field.NAME, id, discipline.getName());
+        indexField(Field.CODE, id, discipline.getDisciplineId());
+        indexField(Field.INSTRUCTOR, id, discipline.getInstructor());
+    }
+
+    /**
+     * Removes a discipline from the index, together with its texts and posting list entries.
+     * @param discipline The discipline to remove.
+     */
+    public synchronized void remove(Discipline discipline) {
+        Integer id = documentIds.remove(discipline);
+        if (id == null) {
+            return;
+        }
+        documents.set(id, null);
+        for (Field field : Field.values()) {
+            String text = texts.get(field).set(id, "");
+            Map<String, IntList> grams = postings.get(field);
+            for (int length = MIN_GRAM; length <= MAX_GRAM; length++) {
+                for (int i = 0; i + length <= text.length(); i++) {
+                    String gram = text.substring(i, i + length);
+                    IntList list = grams.get(gram);
+                    if (list != null) {
+                        list.remove(id);
+                        if (list.size == 0) {
+                            grams.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of disciplines currently in the index.
+     * @return The number of live documents.
+     */
+    public synchronized int size() {
+        return documentIds.size();
+    }
+
+    private void indexField(Field field, int id, String rawText) {
+        String text = normalize(rawText);
+        texts.get(field).add(text);
+        Map<String, IntList> grams = postings.get(field);
+        for (int length = MIN_GRAM; length <= MAX_GRAM; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.computeIfAbsent(text.substring(i, i + length), k -> new IntList()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Finds disciplines whose field contains the query, best matches first.
+     *
+     * @param query The text typed by the user; normalized the same way as the indexed text.
+     * @param field The field to search in, or null to search in all fields.
+     * @param limit The maximum number of results, or a non-positive value for no limit.
+     * @return The ranked matches; empty for an empty query.
+     */
+    public synchronized List<Discipline> search(String query, Field field, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Best rank per document over the searched fields
+        Map<Integer, Long> ranks = new HashMap<>();
+        for (Field f : field == null ? Field.values() : new Field[]{field}) {
+            collectMatches(f, normalized, ranks);
+        }
+
+        List<Map.Entry<Integer, Long>> ranked = new ArrayList<>(ranks.entrySet());
+        ranked.sort((a, b) -> {
+            int byRank = Long.compare(a.getValue(), b.getValue());
+            return byRank != 0 ? byRank : Integer.compare(a.getKey(), b.getKey());
+        });
+        int count = limit > 0 ? Math.min(limit, ranked.size()) : ranked.size();
+        List<Discipline> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(documents.get(ranked.get(i).getKey()));
+        }
+        return result;
+    }
+
+    private void collectMatches(Field field, String query, Map<Integer, Long> ranks) {
+        List<String> fieldTexts = texts.get(field);
+        List<IntList> lists = gramLists(field, query);
+        if (lists == null) {
+            return; // A gram of the query occurs nowhere, so nothing can match
+        }
+
+        if (lists.isEmpty()) {
+            // Single letter: check every document
+            for (int id = 0; id < documents.size(); id++) {
+                rankCandidate(id, fieldTexts.get(id), query, ranks);
+            }
+            return;
+        }
+
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        IntList smallest = lists.get(0);
+        candidates:
+        for (int i = 0; i < smallest.size; i++) {
+            int id = smallest.values[i];
+            for (int j = 1; j < lists.size(); j++) {
+                if (!lists.get(j).contains(id)) {
+                    continue candidates;
+                }
+            }
+            rankCandidate(id, fieldTexts.get(id), query, ranks);
+        }
+    }
+
+    /**
+     * Returns the posting lists that every match must appear in, an empty list if the query is
+     * too short to use the index, or null if some gram of the query is not indexed at all.
+     */
+    private List<IntList> gramLists(Field field, String query) {
+        Map<String, IntList> grams = postings.get(field);
+        List<IntList> lists = new ArrayList<>();
+        int length = Math.min(query.length(), MAX_GRAM);
+        if (length < MIN_GRAM) {
+            return lists;
+        }
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i + length <= query.length(); i++) {
+            String gram = query.substring(i, i + length);
+            if (seen.add(gram)) {
+                IntList list = grams.get(gram);
+                if (list == null) {
+                    return null;
+                }
+                lists.add(list);
+            }
+        }
+        return lists;
+    }
+
+    private void rankCandidate(int id, String text, String query, Map<Integer, Long> ranks) {
+        if (documents.get(id) == null) {
+            return;
+        }
+        int position = text.indexOf(query);
+        if (position < 0) {
+            return;
+        }
+        int tier;
+        if (position == 0) {
+            tier = text.length() == query.length() ? 0 : 1;
+        } else {
+            tier = text.charAt(position - 1) == ' ' ? 2 : 3;
+        }
+        long rank = ((long) tier << 32) | position;
+        ranks.merge(id, rank, Math::min);
+    }
+}
@@ -0,0 +1,312 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recommends sets of electives that bring a student's credits into the window needed to confirm the
+ * choice: at least the minimum, at most the credit limit of the course.
+ * <p>
+ * Credits are whole or half numbers, so they are counted in half-credit units and the problem is a 0/1
+ * knapsack: every open elective the student is not enrolled in, that fits the timetable and whose
+ * prerequisites are met, is taken at most once, its weight is its credits in units and its value is the
+ * student's preference for it. Row {@code i} of the table holds,
+ * for every exact number of units, the best total preference reachable with the first {@code i}
+ * electives. The table ignores the timetable, so for a total inside the window its last row is only an
+ * upper bound: the set offered is the best one whose electives do not overlap, found by a depth-first walk
+ * back through the rows that follows the table's choice first and prunes every branch whose bound cannot
+ * beat the best set found so far. Without overlaps the first set reached is the answer.
+ * <p>
+ * The rows are kept between calls. When seats run out or the student enrolls, only the rows from the
+ * first changed elective onwards are computed again. Electives with unlimited capacity come first and
+ * the limited ones follow with the fullest last, so the electives that change most often sit at the end
+ * of the table. Instances are thread-safe; {@link #recommend(int)} is meant to be called off the EDT.
+ */
+public class ElectiveRecommender {
+    public static final int UNITS_PER_CREDIT = 2;
+    public static final double DEFAULT_PREFERENCE = 1.0;
+    private static final double UNREACHABLE = Double.NEGATIVE_INFINITY;
+    private static final double EPSILON = 1e-9; // Sums of the same preferences in another order
+    // Steps of the walk for one total; past it the best set found so far is offered
+    private static final int SEARCH_STEP_LIMIT = 100_000;
+
+    private final EnrollmentSystem system;
+    private final Student student;
+    private final Discipline[] electives;
+    private final int[] units;
+    private final Map<Discipline, Integer> catalogOrder = new HashMap<>();
+    private final int minUnits;
+    private final int maxUnits;
+
+    private Map<String, Double> preferences = new HashMap<>();
+    private final double[][] rows; // rows[i][u]: best preference using electives[0..i) with exactly u units
+    private final boolean[] availableInRows; // Availability of each elective when its row was computed
+    private int validRows; // rows[0..validRows] are up to date
+
+    /**
+     * One recommended set of electives.
+     */
+    public static final class Recommendation {
+        private final List<Discipline> disciplines;
+        private final double addedCredits;
+        private final double totalCredits;
+        private final double score;
+
+        private Recommendation(List<Discipline> disciplines, double addedCredits, double totalCredits, double score) {
+            this.disciplines = disciplines;
+            this.addedCredits = addedCredits;
+            this.totalCredits = totalCredits;
+            this.score = score;
+        }
+
+        /**
+         * Returns the electives to enroll in, in catalog order.
+         * @return An unmodifiable list; empty if the student needs nothing more.
+         */
+        public List<Discipline> getDisciplines() {
+            return disciplines;
+        }
+
+        public double getAddedCredits() {
+            return addedCredits;
+        }
+
+        /**
+         * Returns the student's credits after enrolling in the recommended electives.
+         * @return The total credits.
+         */
+        public double getTotalCredits() {
+            return totalCredits;
+        }
+
+        /**
+         * Returns the sum of the student's preferences for the recommended electives.
+         * @return The score.
+         */
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Creates a recommender for one student.
+     *
+     * @param system The enrollment system the student is registered in; its prerequisites are checked.
+     * @param student The student to recommend electives to.
+     * @param electives The electives the student can choose from.
+     * @param minCredits The credits needed to confirm the choice.
+     * @param maxCredits The credit limit of the student's course, {@link Integer#MAX_VALUE} if it has none
+     *                   (see {@link EnrollmentSystem#getCourseCreditLimit(int)}).
+     */
+    public ElectiveRecommender(EnrollmentSystem system, Student student, List<Discipline> electives,
+                               double minCredits, double maxCredits) {
+        this.system = system;
+        this.student = student;
+        this.minUnits = toUnits(minCredits);
+        this.maxUnits = maxCredits >= (double) Integer.MAX_VALUE / UNITS_PER_CREDIT
+                ? Integer.MAX_VALUE : toUnits(maxCredits);
+
+        List<Discipline> ordered = new ArrayList<>(electives.size());
+        for (Discipline discipline : electives) {
+            catalogOrder.put(discipline, catalogOrder.size());
+            int weight = toUnits(discipline.getCredits());
+            if (!discipline.isMandatory() && weight > 0 && weight <= maxUnits) {
+                ordered.add(discipline);
+            }
+        }
+        // Unlimited first, then by free slots, fewest last
+        ordered.sort(Comparator.comparingInt((Discipline d) -> d.snapshotCapacity().getFreeSlots()).reversed());
+        this.electives = ordered.toArray(new Discipline[0]);
+        this.units = new int[this.electives.length];
+        long allUnits = 0;
+        for (int i = 0; i < units.length; i++) {
+            units[i] = toUnits(this.electives[i].getCredits());
+            allUnits += units[i];
+        }
+
+        // No set weighs more than all the electives together, which bounds the table of an unlimited course
+        this.rows = new double[this.electives.length + 1][(int) Math.min(maxUnits, allUnits) + 1];
+        this.availableInRows = new boolean[this.electives.length];
+        Arrays.fill(rows[0], UNREACHABLE);
+        rows[0][0] = 0;
+    }
+
+    /**
+     * Converts credits to half-credit units, rounding to the nearest unit.
+     * @param credits The credits.
+     * @return The number of units.
+     */
+    public static int toUnits(double credits) {
+        return (int) Math.round(credits * UNITS_PER_CREDIT);
+    }
+
+    /**
+     * Sets how much the student wants each elective. Electives not in the map get
+     * {@value #DEFAULT_PREFERENCE}. Changing the preferences invalidates the whole table.
+     *
+     * @param preferences Preference per discipline ID.
+     */
+    public synchronized void setPreferences(Map<String, Double> preferences) {
+        if (!this.preferences.equals(preferences)) {
+            this.preferences = new HashMap<>(preferences);
+            validRows = 0;
+        }
+    }
+
+    /**
+     * Computes the best elective sets for the current enrollment of the student and the current seat
+     * availability: for every reachable credit total inside the window, the set with the highest
+     * preference whose electives do not overlap in the timetable; the sets are ordered by preference,
+     * then by fewer credits.
+     *
+     * @param maxOptions The maximum number of sets to return.
+     * @return The recommendations, best first; empty if the window cannot be reached.
+     */
+    public synchronized List<Recommendation> recommend(int maxOptions) {
+        int currentUnits;
+        boolean[] available = new boolean[electives.length];
+        PrerequisiteGraph prerequisites = system.getPrerequisites();
+        synchronized (student) { // The lock EnrollmentSystem holds while changing the student
+            currentUnits = toUnits(student.getTotalCredits());
+            long[] satisfied = system.getSatisfiedSet(student.getStudentId());
+            for (int i = 0; i < electives.length; i++) {
+                Discipline discipline = electives[i];
+                // Electives clashing with the timetable are left out, overlaps within a set are avoided by rebuild
+                available[i] = discipline.hasAvailableSlots() && !student.isEnrolledIn(discipline.getDisciplineId())
+                        && !student.clashesWith(discipline)
+                        && prerequisites.isUnlocked(discipline.getDisciplineId(), satisfied);
+            }
+        }
+
+        int first = validRows;
+        for (int i = 0; i < validRows; i++) {
+            if (available[i] != availableInRows[i]) {
+                first = i;
+                break;
+            }
+        }
+        for (int i = first; i < electives.length; i++) {
+            computeRow(i, available[i]);
+        }
+        validRows = electives.length;
+
+        double[] last = rows[electives.length];
+        List<Integer> totals = new ArrayList<>();
+        int widest = Math.min(maxUnits - currentUnits, last.length - 1);
+        for (int u = Math.max(0, minUnits - currentUnits); u <= widest; u++) {
+            if (last[u] != UNREACHABLE) {
+                totals.add(u);
+            }
+        }
+        totals.sort((a, b) -> {
+            int byScore = Double.compare(last[b], last[a]);
+            return byScore != 0 ? byScore : Integer.compare(a, b);
+        });
+
+        Comparator<Recommendation> byScore = Comparator.comparingDouble(Recommendation::getScore).reversed()
+                .thenComparingDouble(Recommendation::getAddedCredits);
+        List<Recommendation> result = new ArrayList<>();
+        for (int total : totals) {
+            // Totals come by their bound; once it cannot beat the last kept set, no later total can
+            if (result.size() >= maxOptions
+                    && (result.isEmpty() || last[total] <= result.get(result.size() - 1).getScore() + EPSILON)) {
+                break;
+            }
+            Recommendation recommendation = rebuild(total, currentUnits);
+            if (recommendation != null) {
+                result.add(recommendation);
+                result.sort(byScore);
+                if (result.size() > maxOptions) {
+                    result.remove(maxOptions);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void computeRow(int i, boolean available) {
+        double[] previous = rows[i];
+        double[] row = rows[i + 1];
+        System.arraycopy(previous, 0, row, 0, row.length);
+        availableInRows[i] = available;
+        if (!available) {
+            return;
+        }
+        int weight = units[i];
+        double value = preferences.getOrDefault(electives[i].getDisciplineId(), DEFAULT_PREFERENCE);
+        for (int u = weight; u < row.length; u++) {
+            if (previous[u - weight] != UNREACHABLE && previous[u - weight] + value > row[u]) {
+                row[u] = previous[u - weight] + value;
+            }
+        }
+    }
+
+    /**
+     * Finds the best set of exactly {@code totalUnits} units without overlaps.
+     * @return The set, or null if every set of that total overlaps.
+     */
+    private Recommendation rebuild(int totalUnits, int currentUnits) {
+        ClashFreeSearch search = new ClashFreeSearch();
+        search.walk(electives.length, totalUnits, 0, 0);
+        if (search.best == null) {
+            return null;
+        }
+        List<Discipline> chosen = new ArrayList<>();
+        for (int i = 0; i < electives.length; i++) {
+            if (search.best[i]) {
+                chosen.add(electives[i]);
+            }
+        }
+        chosen.sort(Comparator.comparingInt(catalogOrder::get));
+        return new Recommendation(Collections.unmodifiableList(chosen), (double) totalUnits / UNITS_PER_CREDIT,
+                (double) (currentUnits + totalUnits) / UNITS_PER_CREDIT, search.bestScore);
+    }
+
+    /**
+     * The walk back through the rows for one total. {@code rows[i][u]} is the best any subset of the first
+     * {@code i} electives can add, overlaps allowed, so it bounds what is left to choose.
+     */
+    private final class ClashFreeSearch {
+        private final boolean[] taken = new boolean[electives.length];
+        private boolean[] best;
+        private double bestScore = UNREACHABLE;
+        private int steps;
+
+        void walk(int i, int u, long slots, double score) {
+            if (i == 0) {
+                if (u == 0 && score > bestScore) {
+                    bestScore = score;
+                    best = taken.clone();
+                }
+                return;
+            }
+            if (++steps > SEARCH_STEP_LIMIT || score + rows[i][u] <= bestScore + EPSILON) {
+                return; // An unreachable total is pruned here too: its bound is minus infinity
+            }
+            boolean takeFirst = rows[i][u] != rows[i - 1][u]; // What the table chose
+            for (int branch = 0; branch < 2; branch++) {
+                if ((branch == 0) == takeFirst) {
+                    take(i - 1, u, slots, score);
+                } else {
+                    walk(i - 1, u, slots, score);
+                }
+            }
+        }
+
+        private void take(int elective, int u, long slots, double score) {
+            long electiveSlots = electives[elective].getScheduleSlots();
+            if (!availableInRows[elective] || units[elective] > u || (slots & electiveSlots) != 0) {
+                return;
+            }
+            taken[elective] = true;
+            walk(elective, u - units[elective], slots | electiveSlots,
+                    score + preferences.getOrDefault(electives[elective].getDisciplineId(), DEFAULT_PREFERENCE));
+            taken[elective] = false;
+        }
+    }
+}
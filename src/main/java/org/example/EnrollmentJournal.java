@@ -0,0 +1,556 @@
+package org.example;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of one enrollment session, so that a crash does not lose the choices made so far.
+ * <p>
+ * {@link EnrollmentSystem} reports every change it makes: seats taken and given back (also by the
+ * simulated students, see {@link RegistrationRushSimulator}), students enrolled and dropped, and students
+ * joining and leaving waitlists. Each change becomes a small binary record framed by its length and
+ * CRC32: {@code [int length][int crc][long sequence][byte type][fields]}. Appending only encodes the
+ * record into a buffer; a writer thread writes whatever has piled up and forces it to disk with one
+ * fsync, so records that arrive during an fsync share the next one (group commit). {@link #flush()}
+ * waits for the fsync that covers everything appended before it.
+ * <p>
+ * The writer also folds the records it has written into a compacted state: the net seat change per
+ * discipline, the net enrollment per student and the waitlist entries still queued. Every
+ * {@value #SNAPSHOT_EVERY_RECORDS} records that state is written to a snapshot file, which names the last
+ * sequence it covers, and the journal is emptied. On startup {@link #recover(Path)} reads the snapshot
+ * and the journal records after it, stopping at the first torn or corrupt record, and the result is
+ * replayed with {@link Recovery#applyTo(EnrollmentSystem)} on top of the catalog the session started from.
+ */
+public class EnrollmentJournal {
+    public static final String JOURNAL_FILE = "enrollment_journal.bin";
+    public static final String SNAPSHOT_FILE = "enrollment_journal.snapshot";
+    public static final int SNAPSHOT_EVERY_RECORDS = 10_000;
+
+    private static final int MAGIC = 0x53415A4A; // "SAZJ"
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8; // Magic and version
+    private static final int FRAME_HEADER_BYTES = 8; // Length and CRC
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+
+    // Record types
+    private static final byte SESSION = 1;
+    private static final byte SEATS = 2;
+    private static final byte ENROLLED = 3;
+    private static final byte DROPPED = 4;
+    private static final byte WAITLIST_JOINED = 5;
+    private static final byte WAITLIST_LEFT = 6;
+
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private final FileChannel channel;
+    private final State state; // Touched only by the writer thread once it has started
+    private final Thread writer;
+
+    private final Object appendLock = new Object();
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(); // Guarded by appendLock
+    private ByteArrayOutputStream spare = new ByteArrayOutputStream(); // Guarded by appendLock
+    private long lastSequence; // Guarded by appendLock
+    private boolean closed; // Guarded by appendLock
+
+    private final Object durableLock = new Object();
+    private long durableSequence; // Guarded by durableLock
+    private volatile boolean failed;
+    private int recordsSinceSnapshot; // Writer thread only
+
+    /**
+     * The state of an unfinished session read back from disk.
+     */
+    public static final class Recovery {
+        private final State state;
+        private final long lastSequence;
+
+        private Recovery(State state, long lastSequence) {
+            this.state = state;
+            this.lastSequence = lastSequence;
+        }
+
+        public String getDegree() {
+            return state.degree;
+        }
+
+        public int getCourse() {
+            return state.course;
+        }
+
+        public String getStudentId() {
+            return state.studentId;
+        }
+
+        /**
+         * Replays the session into an enrollment system that holds the same students and disciplines
+         * as when the session started. Must be called before a journal is attached to the system.
+         * @param system The enrollment system to restore.
+         */
+        public void applyTo(EnrollmentSystem system) {
+            state.applyTo(system);
+        }
+    }
+
+    /**
+     * Net effect of a sequence of records.
+     */
+    private static final class State {
+        private String degree;
+        private int course;
+        private String studentId;
+        private final Map<String, Integer> seatChanges = new LinkedHashMap<>();
+        private final Map<String, Map<String, Boolean>> enrollments = new LinkedHashMap<>(); // true if enrolled, false if dropped
+        private final Map<String, Map<String, long[]>> waitlists = new LinkedHashMap<>(); // {priority, sequence} per student
+
+        void apply(byte type, DataInputStream in) throws IOException {
+            switch (type) {
+                case SESSION:
+                    degree = in.readUTF();
+                    course = in.readInt();
+                    studentId = in.readUTF();
+                    break;
+                case SEATS:
+                    seatChanges.merge(in.readUTF(), in.readInt(), Integer::sum);
+                    break;
+                case ENROLLED:
+                case DROPPED: {
+                    String student = in.readUTF();
+                    enrollments.computeIfAbsent(student, s -> new LinkedHashMap<>()).put(in.readUTF(), type == ENROLLED);
+                    break;
+                }
+                case WAITLIST_JOINED: {
+                    String student = in.readUTF();
+                    String discipline = in.readUTF();
+                    long[] entry = {in.readInt(), in.readLong()};
+                    waitlists.computeIfAbsent(discipline, d -> new LinkedHashMap<>()).putIfAbsent(student, entry);
+                    break;
+                }
+                case WAITLIST_LEFT: {
+                    String student = in.readUTF();
+                    Map<String, long[]> queue = waitlists.get(in.readUTF());
+                    if (queue != null) {
+                        queue.remove(student);
+                    }
+                    break;
+                }
+                default:
+                    throw new IOException("Невідомий тип запису журналу: " + type);
+            }
+        }
+
+        /**
+         * Writes the state as records that rebuild it: the session, then the net changes.
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream fields = new DataOutputStream(payload);
+            fields.writeUTF(degree);
+            fields.writeInt(course);
+            fields.writeUTF(studentId);
+            writeFrame(out, 0, SESSION, payload);
+            for (Map.Entry<String, Integer> change : seatChanges.entrySet()) {
+                if (change.getValue() != 0) {
+                    payload.reset();
+                    fields.writeUTF(change.getKey());
+                    fields.writeInt(change.getValue());
+                    writeFrame(out, 0, SEATS, payload);
+                }
+            }
+            for (Map.Entry<String, Map<String, Boolean>> student : enrollments.entrySet()) {
+                for (Map.Entry<String, Boolean> discipline : student.getValue().entrySet()) {
+                    payload.reset();
+                    fields.writeUTF(student.getKey());
+                    fields.writeUTF(discipline.getKey());
+                    writeFrame(out, 0, discipline.getValue() ? ENROLLED : DROPPED, payload);
+                }
+            }
+            for (Map.Entry<String, Map<String, long[]>> queue : waitlists.entrySet()) {
+                for (Map.Entry<String, long[]> entry : queue.getValue().entrySet()) {
+                    payload.reset();
+                    fields.writeUTF(entry.getKey());
+                    fields.writeUTF(queue.getKey());
+                    fields.writeInt((int) entry.getValue()[0]);
+                    fields.writeLong(entry.getValue()[1]);
+                    writeFrame(out, 0, WAITLIST_JOINED, payload);
+                }
+            }
+        }
+
+        void applyTo(EnrollmentSystem system) {
+            for (Map.Entry<String, Integer> change : seatChanges.entrySet()) {
+                system.getDisciplineById(change.getKey()).ifPresent(d -> system.restoreSeats(d, change.getValue()));
+            }
+            for (Map.Entry<String, Map<String, Boolean>> student : enrollments.entrySet()) {
+                for (Map.Entry<String, Boolean> discipline : student.getValue().entrySet()) {
+                    system.restoreEnrollment(student.getKey(), discipline.getKey(), discipline.getValue());
+                }
+            }
+            for (Map.Entry<String, Map<String, long[]>> queue : waitlists.entrySet()) {
+                for (Map.Entry<String, long[]> entry : queue.getValue().entrySet()) {
+                    system.restoreWaitlistEntry(entry.getKey(), queue.getKey(), (int) entry.getValue()[0], entry.getValue()[1]);
+                }
+            }
+        }
+    }
+
+    private EnrollmentJournal(Path directory, State state, long lastSequence) throws IOException {
+        this.journalFile = directory.resolve(JOURNAL_FILE);
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.state = state;
+        this.lastSequence = lastSequence;
+        this.durableSequence = lastSequence;
+
+        // The session starts from a snapshot of everything recovered, so the old journal is not needed
+        writeSnapshot(lastSequence);
+        this.channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION);
+        header.flip();
+        channel.write(header);
+        channel.force(true);
+
+        this.writer = new Thread(this::runWriter, "enrollment-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Starts the journal of a new session in a directory, replacing any journal left there.
+     *
+     * @param directory The directory of the journal and snapshot files.
+     * @param degree The degree of the session.
+     * @param course The course of the session.
+     * @param studentId ID of the player.
+     * @return The open journal.
+     * @throws IOException If the files cannot be written.
+     */
+    public static EnrollmentJournal start(Path directory, String degree, int course, String studentId) throws IOException {
+        State state = new State();
+        state.degree = degree;
+        state.course = course;
+        state.studentId = studentId;
+        return new EnrollmentJournal(directory, state, 0);
+    }
+
+    /**
+     * Continues a recovered session: its state is compacted into a new snapshot and further records are
+     * appended after it.
+     *
+     * @param directory The directory of the journal and snapshot files.
+     * @param recovery The session read back with {@link #recover(Path)}.
+     * @return The open journal.
+     * @throws IOException If the files cannot be written.
+     */
+    public static EnrollmentJournal resume(Path directory, Recovery recovery) throws IOException {
+        return new EnrollmentJournal(directory, recovery.state, recovery.lastSequence);
+    }
+
+    /**
+     * Reads back the session left in a directory by a journal that was not discarded.
+     *
+     * @param directory The directory of the journal and snapshot files.
+     * @return The session, or null if there is none or its snapshot is unreadable.
+     */
+    public static Recovery recover(Path directory) {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return null;
+        }
+        State state = new State();
+        long covered;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(snapshot))) {
+            readFileHeader(in);
+            covered = in.readLong();
+            while (readFrame(in, state, -1) != -1) {
+                // Every record of the snapshot is applied
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null; // The snapshot is replaced atomically, so a broken one is not worth guessing at
+        }
+        if (state.studentId == null) {
+            return null;
+        }
+
+        long lastSequence = covered;
+        Path journal = directory.resolve(JOURNAL_FILE);
+        if (Files.exists(journal)) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(journal))) {
+                readFileHeader(in);
+                long sequence;
+                while ((sequence = readFrame(in, state, covered)) != -1) {
+                    lastSequence = Math.max(lastSequence, sequence);
+                }
+            } catch (IOException e) {
+                e.printStackTrace(); // Records before the damaged one are kept
+            }
+        }
+        return new Recovery(state, lastSequence);
+    }
+
+    /**
+     * Deletes the journal and snapshot left in a directory, e.g. when the player does not want to resume.
+     * @param directory The directory of the journal and snapshot files.
+     */
+    public static void delete(Path directory) {
+        try {
+            Files.deleteIfExists(directory.resolve(SNAPSHOT_FILE));
+            Files.deleteIfExists(directory.resolve(JOURNAL_FILE));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // Records reported by EnrollmentSystem
+
+    void seatsChanged(Discipline discipline, int delta) {
+        append(SEATS, discipline.getDisciplineId(), null, delta, 0);
+    }
+
+    void enrolled(Student student, Discipline discipline) {
+        append(ENROLLED, student.getStudentId(), discipline.getDisciplineId(), 0, 0);
+    }
+
+    void dropped(Student student, Discipline discipline) {
+        append(DROPPED, student.getStudentId(), discipline.getDisciplineId(), 0, 0);
+    }
+
+    void waitlistJoined(String studentId, String disciplineId, int priority, long sequence) {
+        append(WAITLIST_JOINED, studentId, disciplineId, priority, sequence);
+    }
+
+    void waitlistLeft(String studentId, String disciplineId) {
+        append(WAITLIST_LEFT, studentId, disciplineId, 0, 0);
+    }
+
+    /**
+     * Encodes a record and queues it for the writer. Costs a few microseconds; nothing waits for the disk.
+     */
+    private void append(byte type, String first, String second, int number, long order) {
+        if (failed) {
+            return;
+        }
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        try {
+            DataOutputStream fields = new DataOutputStream(payload);
+            fields.writeUTF(first);
+            if (second != null) {
+                fields.writeUTF(second);
+            }
+            if (type == SEATS || type == WAITLIST_JOINED) {
+                fields.writeInt(number);
+            }
+            if (type == WAITLIST_JOINED) {
+                fields.writeLong(order);
+            }
+            synchronized (appendLock) {
+                if (closed) {
+                    return;
+                }
+                boolean wasEmpty = pending.size() == 0;
+                writeFrame(new DataOutputStream(pending), ++lastSequence, type, payload);
+                if (wasEmpty) {
+                    appendLock.notify(); // Wakes the writer
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace(); // Cannot happen for in-memory streams
+        }
+    }
+
+    /**
+     * Waits until every record appended so far has been forced to disk.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+        long target;
+        synchronized (appendLock) {
+            target = lastSequence;
+        }
+        synchronized (durableLock) {
+            while (durableSequence < target && !failed) {
+                durableLock.wait();
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining records and stops the writer. The files stay on disk for {@link #recover(Path)}.
+     */
+    public void close() {
+        synchronized (appendLock) {
+            closed = true;
+            appendLock.notify();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Closes the journal and deletes its files, once the session has ended and its result is saved elsewhere.
+     */
+    public void discard() {
+        close();
+        delete(journalFile.getParent());
+    }
+
+    private void runWriter() {
+        try {
+            while (true) {
+                ByteArrayOutputStream batch;
+                long upTo;
+                synchronized (appendLock) {
+                    while (pending.size() == 0 && !closed) {
+                        appendLock.wait();
+                    }
+                    if (pending.size() == 0) {
+                        break; // Closed and drained
+                    }
+                    batch = pending;
+                    pending = spare;
+                    spare = batch;
+                    upTo = lastSequence;
+                }
+
+                // Appenders fill the other buffer in the meantime; they all share the next fsync
+                byte[] bytes = batch.toByteArray();
+                batch.reset();
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+                synchronized (durableLock) {
+                    durableSequence = upTo;
+                    durableLock.notifyAll();
+                }
+
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+                while (readFrame(in, state, -1) != -1) {
+                    recordsSinceSnapshot++;
+                }
+                if (recordsSinceSnapshot >= SNAPSHOT_EVERY_RECORDS) {
+                    writeSnapshot(upTo);
+                    channel.truncate(FILE_HEADER_BYTES); // Records up to upTo are in the snapshot now
+                    channel.position(FILE_HEADER_BYTES);
+                    recordsSinceSnapshot = 0;
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            failed = true; // The session goes on without a journal
+            synchronized (durableLock) {
+                durableLock.notifyAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Writes the compacted state to a temporary file and moves it over the snapshot, so a crash leaves
+     * either the old snapshot or the new one. Journal records up to {@code covered} are then redundant.
+     */
+    private void writeSnapshot(long covered) throws IOException {
+        Path temporary = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(bytes);
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeLong(covered);
+            state.writeTo(data);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeFrame(DataOutputStream out, long sequence, byte type, ByteArrayOutputStream payload) throws IOException {
+        byte[] fields = payload.toByteArray();
+        ByteBuffer body = ByteBuffer.allocate(Long.BYTES + 1 + fields.length).putLong(sequence).put(type).put(fields);
+        CRC32 crc = new CRC32();
+        crc.update(body.array());
+        out.writeInt(body.capacity());
+        out.writeInt((int) crc.getValue());
+        out.write(body.array());
+    }
+
+    /**
+     * Reads one frame and applies it to the state unless its sequence is not after {@code skipUpTo}.
+     * @return The sequence of the frame, or -1 at the end of the data or at a torn or corrupt frame.
+     */
+    private static long readFrame(DataInputStream in, State state, long skipUpTo) throws IOException {
+        byte[] header = new byte[FRAME_HEADER_BYTES];
+        if (!readFully(in, header)) {
+            return -1;
+        }
+        ByteBuffer frame = ByteBuffer.wrap(header);
+        int length = frame.getInt();
+        int expectedCrc = frame.getInt();
+        if (length <= Long.BYTES || length > MAX_RECORD_BYTES) {
+            return -1;
+        }
+        byte[] body = new byte[length];
+        if (!readFully(in, body)) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != expectedCrc) {
+            return -1;
+        }
+        DataInputStream fields = new DataInputStream(new ByteArrayInputStream(body));
+        long sequence = fields.readLong();
+        byte type = fields.readByte();
+        if (sequence > skipUpTo || skipUpTo < 0) {
+            state.apply(type, fields);
+        }
+        return sequence;
+    }
+
+    /**
+     * Reads exactly {@code bytes.length} bytes.
+     * @return false if the data ends first.
+     */
+    private static boolean readFully(DataInputStream in, byte[] bytes) throws IOException {
+        try {
+            in.readFully(bytes);
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private static void readFileHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Файл не є журналом запису цієї версії.");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stress check of the thread-safety contract of {@link EnrollmentSystem}.
+ * Many threads enroll, drop, enroll in batches, join and leave waitlists, and take and give back
+ * anonymous seats the way the rush simulator does, all on a few small electives, while a watcher
+ * thread keeps checking that no seat counter exceeds its capacity. When everything has stopped, every
+ * discipline must count exactly the students enrolled in it plus the anonymous seats still held (no
+ * lost updates), and every student's running totals must match their disciplines.
+ * Run with {@code java org.example.EnrollmentStressHarness [threads] [seconds]}; exits with status 1
+ * if a check fails.
+ */
+public class EnrollmentStressHarness {
+    private static final int STUDENTS = 2000;
+    private static final int ELECTIVES = 40;
+    private static final int COURSE = 2;
+    private static final double[] CREDITS = {2, 2.5, 3, 3.5, 4, 5};
+    private static final double MANDATORY_CREDITS = 40;
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : 5;
+
+        EnrollmentSystem system = new EnrollmentSystem();
+        system.addDiscipline(new Discipline("M0", "Обов'язкова", "", MANDATORY_CREDITS, 0, STUDENTS, true, COURSE));
+        List<Discipline> electives = new ArrayList<>(ELECTIVES);
+        for (int i = 0; i < ELECTIVES; i++) {
+            int capacity = i % 10 == 0 ? EnrollmentSystem.UNLIMITED_CAPACITY : 1 + i % 7 * 3;
+            Discipline elective = new Discipline("E" + i, "Вибіркова " + i, "", CREDITS[i % CREDITS.length], 0,
+                    capacity, false, COURSE, i % 3 == 0 ? Discipline.CONTROL_TYPE_EXAM : Discipline.CONTROL_TYPE_ZALIK);
+            system.addDiscipline(elective);
+            electives.add(elective);
+        }
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student("S" + i, "Студент " + i, COURSE, "Стрес");
+            student.enrollDiscipline(system.getDisciplineById("M0").orElseThrow());
+            system.addStudent(student);
+            students.add(student);
+        }
+
+        AtomicIntegerArray anonymousSeats = new AtomicIntegerArray(ELECTIVES);
+        LongAdder operations = new LongAdder();
+        AtomicLong overEnrollments = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        runOperation(system, students, electives, anonymousSeats, random);
+                        operations.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "stress-" + t);
+            worker.start();
+        }
+
+        Thread watcher = new Thread(() -> {
+            while (done.getCount() > 0) {
+                for (Discipline elective : electives) {
+                    Discipline.CapacitySnapshot capacity = elective.snapshotCapacity();
+                    if (!capacity.isUnlimited() && capacity.getEnrolled() > capacity.getMaxCapacity()) {
+                        overEnrollments.incrementAndGet();
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        }, "stress-watcher");
+        watcher.start();
+
+        start.countDown();
+        done.await();
+        watcher.join();
+
+        List<String> failures = verify(system, students, electives, anonymousSeats);
+        if (overEnrollments.get() > 0) {
+            failures.add("Перевищення місткості помічено " + overEnrollments.get() + " раз(и).");
+        }
+        System.out.println("Потоків: " + threads + ", операцій: " + operations.sum() + " за " + seconds + " с");
+        if (failures.isEmpty()) {
+            System.out.println("Усі перевірки пройдено: місткість не перевищено, оновлення не втрачено.");
+        } else {
+            failures.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    private static void runOperation(EnrollmentSystem system, List<Student> students, List<Discipline> electives,
+                                     AtomicIntegerArray anonymousSeats, ThreadLocalRandom random) {
+        String studentId = students.get(random.nextInt(students.size())).getStudentId();
+        int index = random.nextInt(electives.size());
+        String disciplineId = electives.get(index).getDisciplineId();
+        int choice = random.nextInt(100);
+        if (choice < 35) {
+            system.enrollStudentToDiscipline(studentId, disciplineId);
+        } else if (choice < 60) {
+            system.dropStudentFromDiscipline(studentId, disciplineId);
+        } else if (choice < 75) {
+            List<String> batch = new ArrayList<>();
+            for (int i = 1 + random.nextInt(3); i > 0; i--) {
+                batch.add(electives.get(random.nextInt(electives.size())).getDisciplineId());
+            }
+            system.enrollStudentToDisciplines(studentId, batch);
+        } else if (choice < 85) {
+            system.joinWaitlist(studentId, disciplineId);
+        } else if (choice < 90) {
+            system.leaveWaitlist(studentId, disciplineId);
+        } else if (choice < 95) {
+            if (system.reserveSeat(electives.get(index))) {
+                anonymousSeats.incrementAndGet(index);
+            }
+        } else {
+            // Only seats this harness took anonymously are given back
+            int held = anonymousSeats.get(index);
+            if (held > 0 && anonymousSeats.compareAndSet(index, held, held - 1)) {
+                system.releaseSeat(electives.get(index));
+            }
+        }
+    }
+
+    private static List<String> verify(EnrollmentSystem system, List<Student> students, List<Discipline> electives,
+                                        AtomicIntegerArray anonymousSeats) {
+        List<String> failures = new ArrayList<>();
+        int[] enrolledStudents = new int[electives.size()];
+        for (Student student : students) {
+            double credits = 0;
+            int electiveCount = 0;
+            int examCount = 0;
+            for (Discipline discipline : student.getEnrolledDisciplines()) {
+                credits += discipline.getCredits();
+                if (!discipline.isMandatory()) {
+                    electiveCount++;
+                    enrolledStudents[electives.indexOf(discipline)]++;
+                }
+                if (Discipline.CONTROL_TYPE_EXAM.equals(discipline.getControlType())) {
+                    examCount++;
+                }
+            }
+            if (credits != student.getTotalCredits() || electiveCount != student.getElectiveCount()
+                    || examCount != student.getExamCount() || examCount != student.getExamDisciplines().size()) {
+                failures.add("Підсумки студента " + student.getStudentId() + " не збігаються з його дисциплінами.");
+            }
+            if (credits > 62) {
+                failures.add("Студент " + student.getStudentId() + " перевищив ліміт кредитів: " + credits);
+            }
+        }
+
+        Set<Discipline> indexed = new HashSet<>(system.getOpenElectives());
+        for (int i = 0; i < electives.size(); i++) {
+            Discipline elective = electives.get(i);
+            Discipline.CapacitySnapshot capacity = elective.snapshotCapacity();
+            int expected = enrolledStudents[i] + anonymousSeats.get(i);
+            if (capacity.getEnrolled() != expected) {
+                failures.add("Дисципліна " + elective.getDisciplineId() + ": лічильник " + capacity.getEnrolled()
+                        + ", а записано " + expected + ".");
+            }
+            if (!capacity.isUnlimited() && capacity.getEnrolled() > capacity.getMaxCapacity()) {
+                failures.add("Дисципліна " + elective.getDisciplineId() + " переповнена: " + capacity.getEnrolled()
+                        + "/" + capacity.getMaxCapacity() + ".");
+            }
+            if (!capacity.isFull() != indexed.contains(elective)) {
+                failures.add("Дисципліна " + elective.getDisciplineId() + (capacity.isFull()
+                        ? " заповнена, але є в індексі вільних місць." : " має вільні місця, але її немає в індексі."));
+            }
+        }
+        return failures;
+    }
+}
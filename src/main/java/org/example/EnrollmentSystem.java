@@ -1,19 +1,74 @@
 package org.example;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
-import java.util.HashSet;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * The registry of students and disciplines and the enrollment rules between them.
+ * <p>
+ * The system is safe to use from any number of threads: the GUI calls it from SwingWorkers while the
+ * registration rush simulator, the waitlists and the recommender work on other threads. There is no
+ * global lock. Registries are concurrent maps, a seat is taken or released with a CAS on the discipline
+ * ({@link Discipline#tryReserveSeat()}), and everything that changes one student is done while holding
+ * that student's monitor, which {@link Student} itself also uses. The free-slot index has its own small
+ * lock that is only taken when a discipline becomes full or stops being full.
+ * <p>
+ * Contract of the enrollment operations; each takes effect atomically at the point named:
+ * <ul>
+ *     <li>{@link #enrollStudentToDiscipline(String, String)}: at the successful seat CAS, made while the
+ *     student's monitor is held and followed by the update of the student under the same monitor. Nobody
+ *     who reads the student through its methods sees the seat taken but the student not enrolled.</li>
+ *     <li>{@link #dropStudentFromDiscipline(String, String)}: at the removal from the student. The seat is
+ *     given back (or handed to a waitlisted student) right after, outside the student's monitor, so for
+ *     a moment the discipline may count one seat more than it has students, never more than capacity.</li>
+ *     <li>{@link #enrollStudentToDisciplines(String, java.util.Collection)}: at the last seat CAS. Seats of
+ *     a batch that fails are given back, but others may see them taken for a moment, as if the batch had
+ *     been enrolled and dropped at once.</li>
+ * </ul>
+ * Seat counters never exceed capacity, and at rest every discipline counts exactly the students
+ * enrolled in it plus its initial enrollment. {@link EnrollmentStressHarness} checks both under load.
+ * <p>
+ * If a {@link EnrollmentJournal} is attached, every change is also reported to it, right after it is made
+ * (changes of a student while still holding the student's monitor, so they are journaled in order).
+ * <p>
+ * Electives may have prerequisites ({@link #setPrerequisites(PrerequisiteGraph)}). A prerequisite counts
+ * as met if the student passed it before ({@link #setCompletedDisciplines(String, Collection)}) or is
+ * enrolled in it this year; an elective that is a prerequisite of another one the student holds cannot
+ * be dropped first.
+ */
 public class EnrollmentSystem {
-    private Map<String, Student> students;
-    private Map<String, Discipline> disciplines;
-    private Random random = new Random();
+    private final Map<String, Student> students;
+    private final Map<String, Discipline> disciplines;
+
+    // Secondary indexes, maintained incrementally by addDiscipline, enrollment and unenrollment
+    private final Map<Integer, IndexedList> mandatoryByCourse = new ConcurrentHashMap<>();
+    private final Map<Integer, IndexedList> electivesByCourse = new ConcurrentHashMap<>();
+    private final IndexedList allMandatory = new IndexedList();
+    private final IndexedList allElectives = new IndexedList();
+    private final OpenElectiveSet openElectives = new OpenElectiveSet(); // Guarded by openElectivesLock
+    private final Object openElectivesLock = new Object();
+    private final DisciplineSearchIndex searchIndex = new DisciplineSearchIndex();
+
+    // Waitlists of full electives, keyed by discipline ID
+    private final Map<String, Waitlist> waitlists = new ConcurrentHashMap<>();
+    private final AtomicLong waitlistSequence = new AtomicLong();
+    private final List<WaitlistListener> waitlistListeners = new CopyOnWriteArrayList<>();
+    private volatile WaitlistOrder waitlistOrder = WaitlistOrder.FIFO;
+    private volatile EnrollmentJournal journal; // Null if changes are not journaled
+    private volatile PrerequisiteGraph prerequisites = PrerequisiteGraph.EMPTY;
+    private final Map<String, long[]> completedDisciplines = new ConcurrentHashMap<>(); // Sets of the graph, by student ID
 
     public static final int UNLIMITED_CAPACITY = -1;
     public static final int ELECTIVE_CAPACITY = 10;
@@ -31,23 +86,174 @@ public class EnrollmentSystem {
     // Мінімальна кількість кредитів для завершення вибору
     public static final int MIN_CREDITS_TO_CONFIRM = 55;
 
-    // New variables for tracking virtual students
-    private int virtualStudentsEnrolledCount = 0;
+    // Number of other students that register together with the player (see RegistrationRushSimulator)
     public static final int MAX_VIRTUAL_STUDENTS_TO_ENROLL = 30;
-    private Map<String, Integer> virtualStudentElectiveCounts;
-    private Map<String, Set<String>> virtualStudentEnrolledElectives;
 
     public EnrollmentSystem() {
-        this.students = new HashMap<>();
-        this.disciplines = new HashMap<>();
-        this.virtualStudentElectiveCounts = new HashMap<>();
-        this.virtualStudentEnrolledElectives = new HashMap<>();
+        this.students = new ConcurrentHashMap<>();
+        this.disciplines = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * A growing list of disciplines with a cached read-only view, so queries allocate nothing.
+     * Disciplines are appended to an array that doubles when full, and every append publishes a new
+     * view over the filled prefix. Slots inside a published view are never written again, so
+     * readers iterate a stable snapshot without locking, and an append costs amortized O(1).
+     */
+    private static class IndexedList {
+        private Discipline[] items = new Discipline[16]; // Guarded by this
+        private int size; // Guarded by this
+        private volatile List<Discipline> view = Collections.emptyList();
+
+        synchronized void add(Discipline discipline) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = discipline;
+            view = Collections.unmodifiableList(Arrays.asList(items).subList(0, size));
+        }
+    }
+
+    /**
+     * Set of electives that still have free slots, with O(1) add and remove.
+     * Elements live in an array list; a map remembers each element's position so removal can swap
+     * the last element into the hole.
+     */
+    private static class OpenElectiveSet {
+        private final List<Discipline> items = new ArrayList<>();
+        private final Map<Discipline, Integer> positions = new HashMap<>();
+
+        void add(Discipline discipline) {
+            if (!positions.containsKey(discipline)) {
+                positions.put(discipline, items.size());
+                items.add(discipline);
+            }
+        }
+
+        void remove(Discipline discipline) {
+            Integer position = positions.remove(discipline);
+            if (position == null) {
+                return;
+            }
+            Discipline last = items.remove(items.size() - 1);
+            if (last != discipline) {
+                items.set(position, last);
+                positions.put(last, position);
+            }
+        }
+
+        int size() {
+            return items.size();
+        }
+    }
+
+    /**
+     * How students on a waitlist are ordered.
+     */
+    public enum WaitlistOrder {
+        /** First come, first served. */
+        FIFO,
+        /** Senior courses first; first come, first served within a course. */
+        COURSE_SENIORITY;
+
+        int priorityOf(Student student) {
+            return this == COURSE_SENIORITY ? student.getCourse() : 0;
+        }
+    }
+
+    /**
+     * Receives a notification when a waitlisted student is given a seat.
+     * Called on the thread that freed the seat, which need not be the event dispatch thread.
+     */
+    @FunctionalInterface
+    public interface WaitlistListener {
+        void studentPromoted(Student student, Discipline discipline);
+    }
+
+    private static final class WaitlistEntry implements Comparable<WaitlistEntry> {
+        private final String studentId;
+        private final int priority;
+        private final long sequence;
+
+        WaitlistEntry(String studentId, int priority, long sequence) {
+            this.studentId = studentId;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(WaitlistEntry other) {
+            int byPriority = Integer.compare(other.priority, priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * The queue of one discipline. A student is in the queue at most once.
+     * EnrollmentSystem changes a queue and journals the change while holding the queue's monitor, so
+     * the journal sees the changes of one queue in the order they were made.
+     */
+    private static final class Waitlist {
+        private final PriorityBlockingQueue<WaitlistEntry> queue = new PriorityBlockingQueue<>();
+        private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+        boolean offer(WaitlistEntry entry) {
+            if (!queued.add(entry.studentId)) {
+                return false;
+            }
+            queue.add(entry);
+            return true;
+        }
+
+        WaitlistEntry poll() {
+            WaitlistEntry entry = queue.poll();
+            if (entry != null) {
+                queued.remove(entry.studentId);
+            }
+            return entry;
+        }
+
+        boolean remove(String studentId) {
+            if (!queued.remove(studentId)) {
+                return false;
+            }
+            queue.removeIf(entry -> entry.studentId.equals(studentId));
+            return true;
+        }
+
+        boolean contains(String studentId) {
+            return queued.contains(studentId);
+        }
+
+        boolean isEmpty() {
+            return queued.isEmpty();
+        }
+
+        /** Returns the 1-based place of the student in the queue, or 0 if not queued. */
+        int positionOf(String studentId) {
+            WaitlistEntry own = null;
+            for (WaitlistEntry entry : queue) {
+                if (entry.studentId.equals(studentId)) {
+                    own = entry;
+                    break;
+                }
+            }
+            if (own == null) {
+                return 0;
+            }
+            int ahead = 0;
+            for (WaitlistEntry entry : queue) {
+                if (entry.compareTo(own) < 0) {
+                    ahead++;
+                }
+            }
+            return ahead + 1;
+        }
     }
 
     // Methods for adding students and disciplines
     public String addStudent(Student student) {
-        if (!students.containsKey(student.getStudentId())) {
-            students.put(student.getStudentId(), student);
+        if (students.putIfAbsent(student.getStudentId(), student) == null) {
             return "Студент " + student.getName() + " (ID: " + student.getStudentId() + ") успішно доданий.";
         } else {
             return "Помилка. Студент з ID '" + student.getStudentId() + "' вже існує.";
@@ -55,8 +261,8 @@ public class EnrollmentSystem {
     }
 
     public String addDiscipline(Discipline discipline) {
-        if (!disciplines.containsKey(discipline.getDisciplineId())) {
-            disciplines.put(discipline.getDisciplineId(), discipline);
+        if (disciplines.putIfAbsent(discipline.getDisciplineId(), discipline) == null) {
+            indexDiscipline(discipline);
             return "Дисципліна '" + discipline.getName() + "' (ID: " + discipline.getDisciplineId() + ") успішно додана.";
         } else {
             return "Помилка. Дисципліна з ID '" + discipline.getDisciplineId() + "' вже існує.";
@@ -78,74 +284,565 @@ public class EnrollmentSystem {
 
     // Get only mandatory disciplines for a specific course
     public List<Discipline> getMandatoryDisciplines(int course) {
-        return disciplines.values().stream()
-                .filter(d -> d.isMandatory() && d.getTargetCourse() == course)
-                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        IndexedList list = mandatoryByCourse.get(course);
+        return list == null ? Collections.emptyList() : list.view;
     }
 
     // Get only elective disciplines for a specific course
     public List<Discipline> getElectiveDisciplines(int course) {
-        return disciplines.values().stream()
-                .filter(d -> !d.isMandatory() && d.getTargetCourse() == course)
-                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        IndexedList list = electivesByCourse.get(course);
+        return list == null ? Collections.emptyList() : list.view;
     }
 
     // Method to get all mandatory disciplines (used for initial student enrollment)
     public List<Discipline> getAllMandatoryDisciplines() {
-        return disciplines.values().stream()
-                .filter(Discipline::isMandatory)
-                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        return allMandatory.view;
     }
 
     // Method to get all elective disciplines
     public List<Discipline> getAllElectiveDisciplines() {
-        return disciplines.values().stream()
-                .filter(d -> !d.isMandatory())
-                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        return allElectives.view;
+    }
+
+    /**
+     * Returns the full-text index over the names, codes and instructors of all added disciplines.
+     * @return The search index, updated on every addDiscipline.
+     */
+    public DisciplineSearchIndex getSearchIndex() {
+        return searchIndex;
     }
 
     /**
-     * Simulates random enrollment of "other" students for elective disciplines.
-     * Each virtual student now randomly picks up to 5 disciplines, but we don't enforce a hard limit on total electives
-     * for them to reach `MAX_VIRTUAL_STUDENTS_TO_ENROLL`. Instead, we count how many have finished their "picking phase".
+     * Returns the elective disciplines that currently have free slots, in no particular order.
+     * Takes time proportional to the number of open electives, not to the size of the catalog.
+     * @return A snapshot list.
      */
-    public synchronized void randomlyIncrementElectiveEnrollment() {
-        if (virtualStudentsEnrolledCount >= MAX_VIRTUAL_STUDENTS_TO_ENROLL) {
-            return; // Stop if limit reached
+    public List<Discipline> getOpenElectives() {
+        synchronized (openElectivesLock) {
+            return new ArrayList<>(openElectives.items);
+        }
+    }
+
+    /**
+     * Returns the number of elective disciplines that currently have free slots.
+     * @return The size of the free-slot index.
+     */
+    public int getOpenElectiveCount() {
+        synchronized (openElectivesLock) {
+            return openElectives.size();
+        }
+    }
+
+    /**
+     * Adds a newly registered discipline to the course, type and free-slot indexes.
+     * Called once per discipline, by the thread that won the registration in addDiscipline.
+     */
+    private void indexDiscipline(Discipline discipline) {
+        searchIndex.add(discipline);
+        if (discipline.isMandatory()) {
+            allMandatory.add(discipline);
+            mandatoryByCourse.computeIfAbsent(discipline.getTargetCourse(), c -> new IndexedList()).add(discipline);
+        } else {
+            allElectives.add(discipline);
+            electivesByCourse.computeIfAbsent(discipline.getTargetCourse(), c -> new IndexedList()).add(discipline);
+            updateOpenElectives(discipline);
+        }
+    }
+
+    /**
+     * Re-checks one elective against the free-slot index after its enrollment has changed.
+     */
+    private void updateOpenElectives(Discipline discipline) {
+        if (discipline.isMandatory()) {
+            return;
+        }
+        synchronized (openElectivesLock) {
+            // Checked under the lock, so the index ends up matching the last change of the counter
+            if (discipline.hasAvailableSlots()) {
+                openElectives.add(discipline);
+            } else {
+                openElectives.remove(discipline);
+            }
         }
+    }
 
-        // Get all elective disciplines, regardless of course for virtual students
-        List<Discipline> electives = getAllElectiveDisciplines();
-        if (electives.isEmpty()) return;
+    /**
+     * Takes a seat in a discipline for a simulated student who is not registered in the system
+     * (see {@link RegistrationRushSimulator}). Safe to call from many threads at once: the seat is
+     * taken lock-free and the free-slot index is only locked when this seat was the last one.
+     * @param discipline The discipline to take a seat in.
+     * @return true if a seat was taken, false if the discipline is full.
+     */
+    public boolean reserveSeat(Discipline discipline) {
+        if (!discipline.tryReserveSeat()) {
+            return false;
+        }
+        journalSeats(discipline, 1);
+        if (!discipline.hasAvailableSlots()) {
+            updateOpenElectives(discipline);
+        }
+        return true;
+    }
 
-        // Probability that a "virtual student" attempts to enroll
-        if (random.nextDouble() < 0.1) {
-            String virtualStudentId = "VirtualStudent_" + random.nextInt(MAX_VIRTUAL_STUDENTS_TO_ENROLL * 2);
-            virtualStudentElectiveCounts.putIfAbsent(virtualStudentId, 0);
-            virtualStudentEnrolledElectives.putIfAbsent(virtualStudentId, new HashSet<>());
+    /**
+     * Gives back a seat taken with {@link #reserveSeat(Discipline)}. If students are waiting for the
+     * discipline, the seat goes straight to the first of them who can still take it and never becomes
+     * free in between, so nobody else can grab it.
+     * @param discipline The discipline to release a seat in.
+     * @return true if a seat was released or handed over.
+     */
+    public boolean releaseSeat(Discipline discipline) {
+        if (discipline.snapshotCapacity().getEnrolled() > 0 && promoteFromWaitlist(discipline)) {
+            return true;
+        }
+        return returnSeat(discipline);
+    }
 
-            int currentVirtualStudentElectives = virtualStudentElectiveCounts.get(virtualStudentId);
+    /**
+     * Gives a seat back to the discipline without offering it to the waitlist, so no student lock is
+     * taken; safe to call while holding one.
+     * @return true if a seat was released.
+     */
+    private boolean returnSeat(Discipline discipline) {
+        int previous = discipline.releaseSeatAndGetPrevious();
+        if (previous == 0) {
+            return false;
+        }
+        journalSeats(discipline, -1);
+        if (previous >= discipline.getMaxCapacity() && discipline.getMaxCapacity() != UNLIMITED_CAPACITY) {
+            updateOpenElectives(discipline); // This release opened a full discipline
+        }
+        return true;
+    }
 
-            // Virtual students will still try to pick up to 5 electives
-            if (currentVirtualStudentElectives < 5) {
-                List<Discipline> availableElectivesForVirtualStudent = electives.stream()
-                        .filter(d -> d.hasAvailableSlots() && !virtualStudentEnrolledElectives.get(virtualStudentId).contains(d.getDisciplineId()))
-                        .collect(Collectors.toList());
+    /**
+     * Takes one seat in each of the given disciplines, or none at all. Seats are taken one by one
+     * lock-free; if a discipline turns out to be full, the seats already taken are given back
+     * (see {@link #releaseSeat(Discipline)}) before returning.
+     * @param batch The disciplines to take a seat in, without duplicates.
+     * @return null if every seat was taken, otherwise the first discipline that was full.
+     */
+    public Discipline reserveSeats(List<Discipline> batch) {
+        Discipline full = takeSeats(batch);
+        if (full != null) {
+            offerToWaitlists(batch.subList(0, batch.indexOf(full)));
+        }
+        return full;
+    }
 
-                if (!availableElectivesForVirtualStudent.isEmpty()) {
-                    Discipline randomElective = availableElectivesForVirtualStudent.get(random.nextInt(availableElectivesForVirtualStudent.size()));
+    /**
+     * Takes one seat in each discipline or none; on failure the seats taken are returned without
+     * promoting anybody (see {@link #returnSeat(Discipline)}), so the caller may hold a student lock.
+     * @return null if every seat was taken, otherwise the first discipline that was full.
+     */
+    private Discipline takeSeats(List<Discipline> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            if (!reserveSeat(batch.get(i))) {
+                for (int j = i - 1; j >= 0; j--) {
+                    returnSeat(batch.get(j));
+                }
+                return batch.get(i);
+            }
+        }
+        return null;
+    }
 
-                    if (randomElective.enrollStudent()) {
-                        virtualStudentElectiveCounts.put(virtualStudentId, currentVirtualStudentElectives + 1);
-                        virtualStudentEnrolledElectives.get(virtualStudentId).add(randomElective.getDisciplineId());
+    /**
+     * Offers a seat of each discipline that was briefly held by a rolled-back batch to its waitlist,
+     * as {@link #releaseSeat(Discipline)} would have. Must be called without holding a student lock.
+     */
+    private void offerToWaitlists(List<Discipline> returned) {
+        for (Discipline discipline : returned) {
+            Waitlist waitlist = waitlists.get(discipline.getDisciplineId());
+            if (waitlist != null && !waitlist.isEmpty() && reserveSeat(discipline)) {
+                releaseSeat(discipline); // Handed to the first waitlisted student who can take it, or freed again
+            }
+        }
+    }
 
-                        if (virtualStudentElectiveCounts.get(virtualStudentId) == 5) { // If a virtual student completed their 5 picks
-                            virtualStudentsEnrolledCount++; // This virtual student completed their selection
-                        }
-                    }
+    /**
+     * Hands the seat being released to the next waitlisted student. Entries of students who can no
+     * longer take the seat (already enrolled, over the credit limit, gone) are dropped on the way.
+     * @return true if a student was promoted.
+     */
+    private boolean promoteFromWaitlist(Discipline discipline) {
+        Waitlist waitlist = waitlists.get(discipline.getDisciplineId());
+        if (waitlist == null) {
+            return false;
+        }
+        while (true) {
+            WaitlistEntry entry;
+            synchronized (waitlist) {
+                entry = waitlist.poll();
+                if (entry == null) {
+                    return false;
+                }
+                journalWaitlistLeft(entry.studentId, discipline.getDisciplineId());
+            }
+            Student student = students.get(entry.studentId);
+            if (student == null) {
+                continue;
+            }
+            boolean promoted;
+            synchronized (student) {
+                promoted = !student.isEnrolledIn(discipline.getDisciplineId()) && fitsCreditLimit(student, discipline)
+                        && !student.clashesWith(discipline)
+                        && prerequisites.isUnlocked(discipline.getDisciplineId(), satisfiedSet(student));
+                if (promoted) {
+                    student.enrollDiscipline(discipline);
+                    journalEnrolled(student, discipline);
+                }
+            }
+            if (promoted) {
+                for (WaitlistListener listener : waitlistListeners) {
+                    listener.studentPromoted(student, discipline);
                 }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the credit limit of a course.
+     * @param course The course.
+     * @return The most credits a student of the course may take.
+     */
+    public static int getCourseCreditLimit(int course) {
+        return COURSE_CREDIT_LIMITS.getOrDefault(course, Integer.MAX_VALUE);
+    }
+
+    private static boolean fitsCreditLimit(Student student, Discipline discipline) {
+        int courseCreditLimit = COURSE_CREDIT_LIMITS.getOrDefault(student.getCourse(), Integer.MAX_VALUE);
+        return student.getTotalCredits() + discipline.getCredits() <= courseCreditLimit;
+    }
+
+    private static String clashMessage(Discipline discipline, Discipline clash) {
+        return "Помилка запису. Дисципліна " + discipline.getName() + " накладається в розкладі на " + clash.getName()
+                + " (" + Timetable.format(discipline.getScheduleSlots() & clash.getScheduleSlots()) + ").";
+    }
+
+    /**
+     * Puts a student on the waitlist of a full elective. The student is enrolled automatically
+     * when a seat is freed and it is their turn (see {@link #releaseSeat(Discipline)}).
+     * @param studentId ID of the student.
+     * @param disciplineId ID of the discipline.
+     * @return Message about the result (place in the queue or error).
+     */
+    public String joinWaitlist(String studentId, String disciplineId) {
+        Optional<Student> studentOpt = getStudentById(studentId);
+        Optional<Discipline> disciplineOpt = getDisciplineById(disciplineId);
+
+        if (studentOpt.isEmpty()) {
+            return "Помилка. Студента з ID '" + studentId + "' не знайдено.";
+        }
+        if (disciplineOpt.isEmpty()) {
+            return "Помилка. Дисципліни з ID '" + disciplineId + "' не знайдено.";
+        }
+
+        Student student = studentOpt.get();
+        Discipline discipline = disciplineOpt.get();
+        String rejection = waitlistRejection(student, discipline);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        Waitlist waitlist = waitlists.computeIfAbsent(disciplineId, id -> new Waitlist());
+        WaitlistEntry entry = new WaitlistEntry(studentId, waitlistOrder.priorityOf(student), waitlistSequence.incrementAndGet());
+        synchronized (waitlist) {
+            if (!waitlist.offer(entry)) {
+                return "Ви вже в черзі на дисципліну " + discipline.getName() + " (місце " + waitlist.positionOf(studentId) + ").";
+            }
+            EnrollmentJournal currentJournal = journal;
+            if (currentJournal != null) {
+                currentJournal.waitlistJoined(studentId, disciplineId, entry.priority, entry.sequence);
+            }
+        }
+        // A seat may have been freed between the check above and joining the queue
+        if (discipline.hasAvailableSlots() && reserveSeat(discipline)) {
+            releaseSeat(discipline); // Goes to the head of the queue
+        }
+        if (student.isEnrolledIn(disciplineId)) {
+            return "Звільнилося місце! Вас записано на дисципліну " + discipline.getName() + ".";
+        }
+        return "Вас додано до черги на дисципліну " + discipline.getName() + " (місце " + waitlist.positionOf(studentId) + ").";
+    }
+
+    /**
+     * Checks whether a student may join the waitlist of a discipline: it must be a full elective
+     * the student is not enrolled in and could take without exceeding the credit limit, a clash in
+     * the timetable or a missing prerequisite.
+     * @param studentId ID of the student.
+     * @param disciplineId ID of the discipline.
+     * @return true if {@link #joinWaitlist(String, String)} would queue the student.
+     */
+    public boolean canJoinWaitlist(String studentId, String disciplineId) {
+        Optional<Student> studentOpt = getStudentById(studentId);
+        Optional<Discipline> disciplineOpt = getDisciplineById(disciplineId);
+        return studentOpt.isPresent() && disciplineOpt.isPresent()
+                && waitlistRejection(studentOpt.get(), disciplineOpt.get()) == null;
+    }
+
+    /**
+     * Returns why a student cannot join the waitlist of a discipline, or null if they can.
+     */
+    private String waitlistRejection(Student student, Discipline discipline) {
+        if (discipline.isMandatory()) {
+            return "Помилка. На обов'язкові дисципліни черги немає.";
+        }
+        if (student.isEnrolledIn(discipline.getDisciplineId())) {
+            return "Помилка. Ви вже записані на дисципліну " + discipline.getName() + ".";
+        }
+        if (!fitsCreditLimit(student, discipline)) {
+            return "Помилка. Запис на дисципліну '" + discipline.getName() + "' призведе до перевищення сумарної кількости кредитів.";
+        }
+        Discipline clash = student.findClash(discipline);
+        if (clash != null) {
+            return clashMessage(discipline, clash);
+        }
+        String locked;
+        synchronized (student) {
+            locked = prerequisiteRejection(discipline, satisfiedSet(student));
+        }
+        if (locked != null) {
+            return locked;
+        }
+        if (discipline.hasAvailableSlots()) {
+            return "На дисципліну " + discipline.getName() + " ще є вільні місця, черга не потрібна.";
+        }
+        return null;
+    }
+
+    /**
+     * Removes a student from the waitlist of a discipline.
+     * @param studentId ID of the student.
+     * @param disciplineId ID of the discipline.
+     * @return true if the student was in the queue.
+     */
+    public boolean leaveWaitlist(String studentId, String disciplineId) {
+        Waitlist waitlist = waitlists.get(disciplineId);
+        if (waitlist == null) {
+            return false;
+        }
+        synchronized (waitlist) {
+            if (!waitlist.remove(studentId)) {
+                return false;
             }
+            journalWaitlistLeft(studentId, disciplineId);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a student from every waitlist, e.g. once their choice is final.
+     * @param studentId ID of the student.
+     */
+    public void leaveAllWaitlists(String studentId) {
+        for (String disciplineId : waitlists.keySet()) {
+            leaveWaitlist(studentId, disciplineId);
+        }
+    }
+
+    /**
+     * Checks whether a student is waiting for a discipline.
+     * @param studentId ID of the student.
+     * @param disciplineId ID of the discipline.
+     * @return true if the student is in the queue.
+     */
+    public boolean isWaitlisted(String studentId, String disciplineId) {
+        Waitlist waitlist = waitlists.get(disciplineId);
+        return waitlist != null && waitlist.contains(studentId);
+    }
+
+    /**
+     * Returns the place of a student in the waitlist of a discipline.
+     * @param studentId ID of the student.
+     * @param disciplineId ID of the discipline.
+     * @return The 1-based place, or 0 if the student is not in the queue.
+     */
+    public int getWaitlistPosition(String studentId, String disciplineId) {
+        Waitlist waitlist = waitlists.get(disciplineId);
+        return waitlist == null ? 0 : waitlist.positionOf(studentId);
+    }
+
+    public void setWaitlistOrder(WaitlistOrder order) {
+        this.waitlistOrder = order;
+    }
+
+    public void addWaitlistListener(WaitlistListener listener) {
+        waitlistListeners.add(listener);
+    }
+
+    public void removeWaitlistListener(WaitlistListener listener) {
+        waitlistListeners.remove(listener);
+    }
+
+    /**
+     * Attaches the journal that every further change is reported to.
+     * @param journal The journal, or null to stop journaling.
+     */
+    public void setJournal(EnrollmentJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Sets the prerequisites checked on enrollment. Must be set before the completed disciplines of
+     * the students are recorded, since those are kept as sets of this graph.
+     * @param prerequisites The compiled prerequisite graph.
+     */
+    public void setPrerequisites(PrerequisiteGraph prerequisites) {
+        this.prerequisites = prerequisites;
+        completedDisciplines.clear();
+    }
+
+    /**
+     * Returns the prerequisites checked on enrollment.
+     * @return The prerequisite graph; empty if none were set.
+     */
+    public PrerequisiteGraph getPrerequisites() {
+        return prerequisites;
+    }
+
+    /**
+     * Records the disciplines a student passed in earlier years, which count as met prerequisites.
+     * @param studentId ID of the student.
+     * @param disciplineIds IDs of the passed disciplines.
+     */
+    public void setCompletedDisciplines(String studentId, Collection<String> disciplineIds) {
+        completedDisciplines.put(studentId, prerequisites.setOf(disciplineIds));
+    }
+
+    /**
+     * Returns the disciplines whose prerequisites count as met for a student: those passed before and
+     * those enrolled in now. The caller holds the student's monitor.
+     */
+    private long[] satisfiedSet(Student student) {
+        PrerequisiteGraph graph = prerequisites;
+        long[] completed = completedDisciplines.get(student.getStudentId());
+        long[] satisfied = completed == null ? graph.newSet() : completed.clone();
+        for (Discipline discipline : student.getEnrolledDisciplines()) {
+            graph.add(satisfied, discipline.getDisciplineId());
+        }
+        return satisfied;
+    }
+
+    private String prerequisiteRejection(Discipline discipline, long[] satisfied) {
+        PrerequisiteGraph graph = prerequisites;
+        if (graph.isUnlocked(discipline.getDisciplineId(), satisfied)) {
+            return null;
+        }
+        return "Помилка запису. Для дисципліни " + discipline.getName() + " спершу потрібно пройти або обрати: "
+                + graph.describe(graph.missingPrerequisites(discipline.getDisciplineId(), satisfied)) + ".";
+    }
+
+    /**
+     * Checks whether a student has met the prerequisites of a discipline.
+     * @param studentId ID of the student.
+     * @param disciplineId ID of the discipline.
+     * @return true if the discipline is unlocked for the student (or either is unknown).
+     */
+    public boolean isUnlocked(String studentId, String disciplineId) {
+        Student student = students.get(studentId);
+        if (student == null) {
+            return true;
+        }
+        synchronized (student) {
+            return prerequisites.isUnlocked(disciplineId, satisfiedSet(student));
+        }
+    }
+
+    /**
+     * Returns the disciplines whose prerequisites count as met for a student now: those passed before
+     * and those enrolled in. Check a discipline against it with {@link PrerequisiteGraph#isUnlocked(String, long[])}
+     * on {@link #getPrerequisites()}.
+     *
+     * @param studentId ID of the student.
+     * @return A copy of the set; empty if the student is unknown.
+     */
+    public long[] getSatisfiedSet(String studentId) {
+        Student student = students.get(studentId);
+        if (student == null) {
+            return prerequisites.newSet();
+        }
+        synchronized (student) {
+            return satisfiedSet(student);
+        }
+    }
+
+    /**
+     * Validates the transcript of a student, the disciplines passed before and enrolled in now.
+     * @param studentId ID of the student.
+     * @return IDs of the enrolled disciplines whose prerequisites are not met; empty if all are.
+     */
+    public List<String> validateTranscript(String studentId) {
+        Student student = students.get(studentId);
+        if (student == null) {
+            return Collections.emptyList();
         }
+        synchronized (student) {
+            PrerequisiteGraph graph = prerequisites;
+            return graph.toIds(graph.validate(satisfiedSet(student)));
+        }
+    }
+
+    private void journalSeats(Discipline discipline, int delta) {
+        EnrollmentJournal currentJournal = journal;
+        if (currentJournal != null) {
+            currentJournal.seatsChanged(discipline, delta);
+        }
+    }
+
+    private void journalEnrolled(Student student, Discipline discipline) {
+        EnrollmentJournal currentJournal = journal;
+        if (currentJournal != null) {
+            currentJournal.enrolled(student, discipline);
+        }
+    }
+
+    private void journalWaitlistLeft(String studentId, String disciplineId) {
+        EnrollmentJournal currentJournal = journal;
+        if (currentJournal != null) {
+            currentJournal.waitlistLeft(studentId, disciplineId);
+        }
+    }
+
+    // Replay of a journal (see EnrollmentJournal.Recovery). The changes are applied as recorded,
+    // without the enrollment rules: they were checked when the changes were made.
+
+    /**
+     * Changes the seat counter of a discipline by the net number of seats taken during the session.
+     */
+    void restoreSeats(Discipline discipline, int delta) {
+        discipline.restoreEnrollment(delta);
+        updateOpenElectives(discipline);
+    }
+
+    /**
+     * Enrolls or drops a student as recorded. Seats are restored separately by restoreSeats.
+     */
+    void restoreEnrollment(String studentId, String disciplineId, boolean enrolled) {
+        Student student = students.get(studentId);
+        Discipline discipline = disciplines.get(disciplineId);
+        if (student == null || discipline == null) {
+            return;
+        }
+        if (enrolled) {
+            student.enrollDiscipline(discipline);
+        } else {
+            student.dropDiscipline(discipline);
+        }
+    }
+
+    /**
+     * Puts a student back on a waitlist with the place they had. Entries of students who got the seat
+     * in the meantime are skipped.
+     */
+    void restoreWaitlistEntry(String studentId, String disciplineId, int priority, long sequence) {
+        Student student = students.get(studentId);
+        if (student == null || !disciplines.containsKey(disciplineId) || student.isEnrolledIn(disciplineId)) {
+            return;
+        }
+        waitlists.computeIfAbsent(disciplineId, id -> new Waitlist()).offer(new WaitlistEntry(studentId, priority, sequence));
+        waitlistSequence.accumulateAndGet(sequence, Math::max);
     }
 
     /**
@@ -174,38 +871,168 @@ public class EnrollmentSystem {
             return "Помилка. Обов'язкові дисципліни не можуть бути обрані вручну. Студенти автоматично зараховуються на них.";
         }
 
-        // 2. Перевірка, чи студент вже записаний
-        if (student.getEnrolledDisciplines().contains(discipline)) {
-            return "Помилка запису. Ви вже записані на дисципліну " + discipline.getName() + ".";
+        // The student is locked so a waitlist promotion cannot interleave with the checks below
+        synchronized (student) {
+            // 2. Перевірка, чи студент вже записаний
+            if (student.isEnrolledIn(discipline.getDisciplineId())) {
+                return "Помилка запису. Ви вже записані на дисципліну " + discipline.getName() + ".";
+            }
+
+            // 3. Перевірка ліміту кредитів
+            if (!fitsCreditLimit(student, discipline)) {
+                double currentTotalCredits = student.getTotalCredits();
+                double newTotalCredits = currentTotalCredits + discipline.getCredits();
+                int courseCreditLimit = COURSE_CREDIT_LIMITS.getOrDefault(student.getCourse(), Integer.MAX_VALUE);
+                return "Помилка запису. Запис на дисципліну '" + discipline.getName() + "' призведе до перевищення сумарної кількости кредитів (" + courseCreditLimit + ") для " + student.getCourse() + "-го курсу. Поточна сума: " + currentTotalCredits + ", з цією дисципліною: " + newTotalCredits + ".";
+            }
+
+            // 4. Перевірка накладок у розкладі
+            Discipline clash = student.findClash(discipline);
+            if (clash != null) {
+                return clashMessage(discipline, clash);
+            }
+
+            // 5. Перевірка передумов
+            String locked = prerequisiteRejection(discipline, satisfiedSet(student));
+            if (locked != null) {
+                return locked;
+            }
+
+            // 6. Логіка запису для вибіркових дисциплін: місце резервується атомарно,
+            // для дисциплін з необмеженою кількістю місць резервування завжди вдається
+            if (!reserveSeat(discipline)) {
+                return "На жаль, Ви не встигли. На дисципліну " + discipline.getName() + " записана максимальна кількість студентів. Ви можете стати в чергу.";
+            }
+            student.enrollDiscipline(discipline);
+            journalEnrolled(student, discipline);
+            leaveWaitlist(studentId, disciplineId);
         }
+        return "Успішний запис! Ви записані на вибіркову дисципліну " + discipline.getName() + ".";
+    }
 
-        // 3. Перевірка ліміту кредитів
-        int sum = 0;
-        for (Discipline enrolledDisc : student.getEnrolledDisciplines()) {
-            sum += enrolledDisc.getCredits();
+    /**
+     * Enrolls a student in several electives as one transaction: either the student is enrolled in
+     * all of them or in none. The whole set is validated first, with a single credit-limit check over
+     * the sum, a timetable check against the student and within the set and a prerequisite check
+     * (electives of the set count as taken), and only then are the seats taken, all or nothing.
+     * Seats taken before a full discipline is met are given back without promotion while the
+     * student is locked, and offered to their waitlists once the lock is released.
+     * @param studentId ID of the student.
+     * @param disciplineIds IDs of the disciplines; repeated IDs are ignored.
+     * @return Message about the enrollment result (success or the reason nothing was enrolled).
+     */
+    public String enrollStudentToDisciplines(String studentId, Collection<String> disciplineIds) {
+        Optional<Student> studentOpt = getStudentById(studentId);
+        if (studentOpt.isEmpty()) {
+            return "Помилка запису. Студента з ID '" + studentId + "' не знайдено.";
+        }
+        if (disciplineIds.isEmpty()) {
+            return "Помилка запису. Не обрано жодної дисципліни.";
         }
-        double currentTotalCredits = sum;
-        double newTotalCredits = currentTotalCredits + discipline.getCredits();
-        int courseCreditLimit = COURSE_CREDIT_LIMITS.getOrDefault(student.getCourse(), Integer.MAX_VALUE);
 
-        if (newTotalCredits > courseCreditLimit) {
-            return "Помилка запису. Запис на дисципліну '" + discipline.getName() + "' призведе до перевищення сумарної кількости кредитів (" + courseCreditLimit + ") для " + student.getCourse() + "-го курсу. Поточна сума: " + currentTotalCredits + ", з цією дисципліною: " + newTotalCredits + ".";
+        Map<String, Discipline> requested = new LinkedHashMap<>();
+        for (String disciplineId : disciplineIds) {
+            Discipline discipline = disciplines.get(disciplineId);
+            if (discipline == null) {
+                return "Помилка запису. Дисципліни з ID '" + disciplineId + "' не знайдено.";
+            }
+            requested.put(disciplineId, discipline);
         }
+        List<Discipline> batch = new ArrayList<>(requested.values());
 
-        // 4. Логіка запису для вибіркових дисциплін (з обмеженою та необмеженою кількістю місць)
-        if (discipline.getMaxCapacity() == UNLIMITED_CAPACITY) {
-            student.enrollDiscipline(discipline);
-            discipline.enrollStudent();
-            return "Успішний запис! Ви записані на вибіркову дисципліну " + discipline.getName() + ".";
+        Student student = studentOpt.get();
+        Discipline full;
+        synchronized (student) {
+            double batchCredits = 0;
+            long batchSlots = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                Discipline discipline = batch.get(i);
+                if (discipline.isMandatory()) {
+                    return "Помилка. Обов'язкові дисципліни не можуть бути обрані вручну. Студенти автоматично зараховуються на них.";
+                }
+                if (student.isEnrolledIn(discipline.getDisciplineId())) {
+                    return "Помилка запису. Ви вже записані на дисципліну " + discipline.getName() + ".";
+                }
+                Discipline clash = student.findClash(discipline);
+                if (clash == null && (batchSlots & discipline.getScheduleSlots()) != 0) {
+                    clash = findClash(batch.subList(0, i), discipline);
+                }
+                if (clash != null) {
+                    return clashMessage(discipline, clash) + " Жодну з обраних дисциплін не записано.";
+                }
+                batchCredits += discipline.getCredits();
+                batchSlots |= discipline.getScheduleSlots();
+            }
+
+            double currentTotalCredits = student.getTotalCredits();
+            double newTotalCredits = currentTotalCredits + batchCredits;
+            int courseCreditLimit = COURSE_CREDIT_LIMITS.getOrDefault(student.getCourse(), Integer.MAX_VALUE);
+            if (newTotalCredits > courseCreditLimit) {
+                return "Помилка запису. Запис на обрані дисципліни призведе до перевищення сумарної кількости кредитів (" + courseCreditLimit + ") для " + student.getCourse() + "-го курсу. Поточна сума: " + currentTotalCredits + ", з обраними дисциплінами: " + newTotalCredits + ".";
+            }
+
+            long[] satisfied = satisfiedSet(student);
+            for (Discipline discipline : batch) {
+                prerequisites.add(satisfied, discipline.getDisciplineId());
+            }
+            for (Discipline discipline : batch) {
+                String locked = prerequisiteRejection(discipline, satisfied);
+                if (locked != null) {
+                    return locked + " Жодну з обраних дисциплін не записано.";
+                }
+            }
+
+            full = takeSeats(batch);
+            if (full == null) {
+                for (Discipline discipline : batch) {
+                    student.enrollDiscipline(discipline);
+                    journalEnrolled(student, discipline);
+                    leaveWaitlist(studentId, discipline.getDisciplineId());
+                }
+            }
         }
-        else if (!discipline.hasAvailableSlots()) {
-            return "На жаль, Ви не встигли. На дисципліну " + discipline.getName() + " записана максимальна кількість студентів.";
+        if (full != null) {
+            // Outside the student's lock, as in dropStudentFromDiscipline: a waitlist promotion locks another student
+            offerToWaitlists(batch.subList(0, batch.indexOf(full)));
+            return "На жаль, Ви не встигли. На дисципліну " + full.getName() + " записана максимальна кількість студентів. Жодну з обраних дисциплін не записано.";
         }
-        else {
-            student.enrollDiscipline(discipline);
-            discipline.enrollStudent();
-            return "Успішний запис! Ви записані на вибіркову дисципліну " + discipline.getName() + ".";
+
+        StringBuilder names = new StringBuilder();
+        for (Discipline discipline : batch) {
+            names.append(names.length() == 0 ? "" : ", ").append(discipline.getName());
         }
+        return "Успішний запис! Ви записані на вибіркові дисципліни (" + batch.size() + "): " + names + ".";
+    }
+
+    /**
+     * Returns why a discipline cannot be dropped because held disciplines depend on it, or null if it can.
+     * The caller holds the student's monitor.
+     */
+    private String dependentsRejection(Student student, Discipline discipline) {
+        PrerequisiteGraph graph = prerequisites;
+        long[] completed = completedDisciplines.get(student.getStudentId());
+        if (completed != null && graph.contains(completed, discipline.getDisciplineId())) {
+            return null; // Passed before, so the dependents keep their prerequisite
+        }
+        long[] held = graph.newSet();
+        for (Discipline enrolled : student.getEnrolledDisciplines()) {
+            graph.add(held, enrolled.getDisciplineId());
+        }
+        long[] invalidated = graph.invalidatedBy(discipline.getDisciplineId(), held);
+        if (PrerequisiteGraph.isEmpty(invalidated)) {
+            return null;
+        }
+        return "Помилка виписки. Дисципліна " + discipline.getName() + " є передумовою для обраних дисциплін: "
+                + graph.describe(invalidated) + ". Спершу випишіться з них.";
+    }
+
+    private static Discipline findClash(List<Discipline> disciplines, Discipline discipline) {
+        for (Discipline other : disciplines) {
+            if ((other.getScheduleSlots() & discipline.getScheduleSlots()) != 0) {
+                return other;
+            }
+        }
+        return null;
     }
 
     /**
@@ -233,20 +1060,29 @@ public class EnrollmentSystem {
             return "Помилка виписки. з обов'язкових дисциплін не можна виписатися вручну.";
         }
 
-        // 2. Check if the student is actually enrolled in this discipline
-        if (!student.getEnrolledDisciplines().contains(discipline)) {
-            return "Помилка виписки. Ви не записані на дисципліну " + discipline.getName() + ".";
-        }
+        synchronized (student) {
+            // 2. Check if the student is actually enrolled in this discipline
+            if (!student.isEnrolledIn(discipline.getDisciplineId())) {
+                return "Помилка виписки. Ви не записані на дисципліну " + discipline.getName() + ".";
+            }
 
-        // If all checks pass, proceed with unenrollment
-        if (discipline.dropStudent()) { // Decrement enrolled student counter for the discipline
+            // 3. A discipline cannot be dropped while it is the only way a held one meets its prerequisites
+            String dependents = dependentsRejection(student, discipline);
+            if (dependents != null) {
+                return dependents;
+            }
             student.dropDiscipline(discipline); // Remove discipline from student's list
+            EnrollmentJournal currentJournal = journal;
+            if (currentJournal != null) {
+                currentJournal.dropped(student, discipline);
+            }
+        }
+
+        // The seat is released outside the student's lock: it may be handed to a waitlisted student,
+        // whose lock is taken then, and holding two student locks at once could deadlock
+        if (releaseSeat(discipline)) {
             return "Успішна виписка! Ви виписані з дисципліни " + discipline.getName() + ".";
         }
         return "Невідома помилка під час спроби виписки з дисципліни.";
     }
-
-    public int getVirtualStudentsEnrolledCount() {
-        return virtualStudentsEnrolledCount;
-    }
 }
\ No newline at end of file
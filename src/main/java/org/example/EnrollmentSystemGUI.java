@@ -2,22 +2,31 @@ package org.example;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import gui.FrameScheduler;
 import gui.LoadingFrame; // Assuming this class exists for loading animations
 import gui.PauseAction; // Assuming this class exists for handling pause functionality
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import static org.example.EnrollmentSystem.UNLIMITED_CAPACITY; // Static import for unlimited capacity constant
 
 import static java.awt.Color.*; // Static import for common Color constants
-import static org.example.EnrollmentSystem.MANDATORY_DISCIPLINE_CAPACITY; // Static import for mandatory discipline capacity
 
 /**
  * The `EnrollmentSystemGUI` class provides a graphical user interface for students
@@ -32,6 +41,7 @@ public class EnrollmentSystemGUI extends JFrame {
      * The file path for saving/loading enrollment data using GSON.
      */
     private static final String ENROLLMENT_FILE = "enrollment_data.json";
+    private static final Path JOURNAL_DIRECTORY = Path.of(""); // Next to ENROLLMENT_FILE
     /**
      * GSON instance for JSON serialization and deserialization, configured for pretty printing.
      */
@@ -51,27 +61,27 @@ public class EnrollmentSystemGUI extends JFrame {
      */
     private JList<Discipline> mandatoryDisciplineList;
     /**
-     * DefaultListModel for managing data in `mandatoryDisciplineList`.
+     * Model of `mandatoryDisciplineList`, updated with targeted change events.
      */
-    private DefaultListModel<Discipline> mandatoryListModel;
+    private DisciplineListModel mandatoryListModel;
 
     /**
      * JList to display available elective disciplines.
      */
     private JList<Discipline> electiveDisciplineList;
     /**
-     * DefaultListModel for managing data in `electiveDisciplineList`.
+     * Model of `electiveDisciplineList`, updated with targeted change events.
      */
-    private DefaultListModel<Discipline> electiveListModel;
+    private DisciplineListModel electiveListModel;
 
     /**
      * JList to display disciplines the student has already enrolled in.
      */
     private JList<Discipline> enrolledElectiveList;
     /**
-     * DefaultListModel for managing data in `enrolledElectiveList`.
+     * Model of `enrolledElectiveList`, updated with targeted change events.
      */
-    private DefaultListModel<Discipline> enrolledElectiveListModel;
+    private DisciplineListModel enrolledElectiveListModel;
 
     /**
      * Button to enroll in a selected elective discipline.
@@ -85,6 +95,34 @@ public class EnrollmentSystemGUI extends JFrame {
      * Button to confirm the student's elective selections.
      */
     private JButton confirmSelectionButton;
+    /**
+     * Button to ask for the best elective sets to reach the required credits.
+     */
+    private JButton recommendButton;
+    /**
+     * JLabel showing the current best recommendation, kept up to date while seats change.
+     */
+    private JLabel recommendationLabel;
+    /**
+     * Computes elective recommendations for the player; null until the window is set up.
+     */
+    private ElectiveRecommender recommender;
+    /**
+     * Whether the player has asked for recommendations, so they are refreshed as seats change.
+     */
+    private boolean recommendationsWanted;
+    /**
+     * Whether a recommendation is being computed in the background.
+     */
+    private boolean recommendationRunning;
+    /**
+     * Whether the enrollment changed while a recommendation was being computed.
+     */
+    private boolean recommendationStale;
+    /**
+     * Whether the next finished recommendation should be shown in a dialog.
+     */
+    private boolean recommendationDialogPending;
 
     /**
      * Text field for entering search queries.
@@ -108,26 +146,125 @@ public class EnrollmentSystemGUI extends JFrame {
      */
     private Student student;
     /**
-     * Timer for automatically enrolling virtual students in elective disciplines.
+     * Simulation of the other students registering at the same time as the player.
+     */
+    private RegistrationRushSimulator rushSimulator;
+    /**
+     * Scheduler subscription that shows the latest simulation snapshot.
      */
-    private Timer autoEnrollTimer;
+    private FrameScheduler.Subscription rushView;
     /**
-     * Random instance used for simulating "glitches" or events (e.g., warnings).
+     * Sequence number of the last simulation snapshot shown in the window.
      */
-    private Random randomGlitches = new Random();
+    private long lastRushSnapshot = -1;
+    /**
+     * Time slots of the player's timetable when the elective list was last repainted for clashes.
+     */
+    private long shownBusySlots = -1;
+    /**
+     * Seats taken per discipline in the last shown snapshot, in the snapshot's order; null before the first.
+     */
+    private int[] shownEnrollment;
+    /**
+     * JLabel showing how many other students are registering right now.
+     */
+    private JLabel rushStatusLabel;
+    /**
+     * Notified by the enrollment system when the player gets a seat from a waitlist.
+     */
+    private final EnrollmentSystem.WaitlistListener waitlistListener = this::onWaitlistPromotion;
+    /**
+     * Journal of this session's changes, so the session can be resumed after a crash; null if it could not be opened.
+     */
+    private EnrollmentJournal journal;
+    /**
+     * The enrollment system as the player reaches it: slow and unreliable, like the real САЗ during registration.
+     */
+    private FaultInjectingEnrollmentService enrollmentService;
+    /**
+     * True while a request of the player is being processed; enrolling, dropping and confirming wait for it.
+     */
+    private boolean requestPending;
+    /**
+     * JLabel showing that a request is being processed.
+     */
+    private JLabel serviceStatusLabel;
+    /**
+     * True once the player has handed in preferences to the allocation round.
+     */
+    private boolean preferencesSubmitted;
 
     // Define custom colors for the UI, inspired by Sims
+    // Preference of an elective selected in the list over the others when recommending
+    private static final double FAVORITE_ELECTIVE_PREFERENCE = 3.0;
+    private static final int RECOMMENDATION_OPTIONS = 3;
+    // A request taking longer than this is reported as "system temporarily unavailable"
+    private static final int SLOW_REQUEST_NOTICE_MS = 300;
+    // Registration opens with a window in which preferences are collected and then allocated at once
+    private static final long ALLOCATION_WINDOW_MS = 4000;
+    // Seed of the injected service faults; another one can be given with -Denrollment.faultSeed=<number>
+    private static final String FAULT_SEED_PROPERTY = "enrollment.faultSeed";
+    private static final long DEFAULT_FAULT_SEED = 20240901L;
+
     private static final Color SIMS_LIGHT_PINK = new Color(255, 233, 243);
     private static final Color SIMS_MEDIUM_PINK = new Color(255, 212, 222);
     private static final Color SIMS_LIGHT_BLUE = new Color(173, 216, 230);
     private static final Color SIMS_DARK_TEXT = new Color(50, 50, 50);
 
+    // Text colors of elective rows by seat availability, created once instead of on every paint
+    private static final Color UNLIMITED_SEATS_COLOR = new Color(0, 100, 0);
+    private static final Color NEARLY_FULL_COLOR = new Color(200, 100, 0);
+    private static final Color NO_SEATS_COLOR = RED.darker();
+    private static final double NEARLY_FULL_SHARE = 0.75;
+    private static final Color CLASH_COLOR = Color.GRAY;
+
     /**
      * An internal static class that customizes how {@link Discipline} objects
      * are rendered in a {@link JList}. It displays discipline name, and enrollment
      * capacity, applying color-coding based on availability.
+     * <p>
+     * The text of a row depends only on the discipline and its seat count, so it is built once per
+     * discipline and kept until the seat count changes; painting a row whose seats have not moved
+     * allocates nothing. Colors come from the fixed tiers above. Used together with fixed cell
+     * metrics (see {@link #useFixedCellMetrics}), so the list never measures its rows.
      */
     static class DisciplineListRenderer extends DefaultListCellRenderer {
+        /**
+         * Row text of one discipline and the seat count and clashing time slots it was built for.
+         */
+        private static final class CachedText {
+            private final int enrolled;
+            private final long clashSlots;
+            private final String text;
+
+            private CachedText(int enrolled, long clashSlots, String text) {
+                this.enrolled = enrolled;
+                this.clashSlots = clashSlots;
+                this.text = text;
+            }
+        }
+
+        private final Map<Discipline, CachedText> texts = new HashMap<>();
+        private final Student timetableOwner; // Null if clashes are not marked
+
+        DisciplineListRenderer() {
+            this(null);
+        }
+
+        /**
+         * Creates a renderer that greys out the electives clashing with a student's timetable and
+         * names the clashing pairs. The check is one AND per row (see {@link Timetable}).
+         *
+         * @param timetableOwner The student whose timetable is checked.
+         */
+        DisciplineListRenderer(Student timetableOwner) {
+            this.timetableOwner = timetableOwner;
+        }
+
+        boolean marksClashes() {
+            return timetableOwner != null;
+        }
+
         /**
          * Returns the component used for drawing the cell.
          *
@@ -140,37 +277,88 @@ public class EnrollmentSystemGUI extends JFrame {
          */
         @Override
         public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
-            JLabel label = (JLabel) super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
-            if (value instanceof Discipline) {
-                Discipline disc = (Discipline) value;
-                String capacityText;
-
-                if (disc.isMandatory()) {
-                    // For mandatory disciplines, show max capacity as fixed enrollment
-                    capacityText = "Зайнято місць: " + disc.getMaxCapacity() + "/" + disc.getMaxCapacity();
-                    label.setForeground(list.getForeground()); // Default text color
-                } else {
-                    // For elective disciplines
-                    if (disc.getMaxCapacity() == UNLIMITED_CAPACITY) {
-                        capacityText = "Зайнято місць: " + disc.getCurrentEnrollment() + "/необмежено";
-                        label.setForeground(new Color(0, 100, 0)); // Green for unlimited
-                    } else {
-                        capacityText = "Зайнято місць: " + disc.getCurrentEnrollment() + "/" + disc.getMaxCapacity();
-                        // Color logic for limited electives based on availability
-                        if (!disc.hasAvailableSlots()) {
-                            label.setForeground(RED.darker()); // Dark red if no slots
-                        } else if (disc.getCurrentEnrollment() > disc.getMaxCapacity() * 0.75) {
-                            label.setForeground(new Color(200, 100, 0)); // Orange if nearly full
-                        } else {
-                            label.setForeground(list.getForeground()); // Default if plenty of slots
-                        }
-                    }
-                }
-                // Set the display text for the list item
-                label.setText(disc.getName() + " (" + capacityText + ")");
+            if (!(value instanceof Discipline)) {
+                return super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            }
+            Discipline disc = (Discipline) value;
+            int enrolled = disc.getCurrentEnrollment(); // Read once, the simulation may change it meanwhile
+            long clashSlots = timetableOwner == null || disc.isMandatory() ? 0
+                    : timetableOwner.getBusySlots() & disc.getScheduleSlots();
+            // The cached string is passed as the value, so the base class does not call toString()
+            JLabel label = (JLabel) super.getListCellRendererComponent(list, textOf(disc, enrolled, clashSlots), index, isSelected, cellHasFocus);
+
+            int maxCapacity = disc.getMaxCapacity();
+            if (clashSlots != 0) {
+                label.setForeground(CLASH_COLOR);
+            } else if (disc.isMandatory()) {
+                label.setForeground(list.getForeground()); // Default text color
+            } else if (maxCapacity == UNLIMITED_CAPACITY) {
+                label.setForeground(UNLIMITED_SEATS_COLOR);
+            } else if (enrolled >= maxCapacity) {
+                label.setForeground(NO_SEATS_COLOR);
+            } else if (enrolled > maxCapacity * NEARLY_FULL_SHARE) {
+                label.setForeground(NEARLY_FULL_COLOR);
+            } else {
+                label.setForeground(list.getForeground()); // Default if plenty of slots
             }
             return label;
         }
+
+        /**
+         * Returns the row text of a discipline, building it again only if its seat count or its clash
+         * with the timetable has changed.
+         */
+        private String textOf(Discipline disc, int enrolled, long clashSlots) {
+            CachedText cached = texts.get(disc);
+            if (cached == null || cached.enrolled != enrolled || cached.clashSlots != clashSlots) {
+                String text = disc.getName() + " (" + capacityText(disc, enrolled) + ")";
+                cached = new CachedText(enrolled, clashSlots, clashSlots == 0 ? text : text + clashText(clashSlots));
+                texts.put(disc, cached);
+            }
+            return cached.text;
+        }
+
+        static String clashText(long clashSlots) {
+            return " — накладка в розкладі: " + Timetable.format(clashSlots);
+        }
+
+        private static String capacityText(Discipline disc, int enrolled) {
+            if (disc.isMandatory()) {
+                // For mandatory disciplines, show max capacity as fixed enrollment
+                return "Зайнято місць: " + disc.getMaxCapacity() + "/" + disc.getMaxCapacity();
+            }
+            if (disc.getMaxCapacity() == UNLIMITED_CAPACITY) {
+                return "Зайнято місць: " + enrolled + "/необмежено";
+            }
+            return "Зайнято місць: " + enrolled + "/" + disc.getMaxCapacity();
+        }
+    }
+
+    /**
+     * Gives a discipline list a fixed row size, measured once from the discipline with the longest
+     * name, so that painting and scrolling do not measure every row. A list that marks clashes is made
+     * wide enough for a clash note on three pairs. Must be called after the font and the renderer of
+     * the list are set.
+     *
+     * @param list The list to configure.
+     * @param disciplines The disciplines the list can show.
+     */
+    private static void useFixedCellMetrics(JList<Discipline> list, List<Discipline> disciplines) {
+        Discipline longest = null;
+        for (Discipline disc : disciplines) {
+            if (longest == null || disc.getName().length() > longest.getName().length()) {
+                longest = disc;
+            }
+        }
+        if (longest != null) {
+            list.setPrototypeCellValue(longest);
+            ListCellRenderer<?> renderer = list.getCellRenderer();
+            if (renderer instanceof DisciplineListRenderer && ((DisciplineListRenderer) renderer).marksClashes()) {
+                long widestClash = Timetable.slotOf(0, 1) | Timetable.slotOf(1, 1) | Timetable.slotOf(2, 1);
+                list.setFixedCellWidth(list.getFixedCellWidth()
+                        + list.getFontMetrics(list.getFont()).stringWidth(DisciplineListRenderer.clashText(widestClash)));
+            }
+        }
     }
 
     /**
@@ -206,31 +394,47 @@ public class EnrollmentSystemGUI extends JFrame {
         // Show initial instructions to the user
         showInstructionsDialog();
 
-        // --- Degree and Course Selection ---
-        String selectedDegree = showDegreeSelectionDialog();
-        if (selectedDegree == null) {
-            System.exit(0); // Exit if degree selection is canceled
+        // A journal left behind means the previous session did not finish; it can be resumed
+        EnrollmentJournal.Recovery recovery = EnrollmentJournal.recover(JOURNAL_DIRECTORY);
+        if (recovery != null && !offerResume(recovery)) {
+            EnrollmentJournal.delete(JOURNAL_DIRECTORY);
+            recovery = null;
         }
 
-        int selectedCourse = showCourseSelectionDialog(selectedDegree);
-        if (selectedCourse == -1) {
-            System.exit(0); // Exit if course selection is canceled or invalid
+        // --- Degree and Course Selection ---
+        String selectedDegree;
+        int selectedCourse;
+        if (recovery != null) {
+            selectedDegree = recovery.getDegree();
+            selectedCourse = recovery.getCourse();
+        } else {
+            selectedDegree = showDegreeSelectionDialog();
+            if (selectedDegree == null) {
+                System.exit(0); // Exit if degree selection is canceled
+            }
+
+            selectedCourse = showCourseSelectionDialog(selectedDegree);
+            if (selectedCourse == -1) {
+                System.exit(0); // Exit if course selection is canceled or invalid
+            }
         }
 
         showStartAnimation(); // Show a brief start animation
 
         // Initialize student and discipline data based on selected degree and course
-        if (selectedDegree.equals("Бакалаврат")) {
-            initializeInitialDataB(selectedCourse); // Load Bachelor's data
-        } else if (selectedDegree.equals("Магістратура")) {
-            initializeInitialDataM(selectedCourse); // Load Master's data
-        }
+        initializeInitialData(selectedDegree, selectedCourse);
 
         // Automatically enroll the student in all mandatory disciplines for their course
         for (Discipline mandatoryDisc : enrollmentSystem.getMandatoryDisciplines(student.getCourse())) {
             student.enrollDiscipline(mandatoryDisc);
         }
 
+        // Replay the unfinished session on top of the same catalog, then journal everything from here on
+        if (recovery != null) {
+            recovery.applyTo(enrollmentSystem);
+        }
+        openJournal(recovery, selectedDegree, selectedCourse);
+
         setSize(1200, 800); // Set window size
         setLocationRelativeTo(null); // Center the window on screen
         setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE); // Custom close behavior
@@ -244,7 +448,15 @@ public class EnrollmentSystemGUI extends JFrame {
         studentInfoLabel = new JLabel();
         studentInfoLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
         studentInfoPanel.add(studentInfoLabel);
+        recommendationLabel = new JLabel();
+        recommendationLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        studentInfoPanel.add(recommendationLabel);
+        serviceStatusLabel = new JLabel();
+        serviceStatusLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        studentInfoPanel.add(serviceStatusLabel);
         mainPanel.add(studentInfoPanel, BorderLayout.NORTH);
+        recommender = new ElectiveRecommender(enrollmentSystem, student, enrollmentSystem.getElectiveDisciplines(student.getCourse()),
+                EnrollmentSystem.MIN_CREDITS_TO_CONFIRM, EnrollmentSystem.getCourseCreditLimit(student.getCourse()));
 
         // Panel for elective and enrolled elective disciplines (top part of the content)
         JPanel topContentPanel = new JPanel(new BorderLayout());
@@ -253,11 +465,12 @@ public class EnrollmentSystemGUI extends JFrame {
         // Elective Disciplines Panel (Available for Enrollment)
         JPanel electivePanel = new JPanel(new BorderLayout(5, 5));
         electivePanel.setBorder(BorderFactory.createTitledBorder("Вибіркові дисципліни (доступні для запису)"));
-        electiveListModel = new DefaultListModel<>();
+        electiveListModel = new DisciplineListModel();
         electiveDisciplineList = new JList<>(electiveListModel);
-        electiveDisciplineList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-        electiveDisciplineList.setCellRenderer(new DisciplineListRenderer()); // Apply custom renderer
+        electiveDisciplineList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION); // Several electives are enrolled in one go
+        electiveDisciplineList.setCellRenderer(new DisciplineListRenderer(student)); // Apply custom renderer, marking clashes
         electiveDisciplineList.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        useFixedCellMetrics(electiveDisciplineList, enrollmentSystem.getElectiveDisciplines(student.getCourse()));
         electivePanel.add(new JScrollPane(electiveDisciplineList), BorderLayout.CENTER);
         electiveDisciplineList.addMouseListener(new DisciplineInfoMouseAdapter()); // Add mouse listener for info dialogs
 
@@ -276,6 +489,9 @@ public class EnrollmentSystemGUI extends JFrame {
         searchPanel.add(searchCriteriaCombo);
         searchPanel.add(searchField);
         searchPanel.add(searchButton);
+        rushStatusLabel = new JLabel();
+        rushStatusLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        searchPanel.add(rushStatusLabel);
         electivePanel.add(searchPanel, BorderLayout.NORTH);
 
         // Buttons for elective enrollment/drop/confirmation
@@ -287,11 +503,18 @@ public class EnrollmentSystemGUI extends JFrame {
         confirmSelectionButton = new JButton("Готово (кредитів: 0)"); // Initial text, updated dynamically
         confirmSelectionButton.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         confirmSelectionButton.setEnabled(false); // Disabled initially
+        recommendButton = new JButton("Порадити дисципліни");
+        recommendButton.setFont(new Font("Segoe UI", Font.PLAIN, 12));
 
         // Add action listeners to buttons
         enrollElectiveButton.addActionListener(e -> attemptEnrollment());
         dropElectiveButton.addActionListener(e -> attemptDrop());
         confirmSelectionButton.addActionListener(e -> confirmSelection());
+        recommendButton.addActionListener(e -> {
+            recommendationsWanted = true;
+            recommendationDialogPending = true;
+            refreshRecommendations();
+        });
 
         searchButton.addActionListener(e -> {
             String text = searchField.getText();
@@ -305,19 +528,38 @@ public class EnrollmentSystemGUI extends JFrame {
             filterElectiveDisciplines(text, criterion);
         });
 
+        // The index answers in microseconds, so the list is filtered live while typing
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                filterElectiveDisciplines(searchField.getText(), (String) searchCriteriaCombo.getSelectedItem());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                filterElectiveDisciplines(searchField.getText(), (String) searchCriteriaCombo.getSelectedItem());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+
         electiveButtonsPanel.add(enrollElectiveButton);
         electiveButtonsPanel.add(dropElectiveButton);
+        electiveButtonsPanel.add(recommendButton);
         electiveButtonsPanel.add(confirmSelectionButton);
         electivePanel.add(electiveButtonsPanel, BorderLayout.SOUTH);
 
         // Panel for Enrolled Electives
         JPanel enrolledElectivePanel = new JPanel(new BorderLayout(5, 5));
         enrolledElectivePanel.setBorder(BorderFactory.createTitledBorder("Обрані вибіркові дисципліни"));
-        enrolledElectiveListModel = new DefaultListModel<>();
+        enrolledElectiveListModel = new DisciplineListModel();
         enrolledElectiveList = new JList<>(enrolledElectiveListModel);
         enrolledElectiveList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         enrolledElectiveList.setCellRenderer(new DisciplineListRenderer()); // Apply custom renderer
         enrolledElectiveList.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        useFixedCellMetrics(enrolledElectiveList, enrollmentSystem.getElectiveDisciplines(student.getCourse()));
         enrolledElectivePanel.add(new JScrollPane(enrolledElectiveList), BorderLayout.CENTER);
         enrolledElectiveList.addMouseListener(new DisciplineInfoMouseAdapter()); // Add mouse listener for info dialogs
 
@@ -331,6 +573,7 @@ public class EnrollmentSystemGUI extends JFrame {
         if ("Бакалаврат".equals(selectedDegree) && selectedCourse == 1) {
             enrollElectiveButton.setEnabled(false);
             dropElectiveButton.setEnabled(false);
+            recommendButton.setEnabled(false);
             searchField.setEnabled(false);
             searchButton.setEnabled(false);
 
@@ -360,12 +603,13 @@ public class EnrollmentSystemGUI extends JFrame {
         // Mandatory Disciplines Panel (bottom part of the content)
         JPanel mandatoryPanel = new JPanel(new BorderLayout(5, 5));
         mandatoryPanel.setBorder(BorderFactory.createTitledBorder("Обов'язкові дисципліни"));
-        mandatoryListModel = new DefaultListModel<>();
+        mandatoryListModel = new DisciplineListModel();
         mandatoryDisciplineList = new JList<>(mandatoryListModel);
         mandatoryDisciplineList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         mandatoryDisciplineList.setCellRenderer(new DisciplineListRenderer());
         mandatoryDisciplineList.setEnabled(false); // Mandatory disciplines are not selectable
         mandatoryDisciplineList.setFont(new Font("Segoe UI", Font.BOLD, 13));
+        useFixedCellMetrics(mandatoryDisciplineList, enrollmentSystem.getMandatoryDisciplines(student.getCourse()));
         mandatoryPanel.add(new JScrollPane(mandatoryDisciplineList), BorderLayout.CENTER);
         mandatoryDisciplineList.addMouseListener(new DisciplineInfoMouseAdapter()); // Add mouse listener for info dialogs
 
@@ -385,6 +629,7 @@ public class EnrollmentSystemGUI extends JFrame {
 
         enrollElectiveButton.setBackground(simsAccent);
         dropElectiveButton.setBackground(simsAccent);
+        recommendButton.setBackground(simsAccent);
         confirmSelectionButton.setBackground(simsAccent);
         searchButton.setBackground(simsAccent);
 
@@ -426,21 +671,16 @@ public class EnrollmentSystemGUI extends JFrame {
         updateStudentInfoDisplay();
         updateConfirmButtonState();
 
-        // Timer for automatic virtual student enrollment simulation
-        autoEnrollTimer = new Timer(0, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                // Stop the timer if max virtual students have completed their picks
-                if (enrollmentSystem.getVirtualStudentsEnrolledCount() >= EnrollmentSystem.MAX_VIRTUAL_STUDENTS_TO_ENROLL) {
-                    autoEnrollTimer.stop();
-                    return;
-                }
-                enrollmentSystem.randomlyIncrementElectiveEnrollment(); // Simulate enrollment
-                electiveDisciplineList.repaint(); // Repaint lists to show changes
-                enrolledElectiveList.repaint();
-            }
-        });
-        autoEnrollTimer.start(); // Start the auto-enrollment simulation
+        // Other students register at the same time; the window only shows the simulation's snapshots
+        rushSimulator = new RegistrationRushSimulator(enrollmentSystem, enrollmentSystem.getAllElectiveDisciplines(),
+                EnrollmentSystem.MAX_VIRTUAL_STUDENTS_TO_ENROLL, 5, 5000, 3000);
+        rushSimulator.useAllocationWindow(ALLOCATION_WINDOW_MS, SeatAllocationEngine.Mechanism.DEFERRED_ACCEPTANCE);
+        enrollmentSystem.addWaitlistListener(waitlistListener);
+        long faultSeed = Long.getLong(FAULT_SEED_PROPERTY, DEFAULT_FAULT_SEED);
+        enrollmentService = new FaultInjectingEnrollmentService(enrollmentSystem,
+                FaultInjectingEnrollmentService.FaultProfile.OVERLOADED, faultSeed);
+        rushSimulator.start();
+        rushView = FrameScheduler.getInstance().subscribe("Запис інших студентів", this, 250, frame -> showRushSnapshot());
 
         // Custom window close listener for confirmation
         addWindowListener(new WindowAdapter() {
@@ -458,15 +698,195 @@ public class EnrollmentSystemGUI extends JFrame {
                 );
 
                 if (confirm == JOptionPane.YES_OPTION) {
-                    if (autoEnrollTimer != null) {
-                        autoEnrollTimer.stop(); // Stop the timer before closing
-                    }
+                    stopRegistrationRush(); // Stop the simulation before closing
+                    discardJournal(); // The game was ended on purpose, there is nothing to resume
                     EnrollmentSystemGUI.this.dispose();
                 }
             }
         });
     }
 
+    /**
+     * Shows the latest snapshot of the registration rush: repaints only the rows of disciplines whose
+     * seat count has changed and updates the status label. Stops watching once the simulation has finished.
+     */
+    private void showRushSnapshot() {
+        RegistrationRushSimulator.Snapshot snapshot = rushSimulator.getLatestSnapshot();
+        if (snapshot == null || snapshot.getSequence() == lastRushSnapshot) {
+            return;
+        }
+        lastRushSnapshot = snapshot.getSequence();
+
+        List<RegistrationRushSimulator.DisciplineStats> stats = snapshot.getDisciplines();
+        if (shownEnrollment == null) {
+            shownEnrollment = new int[stats.size()];
+            Arrays.fill(shownEnrollment, -1);
+        }
+        boolean seatsChanged = false;
+        for (int i = 0; i < stats.size(); i++) {
+            int enrolled = stats.get(i).getEnrolled();
+            if (enrolled != shownEnrollment[i]) {
+                shownEnrollment[i] = enrolled;
+                electiveListModel.disciplineChanged(stats.get(i).getDiscipline());
+                enrolledElectiveListModel.disciplineChanged(stats.get(i).getDiscipline());
+                seatsChanged = true;
+            }
+        }
+        if (seatsChanged) {
+            refreshRecommendations();
+        }
+        if (snapshot.isFinished()) {
+            rushStatusLabel.setText("");
+            rushView.cancel();
+        } else if (isAllocationWindowOpen()) {
+            rushStatusLabel.setText("Триває подача побажань. Зараз записуються: " + snapshot.getActiveStudents());
+        } else {
+            rushStatusLabel.setText("Зараз записуються: " + snapshot.getActiveStudents());
+        }
+    }
+
+    /**
+     * Stops the registration rush simulation, the view of its snapshots and the enrollment service,
+     * and takes the player off every waitlist so the choice cannot change any more.
+     */
+    private void stopRegistrationRush() {
+        if (rushSimulator != null) {
+            rushSimulator.stop();
+        }
+        if (rushView != null) {
+            rushView.cancel();
+        }
+        if (enrollmentService != null) {
+            enrollmentService.shutdown();
+        }
+        enrollmentSystem.removeWaitlistListener(waitlistListener);
+        enrollmentSystem.leaveAllWaitlists(student.getStudentId());
+        recommendationsWanted = false;
+    }
+
+    /**
+     * Recomputes the elective recommendations in the background if the player has asked for them.
+     * Requests made while a computation is running are folded into one more run after it.
+     * The electives selected in the list are preferred over the others.
+     */
+    private void refreshRecommendations() {
+        if (!recommendationsWanted || recommender == null) {
+            return;
+        }
+        if (recommendationRunning) {
+            recommendationStale = true;
+            return;
+        }
+        recommendationRunning = true;
+        recommendationStale = false;
+
+        Map<String, Double> preferences = new HashMap<>();
+        for (Discipline favorite : electiveDisciplineList.getSelectedValuesList()) {
+            preferences.put(favorite.getDisciplineId(), FAVORITE_ELECTIVE_PREFERENCE);
+        }
+
+        new SwingWorker<List<ElectiveRecommender.Recommendation>, Void>() {
+            @Override
+            protected List<ElectiveRecommender.Recommendation> doInBackground() {
+                recommender.setPreferences(preferences);
+                return recommender.recommend(RECOMMENDATION_OPTIONS);
+            }
+
+            @Override
+            protected void done() {
+                recommendationRunning = false;
+                try {
+                    showRecommendations(get());
+                } catch (Exception ex) {
+                    recommendationLabel.setText("");
+                    appendOutput("Не вдалося підібрати дисципліни: " + ex.getMessage() + "\n");
+                }
+                if (recommendationStale) {
+                    refreshRecommendations();
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Shows the best recommendation in the label and, if the player has just asked, all of them in a
+     * dialog that offers to enroll in the first one.
+     */
+    private void showRecommendations(List<ElectiveRecommender.Recommendation> recommendations) {
+        if (!recommendationsWanted) {
+            recommendationLabel.setText("");
+            return;
+        }
+        if (recommendations.isEmpty()) {
+            recommendationLabel.setText("Порада: вільних місць не вистачає, щоб набрати " + EnrollmentSystem.MIN_CREDITS_TO_CONFIRM + " кредитів.");
+        } else if (recommendations.get(0).getDisciplines().isEmpty()) {
+            recommendationLabel.setText("Порада: кредитів уже достатньо.");
+        } else {
+            recommendationLabel.setText("Порада: " + describe(recommendations.get(0)));
+        }
+
+        if (!recommendationDialogPending) {
+            return;
+        }
+        recommendationDialogPending = false;
+        if (recommendations.isEmpty() || recommendations.get(0).getDisciplines().isEmpty()) {
+            appendOutput(recommendationLabel.getText() + "\n");
+            return;
+        }
+        StringBuilder message = new StringBuilder("Найкращі набори дисциплін (обрані у списку враховуються першими):\n");
+        for (int i = 0; i < recommendations.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(describe(recommendations.get(i)));
+        }
+        Object[] options = {"Записатися на варіант 1", "Закрити"};
+        int choice = JOptionPane.showOptionDialog(this, message.toString(), "Порада",
+                JOptionPane.YES_NO_OPTION, JOptionPane.INFORMATION_MESSAGE, null, options, options[0]);
+        if (choice == JOptionPane.YES_OPTION) {
+            attemptBatchEnrollment(recommendations.get(0).getDisciplines());
+        }
+    }
+
+    private static String describe(ElectiveRecommender.Recommendation recommendation) {
+        StringBuilder text = new StringBuilder();
+        for (Discipline discipline : recommendation.getDisciplines()) {
+            text.append(text.length() == 0 ? "" : ", ").append(discipline.getName());
+        }
+        return text + " (+" + recommendation.getAddedCredits() + ", разом " + recommendation.getTotalCredits() + " кредитів)";
+    }
+
+    /**
+     * Called by the enrollment system, on the thread that freed the seat, when a waitlisted student
+     * has been enrolled. Tells the player on the event dispatch thread.
+     */
+    private void onWaitlistPromotion(Student promoted, Discipline discipline) {
+        if (promoted != student) {
+            return;
+        }
+        SwingUtilities.invokeLater(() -> {
+            updateDisciplineLists();
+            MusicPlayer.getInstance().playSuccess();
+            appendOutput("Звільнилося місце! Вас переведено з черги та записано на дисципліну " + discipline.getName() + ".\n");
+        });
+    }
+
+    /**
+     * Offers to put the player on the waitlist of a full elective after a failed enrollment.
+     */
+    private void offerWaitlist(Discipline discipline) {
+        Object[] options = {"Так", "Ні"};
+        int choice = JOptionPane.showOptionDialog(this,
+                "На дисципліну " + discipline.getName() + " немає вільних місць. Стати в чергу? Вас буде записано автоматично, щойно звільниться місце.",
+                "Черга на дисципліну",
+                JOptionPane.YES_NO_OPTION,
+                JOptionPane.QUESTION_MESSAGE,
+                null,
+                options,
+                options[0]);
+        if (choice == JOptionPane.YES_OPTION) {
+            appendOutput(enrollmentSystem.joinWaitlist(student.getStudentId(), discipline.getDisciplineId()) + "\n");
+            updateDisciplineLists();
+        }
+    }
+
     /**
      * Displays an introductory instruction dialog to the user at the start of the GUI.
      * The instructions explain how to use the enrollment system.
@@ -656,801 +1076,85 @@ public class EnrollmentSystemGUI extends JFrame {
         final Color[] textColors = {simsAccent1, simsAccent2, simsAccent3}; // Colors for each phase
         final int[] currentPhase = {0}; // Counter for current animation phase
 
-        // Timer to control the animation sequence
-        Timer timer = new Timer(150, new ActionListener() { // Fires every 150ms
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (currentPhase[0] < phases.length) {
-                    animationLabel.setText(phases[currentPhase[0]]); // Set text
-                    animationLabel.setForeground(textColors[currentPhase[0]]); // Set color
-                    currentPhase[0]++; // Move to next phase
-                } else {
-                    ((Timer) e.getSource()).stop(); // Stop timer when all phases complete
-                    animationDialog.dispose(); // Close the animation dialog
-                }
+        // Animation phases are advanced by the shared frame scheduler every 150ms
+        FrameScheduler.getInstance().subscribe("EnrollmentSystemGUI.startAnimation", animationDialog, 150, frame -> {
+            if (currentPhase[0] < phases.length) {
+                animationLabel.setText(phases[currentPhase[0]]); // Set text
+                animationLabel.setForeground(textColors[currentPhase[0]]); // Set color
+                currentPhase[0]++; // Move to next phase
+            } else {
+                frame.cancel(); // Stop when all phases complete
+                animationDialog.dispose(); // Close the animation dialog
             }
         });
-        timer.setInitialDelay(50); // Short initial delay
-        timer.start(); // Start the animation timer
 
         animationDialog.setVisible(true); // Make the animation dialog visible
     }
 
     /**
-     * Initializes the discipline data for Bachelor's degree programs based on the given course.
-     * This method adds predefined mandatory and elective disciplines to the `enrollmentSystem`.
+     * Initializes the discipline data for the selected degree, the student's major and the given course.
+     * The disciplines are looked up in the preloaded {@link DisciplineCatalog} and added to the `enrollmentSystem`,
+     * together with the catalog's prerequisites and the disciplines the student has passed in earlier courses.
      *
+     * @param selectedDegree The degree selected by the user ("Бакалаврат" or "Магістратура").
      * @param selectedCourse The academic course for which to initialize data.
      */
-    private void initializeInitialDataB(int selectedCourse) {
-        enrollmentSystem.addStudent(student);
-
-        if ((student.getMajor().equals("Інженерія програмного забезпечення")) && (selectedCourse == 1)) {
-            enrollmentSystem.addDiscipline(new Discipline("315203", "Алгоритми і структури даних", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М., ст. викл. Кирієнко О. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("314809", "Англійська мова", "ст. викл. Гісем С. О.", 7, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315275", "Вступ до програмування", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315213", "Диференціальні рівняння", "доц. Митник Ю. В., ст. викл. Силенко І. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315231", "Комп'ютерні архітектури", "ст. викл. Медвідь С. О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315200", "Лінійна алгебра та аналітична геометрія", "доц. Чорней Р. К., ас. Сарана М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315223", "Моделі обчислень в програмній інженерії", "доц. Проценко В. С.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315283", "Основи вебтехнологій", "ст. викл. Зважій Д. В. ", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315202", "Основи дискретної математики", "ст. викл. Щеглов М. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315199", "Основи матаналізу", "ст. викл. Іванюк А. О.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315277", "Основи мережевих технологій", "ст. викл. Вознюк О. М., ст. викл. Вознюк Я. І.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("314810", "Українська мова", "доц. Сегін Л. В., ст. викл. Калиновська О. М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("314804", "Фізичне виховання", "викл. Жуков В. О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315204", "Практика навчальна", "ст. викл. Пєчкурова О. М., ст. викл. Кирієнко О. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-        }
-
-        else if ((student.getMajor().equals("Інженерія програмного забезпечення")) && (selectedCourse == 2)) {
-            enrollmentSystem.addDiscipline(new Discipline("340214", "Англійська мова (за проф. спрямуванням)", "проф. Дерев'янко А. С.", 7, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340447", "Бази даних", "ст. викл. Кушнір О. В.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("340443", "Вступ до тестування програмного забезпечення", "доц. Сидоров М. І.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340418", "Об'єктно-орієнтоване програмування", "проф. Бублик В. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("340370", "Основи комп'ютерних алгоритмів", "проф. Іванов Л. М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("340362", "Побудова і використання комунікаційних мереж", "ст. викл. Черкасов Д. І., ст. викл. Савченко Т. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340356", "Процедурне програмування (на базі Сі/Сі++) (ПІ)", "проф. Бублик В. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340377", "Теорія алгоритмів і математична логіка", "проф. Сахаров Г. М.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315366", "Практика дослідницька", "ст. викл. Пєчкурова О. М., ст. викл. Кирієнко О. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 45, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 54, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 56, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 50, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 62, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 59, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340333", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340334", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 53, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340335", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 15, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340336", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340337", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 2));
-
-        } else if ((student.getMajor().equals("Інженерія програмного забезпечення")) && (selectedCourse == 3)) {
-            enrollmentSystem.addDiscipline(new Discipline("315429", "Функціональне програмування", "проф. Математикус А. Б.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315225", "Системне програмування", "доц. Жежерун О. П.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315425", "Логічне програмування", "ст. викл. В.І. Системний", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315218", "Теорія ймовірностей", "ст. викл. Братик М. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315217", "Вебпрограмування", "ст. викл. Олецький О. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315198", "Курсова робота", "ст. викл. Логік Т.О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-
-            enrollmentSystem.addDiscipline(new Discipline("316208", "Вступ до загальної топології", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 47, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316210", "Загальна топологія", "ст. викл. Козеренко С.О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316156", "Актуарна математика", "ст. викл. Братик М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("317933", "Обчислюваність", "проф. Олійник Б. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 36, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316192", "Статистичні основи вебаналітики", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315490", "Дані та суспільство", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("314810", "Експлуатація розподіленої хмарної інфраструктури та сервісів (DevOps)", "ст. викл. Сидорчук Л. Н.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316195", "Візуалізація та комп'ютерна графіка", "доц. Крюковчук Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 45, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 54, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 56, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 50, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 62, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 59, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340333", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340334", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 53, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340335", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 15, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340336", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340337", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315293", "Інформаційна безпека вебзастосунків", "ст. викл. Бабич Т. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315279", "Інструменти та принципи веброзробки", "ст. викл. Зважій Д. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Архітектура високонавантажених систем", "ст. викл. Ведель К. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315245", "Пошукова оптимізація вебзастосувань", "ст. викл. Цуд В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316198", "Комп'ютерна вірусологія", "ст. викл. Кирієнко О. В., ст. викл. Пєчкурова О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 21, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340384", "Архітектура прикладних програм рівня підприємства", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 52, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340303", "Глобальні мережі", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("314833", "Низькорівневі вразливості програмного забезпечення", "ст. викл. Коренчук А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315253", "Кібербезпека", "ст. викл. Вознюк Я. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 53, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315284", "Практичні аспекти роботи з базами даних в Spring Boot", "ст. викл. Андрощук М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340321", "Технології обчислювального експерименту", "ст. викл. Міхновський О. Л.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315211", "Програмування на основі .NET", "ст. викл. Борозенний С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 29, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315280", "Backend-розробка на базі NodeJS", "ст. викл. Петлюра С. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("322535", "Алгоритми паралельних обчислень", "доц. Винниченко В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315246", "Технології електронних видань", "ст. викл. Афонін А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 42, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315838", "Дизайн вебінтерфейсів", "ст. викл. Яковлєв М.В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 46, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315479", "Інформаційна безпека мереж", "ст. викл. Коновалець Є. П.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316821", "Банківські комп'ютерні системи", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 61, false, 3));
-
-        } else if ((student.getMajor().equals("Інженерія програмного забезпечення")) && (selectedCourse == 4)) {
-            enrollmentSystem.addDiscipline(new Discipline("315263", "Багатозадачне та паралельне програмування", "ст. викл. Сідько А. А., ст. викл. Гречко А. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315222", "Проєктування програмних систем", "ст. викл. Афонін А. О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315230", "Об'єктно-орієнтований аналіз і дизайн", "ст. викл. Мобільний Д. С.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315233", "Структура програмних проєктів", "проф. Керівник В. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315224", "Інтелектуальні системи", "ст. викл. Жежерун О. П.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315215", "Забезпечення якости програмних продуктів", "ст. викл. Афонін А. О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4, "Екзамен"));
-
-            enrollmentSystem.addDiscipline(new Discipline("316213", "Основи фінансової математики / Basics of Financial Mathematics (англ. мовою)", "доц. Щестюк Н. Ю.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315991", "Системи та методи ухвалення рішеннь", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316208", "Вступ до загальної топології", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 47, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316210", "Загальна топологія", "ст. викл. Козеренко С.О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316156", "Актуарна математика", "ст. викл. Братик М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("317933", "Обчислюваність", "проф. Олійник Б. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 36, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316192", "Статистичні основи вебаналітики", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315490", "Дані та суспільство", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("314810", "Експлуатація розподіленої хмарної інфраструктури та сервісів (DevOps)", "ст. викл. Сидорчук Л. Н.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316195", "Візуалізація та комп'ютерна графіка", "доц. Крюковчук Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 45, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 54, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 56, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 50, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 62, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 59, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340333", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340334", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 53, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340335", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 15, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340336", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340337", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315293", "Інформаційна безпека вебзастосунків", "ст. викл. Бабич Т. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315279", "Інструменти та принципи веброзробки", "ст. викл. Зважій Д. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Архітектура високонавантажених систем", "ст. викл. Ведель К. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315245", "Пошукова оптимізація вебзастосувань", "ст. викл. Цуд В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316198", "Комп'ютерна вірусологія", "ст. викл. Кирієнко О. В., ст. викл. Пєчкурова О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 21, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340384", "Архітектура прикладних програм рівня підприємства", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 52, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340303", "Глобальні мережі", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("314833", "Низькорівневі вразливості програмного забезпечення", "ст. викл. Коренчук А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315253", "Кібербезпека", "ст. викл. Вознюк Я. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 53, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315284", "Практичні аспекти роботи з базами даних в Spring Boot", "ст. викл. Андрощук М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340321", "Технології обчислювального експерименту", "ст. викл. Міхновський О. Л.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315211", "Програмування на основі .NET", "ст. викл. Борозенний С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 29, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315280", "Backend-розробка на базі NodeJS", "ст. викл. Петлюра С. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("322535", "Алгоритми паралельних обчислень", "доц. Винниченко В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315246", "Технології електронних видань", "ст. викл. Афонін А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 42, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315838", "Дизайн вебінтерфейсів", "ст. викл. Яковлєв М.В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 46, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315479", "Інформаційна безпека мереж", "ст. викл. Коновалець Є. П.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316821", "Банківські комп'ютерні системи", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 61, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("313821", "Стандарти обміну даних в Інтернет", "д. е. н., доц. Гладких Д. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 42, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316472", "Методи та засоби офісного програмування", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 25, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315295", "Інформаційна безпека цільових систем", "ст. викл. Чередарчук А. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315221", "Технологія XML", "ст. викл. Захоженко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315241", "Розробка Frontend-додатків на JavaScript", "проф. Глибовець А. М., ст. викл. Бабич Т. А.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("318273", "Алгоритми комп'ютерної алгебри", "ст. викл. Смиш О. Р.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315297", "Вибрані фреймворки для iOS", "ст. викл. Франків О. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315206", "Комп'ютерна графіка", "проф. Липинський І. С.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315464", "Кваліфікаційна робота", "проф. Глибовець А. М.", 12, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-
-        } else if ((student.getMajor().equals("Прикладна математика")) && (selectedCourse == 1)){
-            enrollmentSystem.addDiscipline(new Discipline("314809", "Англійська мова", "ст. викл. Гісем С. О.", 6, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315275", "Програмування", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315213", "Історія математики", "доц. Митник Ю. В., ст. викл. Силенко І. В.", 10, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315200", "Алгебра та геометрія", "доц. Чорней Р. К., ас. Сарана М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315202", "Дискретна математика", "ст. викл. Щеглов М. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315199", "Математичний аналіз", "ст. викл. Іванюк А. О.", 10, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("314810", "Українська мова", "доц. Сегін Л. В., ст. викл. Калиновська О. М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("314804", "Фізичне виховання", "викл. Жуков В. О.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315200", "Лінійна алгебра та аналітична геометрія", "доц. Чорней Р. К., ас. Сарана М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315223", "Моделі обчислень в програмній інженерії", "доц. Проценко В. С.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-
-        }
-
-        else if ((student.getMajor().equals("Прикладна математика")) && (selectedCourse == 2)){
-            enrollmentSystem.addDiscipline(new Discipline("314809", "Англійська мова", "ст. викл. Гісем С. О.", 3.5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315275", "Програмування", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М.", 7, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315200", "Алгебра та геометрія", "доц. Чорней Р. К., ас. Сарана М.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315199", "Математичний аналіз", "ст. викл. Іванюк А. О.", 11, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315434", "Бази даних та інформаційні системи", "проф. Глибовець А. М.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("316215", "Випадкові процеси", "доц. Чорней Р.К., ас. Тищенко С.В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316214", "Теорія ймовірностей", "доц. Чорней Р.К., ас. Тищенко С.В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315213", "Диференціальні рівняння", "доц. Митник Ю. В., ст. викл. Силенко І. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-
-            enrollmentSystem.addDiscipline(new Discipline("340469", "Комп'ютерні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340468", "Процедурне програмування (на базі Ci/Сi++)", "проф. Глибовець А. М.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 49, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340467", "Об`єктно-орієнтоване програмування", "проф. Глибовець А. М.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 53, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 25, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 13, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 16, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 58, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 29, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY,  UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY,  UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 36, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 17, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340333", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340334", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 21, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340335", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 56, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340336", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340337", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 50, false, 2));
-
-        }
-
-        else if ((student.getMajor().equals("Прикладна математика")) && (selectedCourse == 3)){
-            enrollmentSystem.addDiscipline(new Discipline("316149", "Методи оптимізації та дослідження операцій", "доц. Михалевич В. М., ас. Тищенко С. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("316148", "Теорія алгоритмів та математична логіка", "ст. викл. Прокоф'єв П. Г.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("316209", "Теорія функції комплексної змінної", "доц. Кашпіровський О. І.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("316157", "Чисельні методи", "доц. Кашпіровський О. І., ст. викл. Прокоф'єв П. Г.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316165", "Математична статистика", "доц. Шпортюк В. Г.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315198", "Курсова робота", "ст. викл. Логік Т.О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316147", "Рівняння математичної фізики", "проф. Авраменко О. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316149", "Методи оптимізації та дослідження операцій", "доц. Михалевич В. М., ас. Тищенко С. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315205", "Практика дослідницька", "доц. Шпортюк В. Г.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-
-            enrollmentSystem.addDiscipline(new Discipline("340469", "Комп'ютерні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340468", "Процедурне програмування (на базі Ci/Сi++)", "проф. Глибовець А. М.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340467", "Об`єктно-орієнтоване програмування", "проф. Глибовець А. М.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, false, 3));
-
-            enrollmentSystem.addDiscipline(new Discipline("340469", "Комп'ютерні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340468", "Процедурне програмування (на базі Ci/Сi++)", "проф. Глибовець А. М.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340467", "Об'єктно-орієнтоване програмування", "проф. Глибовець А. М.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316208", "Вступ до загальної топології", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316210", "Загальна топологія", "ст. викл. Козеренко С.О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316156", "Актуарна математика", "ст. викл. Братик М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("317933", "Обчислюваність", "проф. Олійник Б. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316192", "Статистичні основи вебаналітики", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315490", "Дані та суспільство", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 16, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("314810", "Експлуатація розподіленої хмарної інфраструктури та сервісів (DevOps)", "ст. викл. Сидорчук Л. Н.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316195", "Візуалізація та комп'ютерна графіка", "доц. Крюковчук Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 15, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 3));
-
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 29, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY,  UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY,  UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 36, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 17, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340333", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340334", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 21, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340335", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 56, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340336", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340337", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 50, false, 3));
-
-            enrollmentSystem.addDiscipline(new Discipline("315293", "Інформаційна безпека вебзастосунків", "ст. викл. Бабич Т. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315279", "Інструменти та принципи веброзробки", "ст. викл. Зважій Д. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Архітектура високонавантажених систем", "ст. викл. Ведель К. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315245", "Пошукова оптимізація вебзастосувань", "ст. викл. Цуд В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316198", "Комп'ютерна вірусологія", "ст. викл. Кирієнко О. В., ст. викл. Пєчкурова О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340384", "Архітектура прикладних програм рівня підприємства", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340303", "Глобальні мережі", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("314833", "Низькорівневі вразливості програмного забезпечення", "ст. викл. Коренчук А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315253", "Кібербезпека", "ст. викл. Вознюк Я. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315284", "Практичні аспекти роботи з базами даних в Spring Boot", "ст. викл. Андрощук М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340321", "Технології обчислювального експерименту", "ст. викл. Міхновський О. Л.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315211", "Програмування на основі .NET", "ст. викл. Борозенний С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315280", "Backend-розробка на базі NodeJS", "ст. викл. Петлюра С. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("322535", "Алгоритми паралельних обчислень", "доц. Винниченко В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315246", "Технології електронних видань", "ст. викл. Афонін А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315838", "Дизайн вебінтерфейсів", "ст. викл. Яковлєв М.В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315479", "Інформаційна безпека мереж", "ст. викл. Коновалець Є. П.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316821", "Банківські комп'ютерні системи", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-        }
-
-        else if ((student.getMajor().equals("Прикладна математика")) && (selectedCourse == 4)){
-            enrollmentSystem.addDiscipline(new Discipline("316150", "Теорія керування", "доц. Чорней Р. К.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("316819", "Економетрика", "к. е. н., доц. Семко Р. Б.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316141", "Функціональний аналіз", "доц. Кашпіровський О. І.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("316151", "Аналіз даних", "доц. Щестюк Н. Ю., ас. Тищенко С. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("316197", "Математичні методи машинного навчання", "ас. Сарана М. П.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316199", "Практика переддипломна", "ст. викл. Афонін А. О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4));
-
-            enrollmentSystem.addDiscipline(new Discipline("316213", "Основи фінансової математики / Basics of Financial Mathematics (англ. мовою)", "доц. Щестюк Н. Ю.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 16, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315991", "Системи та методи ухвалення рішеннь", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 48, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 36, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340350", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 42, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340352", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340353", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340355", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 16, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315293", "Інформаційна безпека вебзастосунків", "ст. викл. Бабич Т. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315279", "Інструменти та принципи веброзробки", "ст. викл. Зважій Д. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Архітектура високонавантажених систем", "ст. викл. Ведель К. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315245", "Пошукова оптимізація вебзастосувань", "ст. викл. Цуд В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316198", "Комп'ютерна вірусологія", "ст. викл. Кирієнко О. В., ст. викл. Пєчкурова О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340384", "Архітектура прикладних програм рівня підприємства", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340303", "Глобальні мережі", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 34, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("314833", "Низькорівневі вразливості програмного забезпечення", "ст. викл. Коренчук А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315253", "Кібербезпека", "ст. викл. Вознюк Я. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315284", "Практичні аспекти роботи з базами даних в Spring Boot", "ст. викл. Андрощук М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340321", "Технології обчислювального експерименту", "ст. викл. Міхновський О. Л.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315211", "Програмування на основі .NET", "ст. викл. Борозенний С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315280", "Backend-розробка на базі NodeJS", "ст. викл. Петлюра С. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("322535", "Алгоритми паралельних обчислень", "доц. Винниченко В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315246", "Технології електронних видань", "ст. викл. Афонін А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315838", "Дизайн вебінтерфейсів", "ст. викл. Яковлєв М.В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 16, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315479", "Інформаційна безпека мереж", "ст. викл. Коновалець Є. П.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316821", "Банківські комп'ютерні системи", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 34, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("313821", "Стандарти обміну даних в Інтернет", "д. е. н., доц. Гладких Д. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316472", "Методи та засоби офісного програмування", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315295", "Інформаційна безпека цільових систем", "ст. викл. Чередарчук А. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315221", "Технологія XML", "ст. викл. Захоженко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315241", "Розробка Frontend-додатків на JavaScript", "проф. Глибовець А. М., ст. викл. Бабич Т. А.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("318273", "Алгоритми комп'ютерної алгебри", "ст. викл. Смиш О. Р.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315297", "Вибрані фреймворки для iOS", "ст. викл. Франків О. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315206", "Комп'ютерна графіка", "проф. Липинський І. С.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315464", "Кваліфікаційна робота", "проф. Глибовець А. М.", 12, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-
-        }
-
-        else if ((student.getMajor().equals("Комп'ютерні науки")) && (selectedCourse == 1)){
-            enrollmentSystem.addDiscipline(new Discipline("315203", "Алгоритми і структури даних", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М., ст. викл. Кирієнко О. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("314835", "Архітектура обчислювальних систем", "ст. викл. Медвідь С. О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("314827", "Історія української кібернетики", "проф. Глибовець А. М.", 2, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315453", "Організація та обробка електронної інформації", "ст. викл. Сініцина Р. Б.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315202", "Дискретна математика", "ст. викл. Щеглов М. В.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("314809", "Англійська мова", "ст. викл. Гісем С. О.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315275", "Мови програмування", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315200", "Алгебра та геометрія", "доц. Чорней Р. К., ас. Сарана М.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("314804", "Фізичне виховання", "викл. Жуков В. О.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("315199", "Математичний аналіз", "ст. викл. Іванюк А. О.", 8, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-        }
-
-        else if ((student.getMajor().equals("Комп'ютерні науки")) && (selectedCourse == 2)){
-            enrollmentSystem.addDiscipline(new Discipline("340214", "Диференціальні рівняння", "проф. Дерев'янко А. С.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("340447", "Математична логіка та теорія алгоритмів", "ст. викл. Кушнір О. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("340443", "Бази даних та інформаційні системи", "доц. Сидоров М. І.", 9, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("340418", "Методи проєктування алгоритмів", "проф. Бублик В. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340362", "Основи побудови комп'ютерних мереж", "ст. викл. Черкасов Д. І., ст. викл. Савченко Т. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 48, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 15, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 17, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 21, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340333", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340334", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340335", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340336", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("340337", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 2));
-
-        }
-
-        else if ((student.getMajor().equals("Комп'ютерні науки")) && (selectedCourse == 3)){
-            enrollmentSystem.addDiscipline(new Discipline("315429", "Функціональне програмування", "проф. Математикус А. Б.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315225", "Методи розробки програмних систем", "доц. Жежерун О. П.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315425", "Основи штучного інтелекту", "ст. викл. В.І. Системний", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315218", "Аналіз великих даних (Big Data)", "ст. викл. Братик М. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315217", "Машинне навчання", "ст. викл. Олецький О. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315198", "Системний аналіз", "ст. викл. Логік Т.О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315199", "Практика виробнича", "ст. викл. Логік Т.О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 3));
-
-            enrollmentSystem.addDiscipline(new Discipline("316208", "Вступ до загальної топології", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316210", "Загальна топологія", "ст. викл. Козеренко С.О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316156", "Актуарна математика", "ст. викл. Братик М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("317933", "Обчислюваність", "проф. Олійник Б. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 55, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316192", "Статистичні основи вебаналітики", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 13, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315490", "Дані та суспільство", "доц. Крюкова Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 15, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("314810", "Експлуатація розподіленої хмарної інфраструктури та сервісів (DevOps)", "ст. викл. Сидорчук Л. Н.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 42, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316195", "Візуалізація та комп'ютерна графіка", "доц. Крюковчук Г. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 63, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 46, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 58, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 49, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 23, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 60, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 34, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 41, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 26, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 36, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 50, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 29, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315293", "Інформаційна безпека вебзастосунків", "ст. викл. Бабич Т. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315279", "Інструменти та принципи веброзробки", "ст. викл. Зважій Д. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 54, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Архітектура високонавантажених систем", "ст. викл. Ведель К. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 21, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315245", "Пошукова оптимізація вебзастосувань", "ст. викл. Цуд В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 47, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316198", "Комп'ютерна вірусологія", "ст. викл. Кирієнко О. В., ст. викл. Пєчкурова О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 16, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340384", "Архітектура прикладних програм рівня підприємства", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340303", "Глобальні мережі", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 25, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("314833", "Низькорівневі вразливості програмного забезпечення", "ст. викл. Коренчук А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315253", "Кібербезпека", "ст. викл. Вознюк Я. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315284", "Практичні аспекти роботи з базами даних в Spring Boot", "ст. викл. Андрощук М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 59, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("340321", "Технології обчислювального експерименту", "ст. викл. Міхновський О. Л.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 62, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315211", "Програмування на основі .NET", "ст. викл. Борозенний С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 17, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315280", "Backend-розробка на базі NodeJS", "ст. викл. Петлюра С. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 56, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("322535", "Алгоритми паралельних обчислень", "доц. Винниченко В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 48, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315246", "Технології електронних видань", "ст. викл. Афонін А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 53, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315838", "Дизайн вебінтерфейсів", "ст. викл. Яковлєв М.В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 14, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("315479", "Інформаційна безпека мереж", "ст. викл. Коновалець Є. П.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 3));
-            enrollmentSystem.addDiscipline(new Discipline("316821", "Банківські комп'ютерні системи", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 61, false, 3));
-
-        }
-
-        else if ((student.getMajor().equals("Комп'ютерні науки")) && (selectedCourse == 4)){
-            enrollmentSystem.addDiscipline(new Discipline("315470", "Інтелектуальні мережі", "ст. викл. Сідько А. А., ст. викл. Гречко А. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 4, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("315206", "Комп'ютерна графіка", "проф. Липинський І. С.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, false, 4, "Екзамен"));
-
-            enrollmentSystem.addDiscipline(new Discipline("316213", "Основи фінансової математики / Basics of Financial Mathematics (англ. мовою)", "доц. Щестюк Н. Ю.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315991", "Системи та методи ухвалення рішеннь", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 39, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315491", "Обчислювальне суспільствознавство", "проф. Глибовець А. М.", 2.5, EnrollmentSystem.ELECTIVE_CAPACITY, 59, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344466", "Вступ до ігрової розробки", "проф. Глибовець А. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344467", "Комп'ютерна мережа Інтернет", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("344468", "Локальні мережі", "ст. викл. Вознюк Я. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340466", "Архітектура ПЕОМ", "проф. Глибовець А. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316200", "Додаткові розділи теорії графів", "ст. викл. Козеренко С. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 12, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("319949", "Основи теорії груп", "ст. викл. Козеренко С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 47, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315185", "Спектральна теорія графів", "ст. викл. Тимошкевич Л. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 56, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340456", "Математичне мислення", "ст. викл. Щеглов М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 18, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("320163", "Обчислювальна геометрія", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 35, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("320012", "Мова розмітки LaTeX", "ст. викл. Зважій Д. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 43, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316847", "Математичні методи в хімії", "доц. Будзінська В. Л., ас. Носач В. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316161", "Символьні обчислення", "ст. викл. Прокоф'єв П. Г.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340446", "Додаткові розділи алгебри", "доц. Чорней Р. К.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 51, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340445", "Додаткові розділи дискретної математики", "ст. викл. Щеглов М. В.", 5, EnrollmentSystem.ELECTIVE_CAPACITY, 63, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340439", "Автоматизація роботи з програмними проєктами мовою Java", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340393", "Інформаційний пошук", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315191", "Методи та засоби збору чутливої інформації", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315306", "Мова програмування Kotlin", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315261", "Програмування на C#", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 54, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340402", "Розробка клієнт-серверних застосувань", "проф. Гришко О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 48, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Управління цифровим продуктом", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 31, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Обробка зображень", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 16, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Життя у цифровому світі", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Введення у Хмарні технології", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 22, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Мемологічні студії", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315293", "Інформаційна безпека вебзастосунків", "ст. викл. Бабич Т. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 42, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315279", "Інструменти та принципи веброзробки", "ст. викл. Зважій Д. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 57, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340351", "Архітектура високонавантажених систем", "ст. викл. Ведель К. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315245", "Пошукова оптимізація вебзастосувань", "ст. викл. Цуд В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 55, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316198", "Комп'ютерна вірусологія", "ст. викл. Кирієнко О. В., ст. викл. Пєчкурова О. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 33, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340384", "Архітектура прикладних програм рівня підприємства", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340303", "Глобальні мережі", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 46, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("314833", "Низькорівневі вразливості програмного забезпечення", "ст. викл. Коренчук А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315253", "Кібербезпека", "ст. викл. Вознюк Я. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 62, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315284", "Практичні аспекти роботи з базами даних в Spring Boot", "ст. викл. Андрощук М. В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 30, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("340321", "Технології обчислювального експерименту", "ст. викл. Міхновський О. Л.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 21, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315211", "Програмування на основі .NET", "ст. викл. Борозенний С. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 49, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315280", "Backend-розробка на базі NodeJS", "ст. викл. Петлюра С. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 29, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("322535", "Алгоритми паралельних обчислень", "доц. Винниченко В. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 48, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315246", "Технології електронних видань", "ст. викл. Афонін А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 32, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315838", "Дизайн вебінтерфейсів", "ст. викл. Яковлєв М.В.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 24, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315479", "Інформаційна безпека мереж", "ст. викл. Коновалець Є. П.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 37, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316821", "Банківські комп'ютерні системи", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 20, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("313821", "Стандарти обміну даних в Інтернет", "д. е. н., доц. Гладких Д. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("316472", "Методи та засоби офісного програмування", "д. е. н., доц. Гладких Д. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 28, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315295", "Інформаційна безпека цільових систем", "ст. викл. Чередарчук А. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 44, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315221", "Технологія XML", "ст. викл. Захоженко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 38, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315241", "Розробка Frontend-додатків на JavaScript", "проф. Глибовець А. М., ст. викл. Бабич Т. А.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, 19, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("318273", "Алгоритми комп'ютерної алгебри", "ст. викл. Смиш О. Р.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, 46, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315297", "Вибрані фреймворки для iOS", "ст. викл. Франків О. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, 27, false, 4));
-            enrollmentSystem.addDiscipline(new Discipline("315464", "Кваліфікаційна робота", "проф. Глибовець А. М.", 12, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 4));
-
-        }
-    }
-
-    /**
-     * Initializes the initial data for the enrollment system based on the student's major and selected course.
-     * This method adds mandatory and elective disciplines to the enrollment system.
-     *
-     * @param selectedCourse The course number for which to initialize disciplines (1 or 2).
-     */
-    private void initializeInitialDataM(int selectedCourse) {
+    private void initializeInitialData(String selectedDegree, int selectedCourse) {
+        DisciplineCatalog catalog = DisciplineCatalog.getInstance();
+        enrollmentSystem.setPrerequisites(catalog.getPrerequisites());
         enrollmentSystem.addStudent(student);
+        // Progression is implicit: the mandatory disciplines of the earlier courses count as passed
+        enrollmentSystem.setCompletedDisciplines(student.getStudentId(),
+                catalog.getCompletedBefore(selectedDegree, student.getMajor(), selectedCourse));
 
-        if ((student.getMajor().equals("Інженерія програмного забезпечення")) && (selectedCourse == 1)) {
-            enrollmentSystem.addDiscipline(new Discipline("317203", "Архітектура інформаційних систем", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М., ст. викл. Кирієнко О. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("317809", "Моделі і методи розробки програмного забезпечення", "ст. викл. Гісем С. О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317275", "Паралельне програмування", "проф. Глибовець А. М., ст. викл. Пєчкурова О. М.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317213", "Проєктування програмних систем", "доц. Митник Ю. В., ст. викл. Силенко І. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317598", "Структури даних та аналіз алгоритмів", "ст. викл. Медвідь С. О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317200", "Практика науково-дослідницька", "доц. Чорней Р. К., ас. Сарана М.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317223", "Забезпечення якости програмного продукту", "доц. Проценко В. С.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317283", "Патерни проєктування та дизайн АРІ", "ст. викл. Зважій Д. В. ", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("317202", "Побудова високонавантажених систем", "ст. викл. Щеглов М. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317199", "Розподілені бази даних та знань", "ст. викл. Іванюк А. О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317277", "Управління проєктами в інженерії програмного забезпечення", "ст. викл. Вознюк О. М., ст. викл. Вознюк Я. І.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("317810", "Практика науково-дослідницька", "доц. Сегін Л. В.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317804", "Практика науково-дослідницька", "викл. Жуков В. О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-
-            enrollmentSystem.addDiscipline(new Discipline("317439", "Інформаційна безпека", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317393", "Математична теорія ігор", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317191", "Моделі та алгоритми інформаційного пошуку", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317306", "Хмарні технології", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317261", "Чистий код та чиста архітектура", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-        }
-
-        else if ((student.getMajor().equals("Інженерія програмного забезпечення")) && (selectedCourse == 2)) {
-            enrollmentSystem.addDiscipline(new Discipline("318214", "Аналіз даних великого розміру (Big Data)", "проф. А.С. Дерев'янко", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("318447", "Методологія наукових досліджень в програмній інженерії", "ст. викл. О.В. Кушнір", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("318443", "Магістерська робота", "доц. М.І. Сидоров", 20, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-
-            enrollmentSystem.addDiscipline(new Discipline("317439", "Інформаційна безпека", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317393", "Математична теорія ігор", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317191", "Моделі та алгоритми інформаційного пошуку", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317306", "Хмарні технології", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317261", "Чистий код та чиста архітектура", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318402", "Алгоритми розподіленого обміну криптовалют на основі smart-контрактів (DeFi)", "проф. Гришко О. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318351", "Архітектура сучасних комп'ютерних мереж", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318352", "Бізнес-аналітика", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318353", "Ділова комунікація для інженерів програмного забезпечення", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318354", "Доставка цифрового продукту", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318355", "Криптографія в децентралізованих системах", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318356", "Програмна розробка інтелектуальних систем", "ст. викл. Сидорук І. Ю.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318357", "Системне адміністрування", "доц. Сидоренко А. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318358", "Дані та суспільство", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318359", "Методика викладання інформатики у вищій школі", "ст. викл. Ведель К. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318361", "Аджайл рівня організації", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318360", "DevOps та безперервна інтеграція", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318362", "Адміністрування інформаційних систем IaS", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318363", "Машинне навчання", "ст. викл. Ведель К. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318364", "Моделі та методи програмування економічних задач", "ст. викл. Ведель К. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318365", "Нереляційні бази даних", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318366", "Розробка smart-контрактів", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318367", "Технічні інструменти регуляції криптовалют на ринку", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318368", "Управління комплексними проєктами/Deliveri Management", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-        }
-        if ((student.getMajor().equals("Прикладна математика")) && (selectedCourse == 1)){
-            enrollmentSystem.addDiscipline(new Discipline("318403", "Комп'ютерний зір / Computer Vision (англ. мовою)", "доц. Швай Н. О.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("318376", "Динамічні системи", "проф. Авраменко О. В.", 7, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("318404", "Машинне навчання / Machine Learning (англ. мовою)", "доц. Швай Н. О.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("318382", "Теорія складности алгоритмів", "ст. викл. Морозов Д. І.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("318386", "Технології чисельного моделювання", "доц. Тригуб О. С.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("319980", "Практика науково-дослідна", "доц. Чорней Р. К.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-            enrollmentSystem.addDiscipline(new Discipline("318388", "Прикладна алгебра та теорія чисел", "доц. Тригуб О. С.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1));
-
-            enrollmentSystem.addDiscipline(new Discipline("311433", "Математична біологія", "ст. викл. Сидоренко А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311434", "Основи статистичного експерименту", "доц. Абраменко А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311435", "Теорія інформації", "ст. викл. Зваженко К. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311436", "Математичні методи економіки", "ст. викл. Шевченко О. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311437", "Прикладний статистичний аналіз", "проф. Шашкевич М. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311438", "Комплексний аналіз та його застосування", "ст. викл. Остроградський М. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311439", "Практичне застосування математичних моделей обернених задач", "ст. викл. Остроградський М. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311441", "Проблеми некласичної оптимізації", "ст. викл. Осиповський Т. Я.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311442", "Комбінаторний аналіз", "ст. викл. Осиповський Т. Я.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311443", "Алгебраїчна топологія", "доц. Кирієнко О. Л.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311444", "Навчання з підкріпленням", "доц. Кирієнко О. Л.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311445", "Математична теорія соціального вибору", "доц. Кирієнко О. Л.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311446", "Алгоритмічна геометрія", "ст. викл. Кравчук Л. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("311447", "Ймовірнісні графічні моделі / Probabilistic Graphical Models (англ.мовою)", "доц. Швай Н. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-        }
-
-        else if ((student.getMajor().equals("Прикладна математика")) && (selectedCourse == 2)){
-            enrollmentSystem.addDiscipline(new Discipline("318368", "Методика викладання математики та інформатики у вищій школі", "проф. Федосова І. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("320170", "Практика асистентська", "ст. викл. О.В. Кушнір", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318492", "Науково-дослідний семінар", "доц. Михалевич В. М.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318383", "Стохастична фінансова математика / Stochastic Financial Mathematics (англ.мовою)", "доц. Щестюк Н. Ю.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-            enrollmentSystem.addDiscipline(new Discipline("320086", "Педагогіка і психологія вищої школи", "проф. Власенко К. В.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318500", "Теорія оптимального керування", "доц. Чорней Р. К.", 3, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318377", "Нелінійні процеси та моделі", "проф. Авраменко О. В.", 5, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-
-            enrollmentSystem.addDiscipline(new Discipline("310430", "Квантова криптографія", "ст. викл. Сидоренко А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310431", "Алгоритми на графах", "доц. Сидоренко П. П.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310432", "Прикладні задачі аналізу", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310433", "Математична теорія ризику та страхова справа", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310434", "Розпізнавання образів", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310435", "Аналіз часових рядів", "ст. викл. Сидоренко А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310436", "Математичні основи захисту інформації", "доц. Чорней Р. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310437", "Прикладний функціональний аналіз", "ст. викл. Вознюк І. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310438", "Математичні основи криптографії", "ст. викл. Вознюк І. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310439", "Теорія автоматів", "ст. викл. Вознюк І. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310440", "Прикладна теорія випадкових процесів", "ст. викл. Козеренко Р. Р.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310441", "Символьні обчислення та комп'ютерна алгебра", "ст. викл. Сидоренко Є. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("310442", "Розпізнавання образів в аналізі даних", "проф. Шухевич Р. М.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311433", "Математична біологія", "ст. викл. Сидоренко А. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311434", "Основи статистичного експерименту", "доц. Абраменко А. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311435", "Теорія інформації", "ст. викл. Зваженко К. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311436", "Математичні методи економіки", "ст. викл. Шевченко О. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311437", "Прикладний статистичний аналіз", "проф. Шашкевич М. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311438", "Комплексний аналіз та його застосування", "ст. викл. Остроградський М. І.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311439", "Практичне застосування математичних моделей обернених задач", "ст. викл. Остроградський М. І.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311441", "Проблеми некласичної оптимізації", "ст. викл. Осиповський Т. Я.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311442", "Комбінаторний аналіз", "ст. викл. Осиповський Т. Я.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311443", "Алгебраїчна топологія", "доц. Кирієнко О. Л.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311444", "Навчання з підкріпленням", "доц. Кирієнко О. Л.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311445", "Математична теорія соціального вибору", "доц. Кирієнко О. Л.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311446", "Алгоритмічна геометрія", "ст. викл. Кравчук Л. В.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("311447", "Ймовірнісні графічні моделі / Probabilistic Graphical Models (англ.мовою)", "доц. Швай Н. О.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-        }
-
-        else if ((student.getMajor().equals("Комп'ютерні науки")) && (selectedCourse == 1)){
-            enrollmentSystem.addDiscipline(new Discipline("317722", "Математична теорія ігор", "проф. Глибовець А. М.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 1, "Екзамен"));
-
-            enrollmentSystem.addDiscipline(new Discipline("317439", "Інформаційна безпека", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317393", "Математична теорія ігор", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317191", "Моделі та алгоритми інформаційного пошуку", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317306", "Хмарні технології", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-            enrollmentSystem.addDiscipline(new Discipline("317261", "Чистий код та чиста архітектура", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 1));
-        }
-
-        else if ((student.getMajor().equals("Комп'ютерні науки")) && (selectedCourse == 2)){
-            enrollmentSystem.addDiscipline(new Discipline("317722", "Математична теорія ігор", "проф. Глибовець А. М.", 4, MANDATORY_DISCIPLINE_CAPACITY, MANDATORY_DISCIPLINE_CAPACITY, true, 2, "Екзамен"));
-
-            enrollmentSystem.addDiscipline(new Discipline("317439", "Інформаційна безпека", "ст. викл. Прокопенко П. О.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317393", "Математична теорія ігор", "доц. Мельничук  А. В.", 3.5, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317191", "Моделі та алгоритми інформаційного пошуку", "ст. викл. Бабич Т. А.", 2, EnrollmentSystem.ELECTIVE_CAPACITY, 40, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317306", "Хмарні технології", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("317261", "Чистий код та чиста архітектура", "доц. Осадча Н. П.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318402", "Алгоритми розподіленого обміну криптовалют на основі smart-контрактів (DeFi)", "проф. Гришко О. М.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318351", "Архітектура сучасних комп'ютерних мереж", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318352", "Бізнес-аналітика", "ст. викл. Сидорук І. Ю.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318353", "Ділова комунікація для інженерів програмного забезпечення", "доц. Сидоренко А. К.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318354", "Доставка цифрового продукту", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318355", "Криптографія в децентралізованих системах", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318356", "Програмна розробка інтелектуальних систем", "ст. викл. Сидорук І. Ю.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318357", "Системне адміністрування", "доц. Сидоренко А. К.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318358", "Дані та суспільство", "ст. викл. Сидорчук Л. Н.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318359", "Методика викладання інформатики у вищій школі", "ст. викл. Ведель К. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318361", "Аджайл рівня організації", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318360", "DevOps та безперервна інтеграція", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318362", "Адміністрування інформаційних систем IaS", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318363", "Машинне навчання", "ст. викл. Ведель К. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318364", "Моделі та методи програмування економічних задач", "ст. викл. Ведель К. А.", 4, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318365", "Нереляційні бази даних", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318366", "Розробка smart-контрактів", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318367", "Технічні інструменти регуляції криптовалют на ринку", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
-            enrollmentSystem.addDiscipline(new Discipline("318368", "Управління комплексними проєктами/Deliveri Management", "ст. викл. Ведель К. А.", 3, EnrollmentSystem.ELECTIVE_CAPACITY, UNLIMITED_CAPACITY, false, 2));
+        for (DisciplineCatalog.Offering offering : catalog.getOfferings(selectedDegree, student.getMajor(), selectedCourse)) {
+            enrollmentSystem.addDiscipline(offering.newDiscipline());
         }
     }
 
     /**
      * Updates the lists of mandatory, elective, and enrolled elective disciplines in the GUI.
-     * It clears existing lists, populates mandatory disciplines, and then filters elective
-     * disciplines based on student enrollment and search criteria (if any).
+     * The new contents are computed from the course indexes of the enrollment system, filtered by
+     * student enrollment and search criteria (if any); the list models fire events only for the rows
+     * that differ from what is shown.
      */
     private void updateDisciplineLists() {
-        mandatoryListModel.clear();
-        electiveListModel.clear();
-        enrolledElectiveListModel.clear();
         int studentCourse = student.getCourse();
-        for (Discipline disc : enrollmentSystem.getMandatoryDisciplines(studentCourse)) {
-            mandatoryListModel.addElement(disc);
-        }
+        mandatoryListModel.setDisciplines(enrollmentSystem.getMandatoryDisciplines(studentCourse));
 
-        List<Discipline> studentEnrolledDisciplines = student.getEnrolledDisciplines();
-        String searchText = searchField.getText().trim().toLowerCase();
+        List<Discipline> available = new ArrayList<>();
+        List<Discipline> enrolled = new ArrayList<>();
+        String searchText = searchField.getText();
         String selectedCriterion = (String) searchCriteriaCombo.getSelectedItem();
+        boolean searching = !searchText.isBlank();
 
         for (Discipline disc : enrollmentSystem.getElectiveDisciplines(studentCourse)) {
-            boolean matchesSearch;
-
-            if (searchText.isEmpty()) {
-                matchesSearch = true;
-            } else {
-                matchesSearch = switch (selectedCriterion) {
-                    case "за назвою" -> disc.getName().toLowerCase().contains(searchText);
-                    case "за кодом" -> disc.getDisciplineId().toLowerCase().contains(searchText);
-                    case "за викладачем_кою" -> disc.getInstructor().toLowerCase().contains(searchText);
-                    default -> false;
-                };
+            if (student.isEnrolledIn(disc.getDisciplineId())) {
+                enrolled.add(disc);
+            } else if (!searching) {
+                available.add(disc);
             }
+        }
 
-            if (studentEnrolledDisciplines.contains(disc)) {
-                enrolledElectiveListModel.addElement(disc);
-            } else if (matchesSearch) {
-                electiveListModel.addElement(disc);
+        if (searching) {
+            // Ranked matches from the search index, best first
+            for (Discipline disc : enrollmentSystem.getSearchIndex().search(searchText, toSearchField(selectedCriterion), 0)) {
+                if (!disc.isMandatory() && disc.getTargetCourse() == studentCourse && !student.isEnrolledIn(disc.getDisciplineId())) {
+                    available.add(disc);
+                }
             }
         }
 
-        electiveDisciplineList.repaint();
-        enrolledElectiveList.repaint();
+        electiveListModel.setDisciplines(available);
+        enrolledElectiveListModel.setDisciplines(enrolled);
+        long busySlots = student.getBusySlots();
+        if (busySlots != shownBusySlots) {
+            shownBusySlots = busySlots;
+            electiveDisciplineList.repaint(); // Rows the models did not touch may have started or stopped clashing
+        }
         updateStudentInfoDisplay();
         updateConfirmButtonState();
+        refreshRecommendations();
     }
 
     /**
@@ -1464,28 +1168,35 @@ public class EnrollmentSystemGUI extends JFrame {
         updateDisciplineLists();
     }
 
+    /**
+     * Maps a search criterion from the combo box to the field of the search index.
+     *
+     * @param criterion The selected criterion.
+     * @return The field to search in, or null to search in all fields.
+     */
+    private static DisciplineSearchIndex.Field toSearchField(String criterion) {
+        if (criterion == null) {
+            return null;
+        }
+        return switch (criterion) {
+            case "за назвою" -> DisciplineSearchIndex.Field.NAME;
+            case "за кодом" -> DisciplineSearchIndex.Field.CODE;
+            case "за викладачем_кою" -> DisciplineSearchIndex.Field.INSTRUCTOR;
+            default -> null;
+        };
+    }
+
     /**
      * Updates the student information display in the GUI, showing student ID, course,
      * and current total credits along with the course credit limit.
      */
     private void updateStudentInfoDisplay() {
-        double totalCredits = 0;
-        for (Discipline discipline : student.getEnrolledDisciplines()) {
-            double credits = discipline.getCredits();
-            totalCredits += credits;
-        }
-        int courseCreditLimit = 0;
-        switch (student.getCourse()) {
-            case 1:
-                courseCreditLimit = 61;
-                break;
-            default:
-                courseCreditLimit = 62;
-        }
+        double totalCredits = student.getTotalCredits();
+        int courseCreditLimit = EnrollmentSystem.getCourseCreditLimit(student.getCourse());
 
         studentInfoLabel.setText("Студент (ID: " + student.getStudentId() +
                 ", курс: " + student.getCourse() +
-                ", кредити: " + totalCredits + "/" + courseCreditLimit + ")");
+                ", кредити: " + totalCredits + (courseCreditLimit == Integer.MAX_VALUE ? ", без ліміту" : "/" + courseCreditLimit) + ")");
     }
 
     /**
@@ -1494,101 +1205,183 @@ public class EnrollmentSystemGUI extends JFrame {
      * the total credits meet the minimum required for confirmation.
      */
     private void updateConfirmButtonState() {
-        double totalCredits = 0;
-        for (Discipline discipline : student.getEnrolledDisciplines()) {
-            double credits = discipline.getCredits();
-            totalCredits += credits;
-        }
+        double totalCredits = student.getTotalCredits();
         confirmSelectionButton.setText("Готово (кредитів: " + totalCredits + ")");
-        confirmSelectionButton.setEnabled(totalCredits >= EnrollmentSystem.MIN_CREDITS_TO_CONFIRM);
+        confirmSelectionButton.setEnabled(totalCredits >= EnrollmentSystem.MIN_CREDITS_TO_CONFIRM && !requestPending);
     }
 
     /**
-     * Simulates a random glitch in the system. There's a 70% chance of a glitch occurring.
-     * If a glitch happens, it plays an error sound, displays a "system temporarily unavailable" message,
-     * and pauses execution. There's also a 30% chance within a glitch for a more severe
-     * "unexpected error" message to be displayed via a dialog box.
+     * Sends a request of the player to the enrollment service without blocking the EDT. While it is
+     * processed the buttons that could send another one are disabled and the status label says so;
+     * if it takes long, the player is told that the system is temporarily unavailable. Once the change
+     * is journaled, the result is handled on the EDT.
      *
-     * @return true if a glitch occurred and an operation should be halted, false otherwise.
+     * @param request The request, as returned by the service.
+     * @param errorText Beginning of the message shown if the request fails unexpectedly.
+     * @param onResult Called on the EDT with the message of the enrollment system.
      */
-    private boolean simulateGlitch() {
-        if (randomGlitches.nextDouble() < 0.7) {
+    private void sendRequest(CompletableFuture<String> request, String errorText, Consumer<String> onResult) {
+        setRequestPending(true);
+        Timer slowNotice = new Timer(SLOW_REQUEST_NOTICE_MS,
+                e -> serviceStatusLabel.setText("Система тимчасово недоступна. Будь ласка, зачекайте..."));
+        slowNotice.setRepeats(false);
+        slowNotice.start();
+
+        request.thenApply(result -> {
+            flushJournal();
+            return result;
+        }).whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            slowNotice.stop();
+            setRequestPending(false);
+            if (error == null) {
+                onResult.accept(result);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
             MusicPlayer.getInstance().playError();
-            try {
-                int delay = 500 + randomGlitches.nextInt(1500);
-                appendOutput("Система тимчасово недоступна. Будь ласка, зачекайте...\n");
-                Thread.sleep(delay);
-
-                if (randomGlitches.nextDouble() < 0.3) {
-                    JOptionPane.showMessageDialog(this,
-                            "Сталася неочікувана помилка САЗ. Спробуйте пізніше.",
-                            "Помилка системи",
-                            JOptionPane.ERROR_MESSAGE);
-                    appendOutput("Помилка САЗ. Операція не виконана.\n");
-                    return true;
-                }
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                appendOutput("Операція перервана.\n");
-                return true;
+            if (cause instanceof FaultInjectingEnrollmentService.ServiceFailure) {
+                JOptionPane.showMessageDialog(this, cause.getMessage(), "Помилка системи", JOptionPane.ERROR_MESSAGE);
+            } else {
+                appendOutput(errorText + cause.getMessage() + "\n");
             }
-        }
-        return false;
+        }));
     }
 
     /**
-     * Attempts to enroll the student in an elective discipline. This method first simulates
-     * a potential system glitch. If a glitch occurs, the enrollment attempt is aborted.
-     * (The rest of the enrollment logic is expected to be implemented here.)
+     * Describes how the enrollment service has behaved so far, for the diagnostics window.
+     * @return The fault seed and the request counts, or null before the service is created.
      */
-    private void attemptEnrollment() {
-        if (simulateGlitch()) {
-            return;
+    public String getServiceReport() {
+        FaultInjectingEnrollmentService service = enrollmentService;
+        if (service == null) {
+            return null;
         }
+        return "Зерно збоїв: " + service.getSeed() + " (-D" + FAULT_SEED_PROPERTY + ")\n"
+                + "Сервіс запису: " + service.getStats() + "\n";
+    }
 
-        Discipline selectedDiscipline = electiveDisciplineList.getSelectedValue();
+    /**
+     * Marks a request of the player as being processed or done.
+     */
+    private void setRequestPending(boolean pending) {
+        requestPending = pending;
+        enrollElectiveButton.setEnabled(!pending);
+        dropElectiveButton.setEnabled(!pending);
+        serviceStatusLabel.setText(pending ? "Запит обробляється..." : "");
+        updateConfirmButtonState();
+    }
 
-        if (selectedDiscipline == null) {
+    /**
+     * Attempts to enroll the student in the selected elective disciplines through the enrollment service,
+     * which may be slow or fail (see {@link #sendRequest}).
+     * Several selected electives are enrolled as one all-or-nothing batch. While the allocation window
+     * is open, the selection is handed in as preferences instead (see {@link #submitPreferences}).
+     */
+    private void attemptEnrollment() {
+        List<Discipline> selectedDisciplines = electiveDisciplineList.getSelectedValuesList();
+
+        if (selectedDisciplines.isEmpty()) {
             MusicPlayer.getInstance().playError();
             JOptionPane.showMessageDialog(this,
-                    "Будь ласка, оберіть вибіркову дисципліну для запису.",
+                    "Будь ласка, оберіть вибіркову дисципліну для запису (кілька дисциплін можна обрати з Ctrl).",
                     "Помилка",
                     JOptionPane.ERROR_MESSAGE);
             return;
         }
+        if (isAllocationWindowOpen() && submitPreferences(selectedDisciplines)) {
+            return;
+        }
+        if (selectedDisciplines.size() > 1) {
+            attemptBatchEnrollment(selectedDisciplines);
+            return;
+        }
+        Discipline selectedDiscipline = selectedDisciplines.get(0);
 
-        new SwingWorker<String, Void>() {
-            @Override
-            protected String doInBackground() throws Exception {
-                return enrollmentSystem.enrollStudentToDiscipline(student.getStudentId(), selectedDiscipline.getDisciplineId());
-            }
-
-            @Override
-            protected void done() {
-                try {
-                    String result = get();
+        sendRequest(enrollmentService.enroll(student.getStudentId(), selectedDiscipline.getDisciplineId()),
+                "Виникла непередбачувана помилка під час виконання запису: ", result -> {
                     appendOutput(result + "\n");
                     updateDisciplineLists(); // Refresh all lists
-                } catch (Exception ex) {
-                    MusicPlayer.getInstance().playError();
-                    appendOutput("Виникла непередбачувана помилка під час виконання запису: " + ex.getMessage() + "\n");
+                    if (enrollmentSystem.canJoinWaitlist(student.getStudentId(), selectedDiscipline.getDisciplineId())
+                            && !enrollmentSystem.isWaitlisted(student.getStudentId(), selectedDiscipline.getDisciplineId())) {
+                        offerWaitlist(selectedDiscipline);
+                    }
+                });
+    }
+
+    /**
+     * Enrolls the student in all the given electives or in none, in the background.
+     *
+     * @param selectedDisciplines The electives selected in the list.
+     */
+    private void attemptBatchEnrollment(List<Discipline> selectedDisciplines) {
+        List<String> disciplineIds = new ArrayList<>(selectedDisciplines.size());
+        for (Discipline discipline : selectedDisciplines) {
+            disciplineIds.add(discipline.getDisciplineId());
+        }
+
+        sendRequest(enrollmentService.enrollAll(student.getStudentId(), disciplineIds),
+                "Виникла непередбачувана помилка під час виконання запису: ", result -> {
+                    appendOutput(result + "\n");
+                    updateDisciplineLists();
+                });
+    }
+
+    private boolean isAllocationWindowOpen() {
+        AllocationRound round = rushSimulator == null ? null : rushSimulator.getAllocationRound();
+        return round != null && round.isOpen();
+    }
+
+    /**
+     * Hands the selected electives in to the allocation round as the player's preferences, in the
+     * order of the list, and shows the outcome once the round is resolved.
+     *
+     * @param selectedDisciplines The electives selected in the list.
+     * @return false if the round closed in the meantime, so the electives have to be enrolled directly.
+     */
+    private boolean submitPreferences(List<Discipline> selectedDisciplines) {
+        if (preferencesSubmitted) {
+            JOptionPane.showMessageDialog(this,
+                    "Ваші побажання вже прийнято. Дочекайтеся розподілу місць.",
+                    "Подача побажань",
+                    JOptionPane.INFORMATION_MESSAGE);
+            return true;
+        }
+        CompletableFuture<List<Discipline>> outcome = rushSimulator.getAllocationRound().submit(student, selectedDisciplines);
+        if (outcome == null) {
+            return false;
+        }
+        preferencesSubmitted = true;
+        appendOutput("Ваші побажання прийнято (" + selectedDisciplines.size()
+                + " дисц. у порядку списку). Місця буде розподілено між усіма студентами після закриття подачі.\n");
+
+        outcome.thenApply(assigned -> {
+            flushJournal();
+            return assigned;
+        }).whenComplete((assigned, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                MusicPlayer.getInstance().playError();
+                appendOutput("Виникла непередбачувана помилка під час розподілу місць: " + error.getMessage() + "\n");
+            } else if (assigned.isEmpty()) {
+                appendOutput("Розподіл місць завершено: жодна з обраних дисциплін вам не дісталася.\n");
+            } else {
+                StringBuilder names = new StringBuilder();
+                for (Discipline discipline : assigned) {
+                    names.append(names.length() == 0 ? "" : ", ").append(discipline.getName());
                 }
+                appendOutput("Розподіл місць завершено. Вас записано на: " + names + "\n");
             }
-        }.execute();
+            updateDisciplineLists();
+        }));
+        return true;
     }
 
     // --- Logic for attempting to drop from an elective discipline ---
     /**
      * Attempts to drop a student from a selected elective discipline.
-     * This method first simulates a system glitch. If a glitch occurs, the operation is halted.
-     * It then validates the selection, confirms with the user, and if confirmed,
-     * attempts to drop the student from the discipline using a SwingWorker for background processing.
+     * It validates the selection, confirms with the user, and if confirmed,
+     * sends the drop to the enrollment service (see {@link #sendRequest}).
      */
     private void attemptDrop() {
-        if (simulateGlitch()) {
-            return;
-        }
-
         // Only allow dropping from the 'enrolledElectiveList'
         Discipline selectedDiscipline = enrolledElectiveList.getSelectedValue();
 
@@ -1601,7 +1394,7 @@ public class EnrollmentSystemGUI extends JFrame {
         }
 
         // Ensure the selected discipline is indeed one the student is currently enrolled in
-        if (!student.getEnrolledDisciplines().contains(selectedDiscipline)) {
+        if (!student.isEnrolledIn(selectedDiscipline.getDisciplineId())) {
             JOptionPane.showMessageDialog(this,
                     "Ви не записані на обрану дисципліну.",
                     "Помилка",
@@ -1621,24 +1414,11 @@ public class EnrollmentSystemGUI extends JFrame {
                 options[0]);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            new SwingWorker<String, Void>() {
-                @Override
-                protected String doInBackground() throws Exception {
-                    return enrollmentSystem.dropStudentFromDiscipline(student.getStudentId(), selectedDiscipline.getDisciplineId());
-                }
-
-                @Override
-                protected void done() {
-                    try {
-                        String result = get();
+            sendRequest(enrollmentService.drop(student.getStudentId(), selectedDiscipline.getDisciplineId()),
+                    "Виникла непередбачувана помилка під час виконання виписки: ", result -> {
                         appendOutput(result + "\n");
                         updateDisciplineLists();
-                    } catch (Exception ex) {
-                        MusicPlayer.getInstance().playError();
-                        appendOutput("Виникла непередбачувана помилка під час виконання виписки: " + ex.getMessage() + "\n");
-                    }
-                }
-            }.execute();
+                    });
         } else {
             appendOutput("Виписка скасована.\n");
         }
@@ -1652,19 +1432,14 @@ public class EnrollmentSystemGUI extends JFrame {
      * If not enough credits are selected, it displays an error message.
      */
     private void confirmSelection() {
-        double totalCredits = 0;
-        for (Discipline discipline : student.getEnrolledDisciplines()) {
-            double credits = discipline.getCredits();
-            totalCredits += credits;
-        }
+        double totalCredits = student.getTotalCredits();
 
         if (totalCredits >= EnrollmentSystem.MIN_CREDITS_TO_CONFIRM) {
-            if (autoEnrollTimer != null && autoEnrollTimer.isRunning()) {
-                autoEnrollTimer.stop();
-            }
+            stopRegistrationRush();
 
             enrollElectiveButton.setEnabled(false);
             dropElectiveButton.setEnabled(false);
+            recommendButton.setEnabled(false);
             confirmSelectionButton.setEnabled(false);
             electiveDisciplineList.setEnabled(false);
             enrolledElectiveList.setEnabled(false);
@@ -1674,6 +1449,7 @@ public class EnrollmentSystemGUI extends JFrame {
             appendOutput("Запис завершено! Подальші зміни неможливі.\n");
 
             saveEnrollmentDataJson();
+            discardJournal(); // The result is saved, the session is over
             MusicPlayer.getInstance().playSuccess();
             JOptionPane.showMessageDialog(this,
                     "Вітаємо! Перший рівень пройдено!",
@@ -1762,6 +1538,66 @@ public class EnrollmentSystemGUI extends JFrame {
         }
     }
 
+    /**
+     * Asks the player whether to resume the unfinished session found in the journal.
+     *
+     * @param recovery The session read back from the journal.
+     * @return true to resume it, false to start over; always false if it belongs to another student.
+     */
+    private boolean offerResume(EnrollmentJournal.Recovery recovery) {
+        if (!student.getStudentId().equals(recovery.getStudentId())) {
+            return false;
+        }
+        UIManager.put("OptionPane.yesButtonText", "Так");
+        UIManager.put("OptionPane.noButtonText", "Ні");
+        int answer = JOptionPane.showConfirmDialog(this,
+                "Попередній запис (" + recovery.getDegree() + ", " + recovery.getCourse() + "-й курс) не було завершено. Продовжити його?",
+                "Відновлення запису",
+                JOptionPane.YES_NO_OPTION,
+                JOptionPane.QUESTION_MESSAGE);
+        return answer == JOptionPane.YES_OPTION;
+    }
+
+    /**
+     * Starts journaling the session, continuing the recovered one if there is one.
+     * The session goes on without a journal if its files cannot be written.
+     */
+    private void openJournal(EnrollmentJournal.Recovery recovery, String selectedDegree, int selectedCourse) {
+        try {
+            journal = recovery != null
+                    ? EnrollmentJournal.resume(JOURNAL_DIRECTORY, recovery)
+                    : EnrollmentJournal.start(JOURNAL_DIRECTORY, selectedDegree, selectedCourse, student.getStudentId());
+            enrollmentSystem.setJournal(journal);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Waits until the player's last change is on disk. Called on the enrollment service's threads, never
+     * on the EDT; the wait is one group-committed fsync shared with the simulated students' changes.
+     */
+    private void flushJournal() {
+        if (journal != null) {
+            try {
+                journal.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Stops journaling and deletes the journal once the session has ended.
+     */
+    private void discardJournal() {
+        if (journal != null) {
+            enrollmentSystem.setJournal(null);
+            journal.discard();
+            journal = null;
+        }
+    }
+
     /**
      * Saves the current student's enrollment data to a JSON file.
      * The file path is defined by {@code ENROLLMENT_FILE}.
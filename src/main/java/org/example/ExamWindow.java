@@ -1,9 +1,9 @@
 package org.example;
 
+import gui.FrameScheduler;
+
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -474,7 +474,7 @@ public class ExamWindow extends JDialog {
      */
     class WheelPanel extends JPanel {
         private double rotationAngle = 0;
-        private Timer timer;
+        private FrameScheduler.Subscription timer;
         private long startTime;
         private long duration = 3000; // Spin duration in milliseconds
         private double totalRotation = 0; // Total degrees to rotate
@@ -505,33 +505,31 @@ public class ExamWindow extends JDialog {
             this.rotationAngle = 0; // Reset rotation
             this.startTime = System.currentTimeMillis(); // Record start time
 
-            if (timer != null && timer.isRunning()) {
-                timer.stop(); // Stop any existing timer
+            if (timer != null) {
+                timer.cancel(); // Stop any existing animation
             }
 
             // Timer for animation
-            timer = new Timer(15, new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    long elapsed = System.currentTimeMillis() - startTime;
-                    if (elapsed < duration) {
-                        double progress = (double) elapsed / duration;
-                        // Easing function for smoother animation (starts fast, slows down)
-                        double easedProgress = 1 - Math.pow(1 - progress, 3);
-                        rotationAngle = totalRotation * easedProgress;
-                        repaint(); // Redraw the wheel
-                    } else {
-                        timer.stop(); // Stop timer when animation is done
-                        rotationAngle = totalRotation; // Ensure final position is exact
-                        repaint();
-                        int resultScore = calculateScoreFromResultAngle(rotationAngle); // Calculate score based on final angle
-                        if (completionListener != null) {
-                            completionListener.onSpinComplete(resultScore); // Notify listener
-                        }
+            timer = FrameScheduler.getInstance().subscribe("ExamWindow.wheel", this, frame -> {
+                long elapsed = System.currentTimeMillis() - startTime;
+                if (elapsed < duration) {
+                    double progress = (double) elapsed / duration;
+                    // Easing function for smoother animation (starts fast, slows down)
+                    double easedProgress = 1 - Math.pow(1 - progress, 3);
+                    rotationAngle = totalRotation * easedProgress;
+                    repaint(); // Redraw the wheel
+                } else {
+                    frame.cancel(); // Stop timer when animation is done
+                    rotationAngle = totalRotation; // Ensure final position is exact
+                    repaint();
+                    int resultScore = calculateScoreFromResultAngle(rotationAngle); // Calculate score based on final angle
+                    SpinCompletionListener onComplete = completionListener;
+                    if (onComplete != null) {
+                        // Outside the frame tick: the listener opens modal dialogs, which would stall every other animation
+                        SwingUtilities.invokeLater(() -> onComplete.onSpinComplete(resultScore));
                     }
                 }
             });
-            timer.start(); // Start the timer
         }
 
         /**
@@ -0,0 +1,297 @@
+package org.example;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous front of {@link EnrollmentSystem} that makes it behave like an overloaded remote service.
+ * <p>
+ * Every request gets a latency drawn from the current {@link FaultProfile} and may fail with an injected
+ * error or time out. Nothing sleeps: the request is scheduled to run after its latency on a timer thread
+ * and then executed on a virtual thread, and the caller gets a {@link CompletableFuture} right away. A
+ * request whose latency reaches the timeout fails at the timeout and is never executed, like a request
+ * that never reached the server; an injected error also leaves the system unchanged. The faults are drawn
+ * in the order the requests are made, so the same seed and the same requests give the same faults.
+ * {@link #getStats()} tells how many requests were slowed down, failed or timed out.
+ */
+public class FaultInjectingEnrollmentService {
+    private final EnrollmentSystem system;
+    private final long seed;
+    private final Random random; // Guarded by itself
+    private final ScheduledExecutorService timer;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile FaultProfile profile;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+    /**
+     * How the latency of a slowed-down request is distributed between its minimum and maximum.
+     */
+    public enum LatencyDistribution {
+        /** Always the minimum. */
+        FIXED,
+        /** Evenly between the minimum and the maximum. */
+        UNIFORM,
+        /** The minimum plus an exponential tail with a mean of half the range; may exceed the maximum. */
+        EXPONENTIAL;
+
+        long sample(Random random, long minMillis, long maxMillis) {
+            switch (this) {
+                case UNIFORM:
+                    return minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+                case EXPONENTIAL:
+                    return minMillis + (long) (-Math.log(1 - random.nextDouble()) * (maxMillis - minMillis) / 2);
+                default:
+                    return minMillis;
+            }
+        }
+    }
+
+    /**
+     * The faults to inject: which share of requests is slowed down and by how much, which share fails,
+     * and after how long a request gives up.
+     */
+    public static final class FaultProfile {
+        /** No faults at all. */
+        public static final FaultProfile NONE = new FaultProfile(0, LatencyDistribution.FIXED, 0, 0, 0, Long.MAX_VALUE);
+        /** "САЗ is down": most requests take 0.5-2 s and about a fifth of them fail. */
+        public static final FaultProfile OVERLOADED = new FaultProfile(0.7, LatencyDistribution.UNIFORM, 500, 2000, 0.21, 5000);
+        /** Registration peak: a long exponential tail, so some requests time out. */
+        public static final FaultProfile PEAK = new FaultProfile(0.9, LatencyDistribution.EXPONENTIAL, 200, 3000, 0.05, 4000);
+
+        private final double slowShare;
+        private final LatencyDistribution distribution;
+        private final long minLatencyMillis;
+        private final long maxLatencyMillis;
+        private final double errorRate;
+        private final long timeoutMillis;
+
+        /**
+         * Creates a fault profile.
+         *
+         * @param slowShare Share of requests (0-1) that are slowed down; the others are executed at once.
+         * @param distribution How the latency of a slowed-down request is drawn.
+         * @param minLatencyMillis The smallest latency of a slowed-down request.
+         * @param maxLatencyMillis The largest latency of a slowed-down request (see the distribution).
+         * @param errorRate Share of requests (0-1) that fail with an injected error.
+         * @param timeoutMillis Latency at which a request gives up with a timeout.
+         */
+        public FaultProfile(double slowShare, LatencyDistribution distribution, long minLatencyMillis,
+                            long maxLatencyMillis, double errorRate, long timeoutMillis) {
+            this.slowShare = slowShare;
+            this.distribution = distribution;
+            this.minLatencyMillis = minLatencyMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+            this.errorRate = errorRate;
+            this.timeoutMillis = timeoutMillis;
+        }
+    }
+
+    /**
+     * Why a request failed: an injected error or a timeout. The system was not changed.
+     */
+    public static final class ServiceFailure extends RuntimeException {
+        private final boolean timeout;
+
+        private ServiceFailure(String message, boolean timeout) {
+            super(message, null, false, false); // Expected, so no stack trace is taken
+            this.timeout = timeout;
+        }
+
+        public boolean isTimeout() {
+            return timeout;
+        }
+    }
+
+    /**
+     * Counts of the requests made so far.
+     */
+    public static final class Stats {
+        private final long requests;
+        private final long delayed;
+        private final long failures;
+        private final long timeouts;
+        private final double meanLatencyMillis;
+        private final long maxLatencyMillis;
+
+        private Stats(long requests, long delayed, long failures, long timeouts, double meanLatencyMillis, long maxLatencyMillis) {
+            this.requests = requests;
+            this.delayed = delayed;
+            this.failures = failures;
+            this.timeouts = timeouts;
+            this.meanLatencyMillis = meanLatencyMillis;
+            this.maxLatencyMillis = maxLatencyMillis;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getDelayed() {
+            return delayed;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        /**
+         * Returns the mean injected latency over all requests, timeouts counted at the timeout.
+         * @return The mean latency in milliseconds.
+         */
+        public double getMeanLatencyMillis() {
+            return meanLatencyMillis;
+        }
+
+        public long getMaxLatencyMillis() {
+            return maxLatencyMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "запитів: " + requests + ", уповільнено: " + delayed + ", помилок: " + failures
+                    + ", тайм-аутів: " + timeouts + ", затримка: " + String.format("%.0f", meanLatencyMillis)
+                    + " мс у середньому, " + maxLatencyMillis + " мс найбільша";
+        }
+    }
+
+    /**
+     * Creates a service in front of an enrollment system.
+     *
+     * @param system The enrollment system that executes the requests.
+     * @param profile The faults to inject.
+     * @param seed Seed of the fault draws, for runs that can be repeated.
+     */
+    public FaultInjectingEnrollmentService(EnrollmentSystem system, FaultProfile profile, long seed) {
+        this.system = system;
+        this.profile = profile;
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "enrollment-service-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void setProfile(FaultProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Requests {@link EnrollmentSystem#enrollStudentToDiscipline(String, String)}.
+     * @return The message of the system, or a {@link ServiceFailure}.
+     */
+    public CompletableFuture<String> enroll(String studentId, String disciplineId) {
+        return submit(() -> system.enrollStudentToDiscipline(studentId, disciplineId));
+    }
+
+    /**
+     * Requests {@link EnrollmentSystem#enrollStudentToDisciplines(String, Collection)}.
+     * @return The message of the system, or a {@link ServiceFailure}.
+     */
+    public CompletableFuture<String> enrollAll(String studentId, List<String> disciplineIds) {
+        return submit(() -> system.enrollStudentToDisciplines(studentId, disciplineIds));
+    }
+
+    /**
+     * Requests {@link EnrollmentSystem#dropStudentFromDiscipline(String, String)}.
+     * @return The message of the system, or a {@link ServiceFailure}.
+     */
+    public CompletableFuture<String> drop(String studentId, String disciplineId) {
+        return submit(() -> system.dropStudentFromDiscipline(studentId, disciplineId));
+    }
+
+    private CompletableFuture<String> submit(Supplier<String> operation) {
+        FaultProfile faults = profile;
+        long latency = 0;
+        boolean slow;
+        boolean fails;
+        synchronized (random) {
+            slow = random.nextDouble() < faults.slowShare;
+            if (slow) {
+                latency = faults.distribution.sample(random, faults.minLatencyMillis, faults.maxLatencyMillis);
+            }
+            fails = random.nextDouble() < faults.errorRate;
+        }
+        requests.increment();
+        if (slow) {
+            delayed.increment();
+        }
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        if (latency >= faults.timeoutMillis) {
+            recordLatency(faults.timeoutMillis);
+            timer.schedule(() -> {
+                timeouts.increment();
+                future.completeExceptionally(new ServiceFailure("САЗ не відповідає. Час очікування вичерпано, операцію не виконано.", true));
+            }, faults.timeoutMillis, TimeUnit.MILLISECONDS);
+            return future;
+        }
+        recordLatency(latency);
+        timer.schedule(() -> {
+            if (fails) {
+                failures.increment();
+                future.completeExceptionally(new ServiceFailure("Сталася неочікувана помилка САЗ. Операцію не виконано, спробуйте пізніше.", false));
+                return;
+            }
+            workers.execute(() -> {
+                try {
+                    future.complete(operation.get());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        }, latency, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private void recordLatency(long latency) {
+        totalLatencyMillis.add(latency);
+        maxLatencyMillis.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Returns the seed the service was created with; a run with the same seed and requests gives the same faults.
+     * @return The seed of the fault draws.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the counts of the requests made so far.
+     * @return A snapshot of the counters.
+     */
+    public Stats getStats() {
+        long count = requests.sum();
+        return new Stats(count, delayed.sum(), failures.sum(), timeouts.sum(),
+                count == 0 ? 0 : (double) totalLatencyMillis.sum() / count, maxLatencyMillis.get());
+    }
+
+    /**
+     * Stops the service. Requests still waiting for their latency are dropped and their futures never complete.
+     */
+    public void shutdown() {
+        timer.shutdownNow();
+        workers.shutdown();
+    }
+}
@@ -46,7 +46,6 @@ public class GameFrame extends JFrame {
         newHero.setBudget(hero.getBudget());
         newHero.setSpecialty(hero.getSpecialty());
         if(hero.getStudent()!=null) {
-            student.setExamDisciplines(hero.getStudent().getExamDisciplines());
             student.setEnrolledDisciplines(hero.getStudent().getEnrolledDisciplines());
         }
         newHero.setCourse(hero.getCourse());
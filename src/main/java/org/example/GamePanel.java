@@ -1,6 +1,7 @@
 package org.example;
 
 
+import gui.FrameScheduler;
 import gui.GoodbyeWindow;
 import gui.HintPanel;
 import gui.LoadingFrame;
@@ -22,10 +23,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
-public class GamePanel extends JPanel implements ActionListener {
+public class GamePanel extends JPanel {
     private Hero hero;
     private JLabel statsLabel;
-    private Timer gameTimer;
+    private FrameScheduler.Subscription gameFrame;
     private GameFrame parentFrame;
 
 
@@ -52,6 +53,11 @@ public class GamePanel extends JPanel implements ActionListener {
 
     private final double SCALE_SPEED = 0.1;
 
+    // Після зупинки коліщатка спрайти перемальовуються у високій якості
+    private final long ZOOM_SETTLE_DELAY = 150;
+    private long lastZoomTime;
+    private boolean zoomSettled = true;
+
     private JPanel heroActionsPanel;
 
     private JButton goToWorldButton;
@@ -74,6 +80,10 @@ public class GamePanel extends JPanel implements ActionListener {
 
 
 
+    // --- Натовп студентів (перемикається клавішею C) ---
+    private static final int CROWD_SIZE = 1000;
+    private StudentCrowd crowd;
+
     private String[] studentNames = {"Ксенія", "Катя", "Петро", "Женя", "Ольга", "Тарас", "Стас", "Дмитро"};
     private String[] kmaMessages = {
             "Коли там вже результати модуля з вишки?",
@@ -225,26 +235,22 @@ public class GamePanel extends JPanel implements ActionListener {
                     glassPane.repaint();
 
                     //timer for zzz
-                    Timer zAppearTimer = new Timer(500, null);
                     final int[] step = {1};
-                    Timer[] pulseTimerHolder = new Timer[1];
+                    FrameScheduler.Subscription[] pulseTimerHolder = new FrameScheduler.Subscription[1];
 
 
-                        zAppearTimer.addActionListener(eevt -> {
+                        FrameScheduler.getInstance().subscribe("GamePanel.zAppear", glassPane, 500, zAppear -> {
                             if (step[0] == 1) {
                                 glassPane.add(z2);
                                 glassPane.repaint();
                             } else if (step[0] == 2) {
                                 glassPane.add(z3);
                                 glassPane.repaint();
-                                zAppearTimer.stop();
-
+                                zAppear.cancel();
 
-                                Timer pulseTimer = new Timer(500, null);
-                                pulseTimerHolder[0] = pulseTimer; // зберігаємо посилання
 
                                 final int[] pulseStep = {0};
-                                pulseTimer.addActionListener(ev -> {
+                                pulseTimerHolder[0] = FrameScheduler.getInstance().subscribe("GamePanel.zPulse", glassPane, 500, pulse -> {
                                     switch (pulseStep[0]) {
                                         case 0 -> z1.setVisible(true);
                                         case 1 -> z2.setVisible(true);
@@ -255,16 +261,11 @@ public class GamePanel extends JPanel implements ActionListener {
                                     }
                                     pulseStep[0] = (pulseStep[0] + 1) % 6;
                                 });
-
-                                pulseTimer.start();
                             }
                             step[0]++;
                         });
 
-                        zAppearTimer.start();
-
                         //general timer
-                        Timer timer = new Timer(1000, null);
                         final int[] secondsPassed = {10};
 
             String[] sleepMessages = {
@@ -275,7 +276,7 @@ public class GamePanel extends JPanel implements ActionListener {
             };
 
 
-            timer.addActionListener(event -> {
+            FrameScheduler.getInstance().subscribe("GamePanel.sleepCountdown", this, 1000, countdown -> {
                             if (secondsPassed[0] > 0) {
                                 int timeLeft = secondsPassed[0];
                                 countdownLabel.setText(String.valueOf(secondsPassed[0]));
@@ -287,20 +288,19 @@ public class GamePanel extends JPanel implements ActionListener {
                                 messageLabel.setText(msg);
                                 secondsPassed[0]--;
                             } else {
-                                timer.stop();
+                                countdown.cancel();
                                 countdownLabel.setText("0");
                                 if (pulseTimerHolder[0] != null) {
-                                    pulseTimerHolder[0].stop();
+                                    pulseTimerHolder[0].cancel();
                                 }
                                 currentGameState = GameState.PLAYING;
                                 MusicPlayer.getInstance().setMusicEnabled(true);
                                 MusicPlayer.getInstance().playMusic("/assets/Sounds/Background.wav");
                                 glassPane.setVisible(false);
-                                JOptionPane.showMessageDialog(this, "Ваш сім відновив енергію і готовий до нових звершень!");
+                                // Shown after the frame tick, so the modal dialog does not stall the other animations
+                                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this, "Ваш сім відновив енергію і готовий до нових звершень!"));
                             }
                         });
-
-                        timer.start();
                 });
         sleepButton.setBounds(1020, 250, 100, 50);
         add(sleepButton);
@@ -341,8 +341,7 @@ public class GamePanel extends JPanel implements ActionListener {
             add(fin);
         }
 
-        gameTimer = new Timer(1000 / 60, this);
-        gameTimer.start();
+        startGameLoop();
 
         lastMessageTime = System.currentTimeMillis();
         nextMessageInterval = generateRandomMessageInterval();
@@ -470,6 +469,10 @@ public class GamePanel extends JPanel implements ActionListener {
             public void mouseWheelMoved(MouseWheelEvent e) {
                 if (currentGameState != GameState.PLAYING) return;
 
+                lastZoomTime = System.currentTimeMillis();
+                zoomSettled = false;
+                hero.setZoomSettled(false);
+
                 double oldScale = sceneScale;
                 double scaleChange = e.getWheelRotation() * -SCALE_SPEED;
                 sceneScale += scaleChange;
@@ -496,6 +499,8 @@ public class GamePanel extends JPanel implements ActionListener {
             public void keyPressed(KeyEvent e) {
                 if (currentGameState == GameState.GAME_OVER && e.getKeyCode() == KeyEvent.VK_R) {
                     fireGameOverEvent(hero.getGameOverReason());
+                } else if (currentGameState == GameState.PLAYING && e.getKeyCode() == KeyEvent.VK_C) {
+                    setCrowdSize(crowd == null ? CROWD_SIZE : 0);
                 }
             }
         });
@@ -524,6 +529,9 @@ public class GamePanel extends JPanel implements ActionListener {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (crowd != null) {
+            crowd.draw((Graphics2D) g, sceneOffsetX, sceneOffsetY, sceneScale, getWidth(), getHeight(), zoomSettled);
+        }
         hero.draw(g, sceneOffsetX, sceneOffsetY, sceneScale);
 
         long currentTime = System.currentTimeMillis();
@@ -602,15 +610,37 @@ public class GamePanel extends JPanel implements ActionListener {
         }
     }
 
-    @Override
-    public void actionPerformed(ActionEvent e) {
+    /**
+     * Registers the per-frame game update with the shared frame scheduler.
+     */
+    private void startGameLoop() {
+        if (gameFrame == null || !gameFrame.isActive()) {
+            gameFrame = FrameScheduler.getInstance().subscribe("GamePanel.game", this, frame -> gameTick());
+        }
+    }
+
+    private void stopGameLoop() {
+        if (gameFrame != null) {
+            gameFrame.cancel();
+        }
+    }
+
+    private void gameTick() {
+        if (!zoomSettled && System.currentTimeMillis() - lastZoomTime >= ZOOM_SETTLE_DELAY) {
+            zoomSettled = true;
+            hero.setZoomSettled(true);
+        }
+
         if (currentGameState == GameState.PLAYING) {
             hero.update();
+            if (crowd != null) {
+                crowd.update();
+            }
 
             if (hero.isGameOverDueToEnergy()) {
                 currentGameState = GameState.GAME_OVER;
                 heroActionsPanel.setVisible(false);
-                gameTimer.stop();
+                stopGameLoop();
                 showFloatingMessage("Система", hero.getGameOverReason());
             }
 
@@ -687,8 +717,23 @@ public class GamePanel extends JPanel implements ActionListener {
         return (long) (random.nextDouble() * (MESSAGE_INTERVAL_MAX - MESSAGE_INTERVAL_MIN + 1)) + MESSAGE_INTERVAL_MIN;
     }
 
+    /**
+     * Populates the scene with the given number of NPC students, or removes the crowd if the size is 0.
+     * @param size The number of NPC students.
+     */
+    public void setCrowdSize(int size) {
+        if (size <= 0) {
+            crowd = null;
+        } else if (crowd == null) {
+            crowd = new StudentCrowd(size, Math.max(getWidth(), 1200), Math.max(getHeight(), 800));
+        } else {
+            crowd.resize(size);
+        }
+        repaint();
+    }
+
     private void generateRandomChatMessages() {
-        String randomPlayer = studentNames[random.nextInt(studentNames.length)];
+        String randomPlayer = crowd != null ? crowd.randomName(studentNames) : studentNames[random.nextInt(studentNames.length)];
         String randomMsg = kmaMessages[random.nextInt(kmaMessages.length)];
         showFloatingMessage(randomPlayer, randomMsg);
     }
@@ -720,9 +765,7 @@ public class GamePanel extends JPanel implements ActionListener {
 
 
     public void fireGameOverEvent(String reason) {
-        if (gameTimer != null && gameTimer.isRunning()) {
-            gameTimer.stop();
-        }
+        stopGameLoop();
         parentFrame.handleGameOver(reason);
     }
 
@@ -734,8 +777,10 @@ public class GamePanel extends JPanel implements ActionListener {
         sceneOffsetX = 0;
         sceneOffsetY = 0;
         sceneScale = 1.0;
+        zoomSettled = true;
+        hero.setZoomSettled(true);
         hideHeroActionsPanel();
-        gameTimer.start();
+        startGameLoop();
         lastMessageTime = System.currentTimeMillis();
         nextMessageInterval = generateRandomMessageInterval();
         floatingMessages.clear();
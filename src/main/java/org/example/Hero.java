@@ -49,6 +49,10 @@ public class Hero {
 
     private BufferedImage diamondImage; // Original size diamond image
 
+    private SpriteMipmap heroMipmap; // Pre-scaled copies of heroImage for zoomed drawing
+    private SpriteMipmap diamondMipmap; // Pre-scaled copies of diamondImage
+    private boolean zoomSettled = true; // false while the scene scale is changing
+
     private double animationTimer;
     private final double SWAY_SPEED = 0.08;
     private final double SWAY_AMPLITUDE = 8.0;
@@ -141,6 +145,9 @@ public class Hero {
             e.printStackTrace();
             this.diamondImage = null; // Ensure null if loading failed
         }
+
+        this.heroMipmap = heroImage != null ? new SpriteMipmap(heroImage) : null;
+        this.diamondMipmap = diamondImage != null ? new SpriteMipmap(diamondImage) : null;
     }
 
     /**
@@ -157,6 +164,16 @@ public class Hero {
      */
     public void setHeroImage(BufferedImage heroImage) {
         this.heroImage = heroImage;
+        this.heroMipmap = heroImage != null ? new SpriteMipmap(heroImage) : null;
+    }
+
+    /**
+     * Tells the hero whether the scene zoom has stopped changing.
+     * While zooming, sprites are drawn from the nearest mip level; once settled, an exact-size copy is used.
+     * @param zoomSettled true if the scene scale is stable.
+     */
+    public void setZoomSettled(boolean zoomSettled) {
+        this.zoomSettled = zoomSettled;
     }
 
     /**
@@ -408,20 +425,39 @@ public class Hero {
 
         AffineTransform oldTransform = g2d.getTransform();
 
-        // Apply scene transformation (offset and scaling of the entire scene)
-        AffineTransform sceneTransform = new AffineTransform();
-        sceneTransform.translate(offsetX, offsetY);
-        sceneTransform.scale(sceneScale, sceneScale);
-        g2d.transform(sceneTransform);
-
         // Position and size of the hero in the scaled scene space
         int currentDrawX = this.x; // x, y are already hero coordinates
         int currentDrawY = this.y;
         int currentDrawWidth = getScaledWidth();  // Use the scaled width of the hero
         int currentDrawHeight = getScaledHeight(); // Use the scaled height of the hero
 
-        // Draw the hero image
-        g2d.drawImage(heroImage, currentDrawX, currentDrawY, currentDrawWidth, currentDrawHeight, null);
+        // Draw the hero and diamond sprites in panel space from their mipmaps,
+        // so the full-resolution images are not rescaled on every frame
+        int diamondWidth = diamondImage != null ? (int) (diamondImage.getWidth() * 0.2) : 0; // Scale 0.2 for the diamond
+        int diamondHeight = diamondImage != null ? (int) (diamondImage.getHeight() * 0.2) : 0;
+        int diamondX = currentDrawX + (currentDrawWidth - diamondWidth) / 2; // Center the diamond above the hero
+        int diamondY = currentDrawY - diamondHeight - 5; // Slightly above the hero
+
+        heroMipmap.draw(g2d,
+                (int) Math.round(offsetX + currentDrawX * sceneScale),
+                (int) Math.round(offsetY + currentDrawY * sceneScale),
+                (int) Math.round(currentDrawWidth * sceneScale),
+                (int) Math.round(currentDrawHeight * sceneScale),
+                zoomSettled);
+        if (diamondMipmap != null) {
+            diamondMipmap.draw(g2d,
+                    (int) Math.round(offsetX + diamondX * sceneScale),
+                    (int) Math.round(offsetY + diamondY * sceneScale),
+                    (int) Math.round(diamondWidth * sceneScale),
+                    (int) Math.round(diamondHeight * sceneScale),
+                    zoomSettled);
+        }
+
+        // Apply scene transformation (offset and scaling of the entire scene)
+        AffineTransform sceneTransform = new AffineTransform();
+        sceneTransform.translate(offsetX, offsetY);
+        sceneTransform.scale(sceneScale, sceneScale);
+        g2d.transform(sceneTransform);
 
         // If the hero is selected, draw a green border
         if (isSelected) {
@@ -432,15 +468,6 @@ public class Hero {
             g2d.setStroke(oldStroke);
         }
 
-        // Draw the diamond image if it's loaded
-        if (diamondImage != null) {
-            int diamondWidth = (int) (diamondImage.getWidth() * 0.2); // Scale 0.2 for the diamond
-            int diamondHeight = (int) (diamondImage.getHeight() * 0.2);
-            int diamondX = currentDrawX + (currentDrawWidth - diamondWidth) / 2; // Center the diamond above the hero
-            int diamondY = currentDrawY - diamondHeight - 5; // Slightly above the hero
-            g2d.drawImage(diamondImage, diamondX, diamondY, diamondWidth, diamondHeight, null);
-        }
-
         // Display message above the hero (for eat, sleep, study, relax)
         if (!heroMessage.isEmpty()) {
             g2d.setColor(Color.WHITE);
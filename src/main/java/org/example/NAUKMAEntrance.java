@@ -1,11 +1,17 @@
 package org.example;
 
+import gui.LayeredScenePanel;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.RoundRectangle2D;
 
-public class NAUKMAEntrance extends JPanel {
+/**
+ * The entrance hall of NaUKMA. The whole scene is static, so it is painted once per size
+ * into the cached layer of {@link LayeredScenePanel} and every later repaint is a single blit.
+ */
+public class NAUKMAEntrance extends LayeredScenePanel {
 
     private static final Color SIMS_LIGHT_PINK = new Color(255, 233, 243);
     private static final Color SIMS_MEDIUM_PINK = new Color(255, 212, 222);
@@ -16,18 +22,14 @@ public class NAUKMAEntrance extends JPanel {
     private static final Color SIMS_GREEN_CORRECT = new Color(144, 238, 144);
     private static final Color SIMS_RED_INCORRECT = new Color(255, 99, 71);
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+    private static final Font SIGN_FONT = new Font("Arial", Font.BOLD, 32);
 
+    @Override
+    protected void paintStaticLayer(Graphics2D g2d, int panelWidth, int panelHeight) {
         // Увімкнення згладжування для кращої якості зображення
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
-        int panelWidth = getWidth();
-        int panelHeight = getHeight();
-
         // Визначаємо висоту підлоги від нижнього краю панелі
         int floorLevelY = panelHeight - 250; // Збільшено висоту підлоги, щоб "горизонт" був вищим
 
@@ -101,7 +103,7 @@ public class NAUKMAEntrance extends JPanel {
 
         // Напис "НАУКМА" над входом
         g2d.setColor(new Color(30, 30, 30)); // Темніший колір
-        g2d.setFont(new Font("Arial", Font.BOLD, 32)); // Більший шрифт
+        g2d.setFont(SIGN_FONT); // Більший шрифт
         FontMetrics fm = g2d.getFontMetrics();
         String naukmaText = "НАУКМА";
         int textWidth = fm.stringWidth(naukmaText);
@@ -0,0 +1,401 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Immutable prerequisite graph over discipline IDs: which disciplines must be passed (or taken in the
+ * same year) before a discipline can be taken.
+ * <p>
+ * The graph is compiled once, when the catalog is loaded. The disciplines are numbered in topological
+ * order, every prerequisite before the disciplines that need it, and for every discipline two
+ * reachability bitsets are computed in one pass each: all its prerequisites, direct and indirect, and
+ * all the disciplines that depend on it. A set of disciplines, such as a transcript, is a bitset of
+ * the same size ({@link #setOf(Collection)}), so "is X unlocked" is one AND-NOT over a row, "what does
+ * dropping Y invalidate" one AND, and validating a whole transcript costs a row per discipline in it.
+ * The rows are kept in two flat arrays of {@code long} words.
+ */
+public final class PrerequisiteGraph {
+    /** A graph without prerequisites: every discipline is unlocked. */
+    public static final PrerequisiteGraph EMPTY = compile(Collections.emptyMap(), Collections.emptyMap());
+
+    private final Map<String, Integer> indexes;
+    private final String[] disciplineIds; // Index -> ID, in topological order
+    private final String[] names;
+    private final int words; // Words per bitset
+    private final long[] prerequisites; // Row i: every discipline that i requires, directly or not
+    private final long[] dependents; // Row i: every discipline that requires i, directly or not
+    private final boolean[] hasPrerequisites;
+
+    private PrerequisiteGraph(String[] disciplineIds, String[] names, long[] prerequisites, long[] dependents, boolean[] hasPrerequisites) {
+        this.disciplineIds = disciplineIds;
+        this.names = names;
+        this.words = wordsFor(disciplineIds.length);
+        this.prerequisites = prerequisites;
+        this.dependents = dependents;
+        this.hasPrerequisites = hasPrerequisites;
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < disciplineIds.length; i++) {
+            indexes.put(disciplineIds[i], i);
+        }
+        this.indexes = indexes;
+    }
+
+    private static int wordsFor(int size) {
+        return Math.max(1, (size + 63) >>> 6);
+    }
+
+    /**
+     * Compiles a prerequisite graph.
+     *
+     * @param disciplines The name of every discipline ID of the catalog, in catalog order.
+     * @param prerequisites For a discipline ID, the IDs of its direct prerequisites.
+     * @return The compiled graph.
+     * @throws IllegalArgumentException if an ID is not among the disciplines or the prerequisites form a cycle.
+     */
+    public static PrerequisiteGraph compile(Map<String, String> disciplines, Map<String, List<String>> prerequisites) {
+        List<String> nodes = new ArrayList<>(disciplines.keySet());
+        Map<String, Integer> position = new HashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            position.put(nodes.get(i), i);
+        }
+
+        // Direct edges prerequisite -> dependent, by catalog position
+        List<List<Integer>> required = new ArrayList<>(nodes.size());
+        List<List<Integer>> requiredBy = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            required.add(new ArrayList<>());
+            requiredBy.add(new ArrayList<>());
+        }
+        for (Map.Entry<String, List<String>> entry : prerequisites.entrySet()) {
+            int dependent = positionOf(position, entry.getKey());
+            for (String prerequisite : entry.getValue()) {
+                int from = positionOf(position, prerequisite);
+                required.get(dependent).add(from);
+                requiredBy.get(from).add(dependent);
+            }
+        }
+
+        // Kahn's algorithm; a node is numbered once all its prerequisites are
+        int[] missing = new int[nodes.size()];
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            missing[i] = required.get(i).size();
+            if (missing[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int[] order = new int[nodes.size()]; // Catalog position -> topological index
+        String[] ids = new String[nodes.size()];
+        String[] names = new String[nodes.size()];
+        int next = 0;
+        while (!ready.isEmpty()) {
+            int node = ready.poll();
+            order[node] = next;
+            names[next] = disciplines.get(nodes.get(node));
+            ids[next++] = nodes.get(node);
+            for (int dependent : requiredBy.get(node)) {
+                if (--missing[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (next < nodes.size()) {
+            List<String> cycle = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                if (missing[i] > 0) {
+                    cycle.add(nodes.get(i));
+                }
+            }
+            throw new IllegalArgumentException("Передумови дисциплін утворюють цикл: " + String.join(", ", cycle));
+        }
+
+        int words = wordsFor(nodes.size());
+        long[] ancestors = new long[nodes.size() * words];
+        long[] descendants = new long[nodes.size() * words];
+        boolean[] hasPrerequisites = new boolean[nodes.size()];
+        int[] byIndex = new int[nodes.size()]; // Topological index -> catalog position
+        for (int i = 0; i < nodes.size(); i++) {
+            byIndex[order[i]] = i;
+        }
+        // Prerequisites come first, so their rows are complete when a dependent row is built
+        for (int v = 0; v < nodes.size(); v++) {
+            for (int from : required.get(byIndex[v])) {
+                int p = order[from];
+                orRow(ancestors, v, ancestors, p, words);
+                ancestors[v * words + (p >>> 6)] |= 1L << p;
+                hasPrerequisites[v] = true;
+            }
+        }
+        for (int v = nodes.size() - 1; v >= 0; v--) {
+            for (int to : requiredBy.get(byIndex[v])) {
+                int d = order[to];
+                orRow(descendants, v, descendants, d, words);
+                descendants[v * words + (d >>> 6)] |= 1L << d;
+            }
+        }
+        return new PrerequisiteGraph(ids, names, ancestors, descendants, hasPrerequisites);
+    }
+
+    private static int positionOf(Map<String, Integer> position, String disciplineId) {
+        Integer index = position.get(disciplineId);
+        if (index == null) {
+            throw new IllegalArgumentException("Передумови посилаються на невідому дисципліну '" + disciplineId + "'.");
+        }
+        return index;
+    }
+
+    private static void orRow(long[] target, int targetRow, long[] source, int sourceRow, int words) {
+        int t = targetRow * words;
+        int s = sourceRow * words;
+        for (int w = 0; w < words; w++) {
+            target[t + w] |= source[s + w];
+        }
+    }
+
+    /**
+     * Returns the number of disciplines in the graph.
+     * @return The node count.
+     */
+    public int size() {
+        return disciplineIds.length;
+    }
+
+    /**
+     * Creates an empty set of disciplines of this graph.
+     * @return A bitset with no disciplines.
+     */
+    public long[] newSet() {
+        return new long[words];
+    }
+
+    /**
+     * Creates a set of disciplines of this graph. IDs not in the graph are ignored.
+     *
+     * @param disciplineIds The IDs.
+     * @return A bitset of the disciplines.
+     */
+    public long[] setOf(Collection<String> disciplineIds) {
+        long[] set = newSet();
+        for (String disciplineId : disciplineIds) {
+            add(set, disciplineId);
+        }
+        return set;
+    }
+
+    /**
+     * Adds a discipline to a set. An ID not in the graph is ignored.
+     *
+     * @param set The set, changed in place.
+     * @param disciplineId The ID.
+     */
+    public void add(long[] set, String disciplineId) {
+        Integer index = indexes.get(disciplineId);
+        if (index != null) {
+            set[index >>> 6] |= 1L << index;
+        }
+    }
+
+    public boolean contains(long[] set, String disciplineId) {
+        Integer index = indexes.get(disciplineId);
+        return index != null && (set[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the IDs of the disciplines in a set, prerequisites first.
+     *
+     * @param set The set.
+     * @return The IDs.
+     */
+    public List<String> toIds(long[] set) {
+        List<String> ids = new ArrayList<>();
+        for (int w = 0; w < words; w++) {
+            for (long rest = set[w]; rest != 0; rest &= rest - 1) {
+                ids.add(disciplineIds[(w << 6) + Long.numberOfTrailingZeros(rest)]);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the names of the disciplines in a set, prerequisites first.
+     *
+     * @param set The set.
+     * @return The names, separated by commas.
+     */
+    public String describe(long[] set) {
+        StringBuilder text = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            for (long rest = set[w]; rest != 0; rest &= rest - 1) {
+                text.append(text.length() == 0 ? "" : ", ").append(names[(w << 6) + Long.numberOfTrailingZeros(rest)]);
+            }
+        }
+        return text.toString();
+    }
+
+    public static boolean isEmpty(long[] set) {
+        for (long word : set) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a discipline can be taken with the given disciplines done: all its prerequisites,
+     * direct and indirect, must be in the set. A discipline not in the graph is always unlocked.
+     *
+     * @param disciplineId The discipline.
+     * @param satisfied The disciplines passed or taken.
+     * @return true if nothing is missing.
+     */
+    public boolean isUnlocked(String disciplineId, long[] satisfied) {
+        Integer index = indexes.get(disciplineId);
+        if (index == null || !hasPrerequisites[index]) {
+            return true;
+        }
+        int row = index * words;
+        for (int w = 0; w < words; w++) {
+            if ((prerequisites[row + w] & ~satisfied[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the prerequisites of a discipline that are not in the given set.
+     *
+     * @param disciplineId The discipline.
+     * @param satisfied The disciplines passed or taken.
+     * @return The missing prerequisites, direct and indirect; empty if the discipline is unlocked.
+     */
+    public long[] missingPrerequisites(String disciplineId, long[] satisfied) {
+        long[] missing = newSet();
+        Integer index = indexes.get(disciplineId);
+        if (index != null && hasPrerequisites[index]) {
+            int row = index * words;
+            for (int w = 0; w < words; w++) {
+                missing[w] = prerequisites[row + w] & ~satisfied[w];
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Returns the disciplines of a set that depend on a discipline, directly or not, and so would
+     * lose a prerequisite if it were dropped.
+     *
+     * @param disciplineId The discipline to drop.
+     * @param held The disciplines held.
+     * @return The invalidated disciplines; empty if none.
+     */
+    public long[] invalidatedBy(String disciplineId, long[] held) {
+        long[] invalidated = newSet();
+        Integer index = indexes.get(disciplineId);
+        if (index != null) {
+            int row = index * words;
+            for (int w = 0; w < words; w++) {
+                invalidated[w] = dependents[row + w] & held[w];
+            }
+        }
+        return invalidated;
+    }
+
+    /**
+     * Validates a whole transcript: every discipline in it must have all its prerequisites in it too.
+     *
+     * @param transcript The disciplines passed and taken.
+     * @return The disciplines of the transcript whose prerequisites are not all in it; empty if valid.
+     */
+    public long[] validate(long[] transcript) {
+        long[] invalid = newSet();
+        for (int w = 0; w < words; w++) {
+            for (long rest = transcript[w]; rest != 0; rest &= rest - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(rest);
+                if (!hasPrerequisites[index]) {
+                    continue;
+                }
+                int row = index * words;
+                for (int u = 0; u < words; u++) {
+                    if ((prerequisites[row + u] & ~transcript[u]) != 0) {
+                        invalid[w] |= 1L << index;
+                        break;
+                    }
+                }
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Compiles a synthetic catalog with layered prerequisites and prints how long compiling and the
+     * queries take. Arguments: disciplines (default 20000), transcript size (default 60).
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int transcriptSize = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        Random random = new Random(1);
+
+        Map<String, String> disciplines = new LinkedHashMap<>();
+        Map<String, List<String>> prerequisites = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String id = "D" + i;
+            disciplines.put(id, "Дисципліна " + i);
+            if (i >= 100) {
+                List<String> required = new ArrayList<>();
+                for (int k = random.nextInt(4); k > 0; k--) {
+                    required.add("D" + Math.max(0, i - 1 - random.nextInt(Math.min(i, 500)))); // Recent, like earlier years
+                }
+                prerequisites.put(id, required);
+            }
+        }
+
+        long begin = System.nanoTime();
+        PrerequisiteGraph graph = compile(disciplines, prerequisites);
+        System.out.printf("Дисциплін: %d, компіляція %.1f мс%n", size, (System.nanoTime() - begin) / 1e6);
+
+        int rounds = 10_000;
+        long[][] transcripts = new long[rounds][];
+        String[] probes = new String[rounds];
+        for (int r = 0; r < rounds; r++) {
+            List<String> ids = new ArrayList<>(transcriptSize);
+            for (int k = 0; k < transcriptSize; k++) {
+                ids.add("D" + random.nextInt(size));
+            }
+            transcripts[r] = graph.setOf(ids);
+            probes[r] = "D" + random.nextInt(size);
+        }
+        for (int run = 0; run < 3; run++) {
+            int invalid = 0;
+            int unlocked = 0;
+            int invalidated = 0;
+            long validating = 0;
+            long checking = 0;
+            long dropping = 0;
+            for (int r = 0; r < rounds; r++) {
+                long start = System.nanoTime();
+                invalid += graph.toIds(graph.validate(transcripts[r])).size();
+                long validated = System.nanoTime();
+                unlocked += graph.isUnlocked(probes[r], transcripts[r]) ? 1 : 0;
+                long checked = System.nanoTime();
+                invalidated += isEmpty(graph.invalidatedBy(probes[r], transcripts[r])) ? 0 : 1;
+                long dropped = System.nanoTime();
+                validating += validated - start;
+                checking += checked - validated;
+                dropping += dropped - checked;
+            }
+            System.out.printf("перевірка заліковки %.2f мкс, доступність %.2f мкс, наслідки виписки %.2f мкс"
+                            + " (недійсних %d, доступних %d, з наслідками %d)%n",
+                    validating / 1e3 / rounds, checking / 1e3 / rounds, dropping / 1e3 / rounds, invalid, unlocked, invalidated);
+        }
+    }
+}
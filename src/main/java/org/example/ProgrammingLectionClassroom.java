@@ -1,5 +1,7 @@
 package org.example;
 
+import gui.LayeredScenePanel;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -7,7 +9,11 @@ import java.awt.event.ActionListener;
 import java.awt.geom.Rectangle2D;
 import java.awt.geom.RoundRectangle2D;
 
-public class ProgrammingLectionClassroom extends JPanel {
+/**
+ * The programming lecture classroom. The room itself never changes, so it is painted once per size
+ * into the cached layer of {@link LayeredScenePanel}; only the exit button is a live component.
+ */
+public class ProgrammingLectionClassroom extends LayeredScenePanel {
 
     private final int DESK_WIDTH = 150;
     private final int DESK_DEPTH = 70;
@@ -28,6 +34,15 @@ public class ProgrammingLectionClassroom extends JPanel {
     private final Color WINDOW_FRAME_COLOR = new Color(100, 100, 100);
     private final Color WINDOW_GLASS_COLOR = new Color(200, 230, 255, 150);
     private final Color DOOR_COLOR = new Color(139, 69, 19);
+    private final Color BLACKBOARD_FRAME_COLOR = new Color(80, 80, 80);
+    private final Color DOOR_FRAME_COLOR = new Color(110, 49, 0);
+    private final Color DOOR_HANDLE_COLOR = new Color(210, 210, 210);
+    private final Color TEACHER_DESK_COLOR = new Color(130, 90, 50);
+
+    private static final Font BLACKBOARD_FONT = new Font("Arial", Font.ITALIC, 20);
+    private static final BasicStroke BLACKBOARD_STROKE = new BasicStroke(2);
+    private static final BasicStroke DOOR_STROKE = new BasicStroke(3);
+    private static final BasicStroke WINDOW_STROKE = new BasicStroke(4);
 
     private static final Color SIMS_LIGHT_PINK = new Color(255, 233, 243);
     private static final Color SIMS_MEDIUM_PINK = new Color(255, 212, 222);
@@ -88,41 +103,39 @@ public class ProgrammingLectionClassroom extends JPanel {
     }
 
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+    protected void paintStaticLayer(Graphics2D g2d, int width, int height) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
         // --- Floor ---
         g2d.setColor(FLOOR_COLOR);
-        g2d.fillRect(0, getHeight() / 3, getWidth(), getHeight() * 2 / 3);
+        g2d.fillRect(0, height / 3, width, height * 2 / 3);
 
         // --- Back Wall ---
         g2d.setColor(WALL_COLOR);
-        g2d.fillRect(0, 0, getWidth(), getHeight() / 3);
+        g2d.fillRect(0, 0, width, height / 3);
 
         // --- Blackboard ---
-        int blackboardWidth = getWidth() / 2;
+        int blackboardWidth = width / 2;
         int blackboardHeight = 150;
-        int blackboardX = (getWidth() - blackboardWidth) / 2;
+        int blackboardX = (width - blackboardWidth) / 2;
         int blackboardY = 20;
         g2d.setColor(BLACKBOARD_COLOR);
         g2d.fillRect(blackboardX, blackboardY, blackboardWidth, blackboardHeight);
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.ITALIC, 20));
+        g2d.setFont(BLACKBOARD_FONT);
         g2d.drawString("Лекція з програмування", blackboardX + 20, blackboardY + 30);
-        g2d.setStroke(new BasicStroke(2));
-        g2d.setColor(new Color(80, 80, 80));
+        g2d.setStroke(BLACKBOARD_STROKE);
+        g2d.setColor(BLACKBOARD_FRAME_COLOR);
         g2d.drawRect(blackboardX, blackboardY, blackboardWidth, blackboardHeight);
 
         // --- Window ---
         int windowWidth = 200;
         int windowHeight = 150;
-        int windowX = getWidth() - windowWidth - 20;
+        int windowX = width - windowWidth - 20;
         int windowY = 25;
         g2d.setColor(WINDOW_FRAME_COLOR);
-        g2d.setStroke(new BasicStroke(4));
+        g2d.setStroke(WINDOW_STROKE);
         g2d.drawRect(windowX, windowY, windowWidth, windowHeight);
         g2d.setColor(WINDOW_GLASS_COLOR);
         g2d.fillRect(windowX + 2, windowY + 2, windowWidth - 4, windowHeight - 4);
@@ -134,19 +147,19 @@ public class ProgrammingLectionClassroom extends JPanel {
         int doorWidth = 80;
         int doorHeight = 180;
         int doorX = 30;
-        int doorY = getHeight() / 3 - doorHeight; // Розрахунок doorY тут, щоб він був актуальним
+        int doorY = height / 3 - doorHeight; // Розрахунок doorY тут, щоб він був актуальним
         g2d.setColor(DOOR_COLOR);
         g2d.fillRect(doorX, doorY, doorWidth, doorHeight);
-        g2d.setColor(new Color(110, 49, 0));
-        g2d.setStroke(new BasicStroke(3));
+        g2d.setColor(DOOR_FRAME_COLOR);
+        g2d.setStroke(DOOR_STROKE);
         g2d.drawRect(doorX, doorY, doorWidth, doorHeight);
-        g2d.setColor(new Color(210, 210, 210));
+        g2d.setColor(DOOR_HANDLE_COLOR);
         g2d.fillOval(doorX + doorWidth - 25, doorY + doorHeight / 2 - 10, 20, 20);
 
         // --- Desks and Chairs ---
         g2d.setColor(DESK_COLOR);
-        int startX = (getWidth() - (3 * COLUMN_SPACING)) / 2;
-        int startY = getHeight() / 3 + 50;
+        int startX = (width - (3 * COLUMN_SPACING)) / 2;
+        int startY = height / 3 + 50;
         for (int row = 0; row < 4; row++) {
             for (int col = 0; col < 3; col++) {
                 int deskX = startX + col * COLUMN_SPACING;
@@ -172,10 +185,10 @@ public class ProgrammingLectionClassroom extends JPanel {
         }
 
         // --- Teacher's Desk ---
-        g2d.setColor(new Color(130, 90, 50));
+        g2d.setColor(TEACHER_DESK_COLOR);
         int teacherDeskWidth = 200;
         int teacherDeskDepth = 80;
-        int teacherDeskX = getWidth() / 2 - teacherDeskWidth / 2;
+        int teacherDeskX = width / 2 - teacherDeskWidth / 2;
         int teacherDeskY = blackboardY + blackboardHeight + 30;
         g2d.fillRect(teacherDeskX, teacherDeskY, teacherDeskWidth, teacherDeskDepth);
         g2d.fillRect(teacherDeskX + 10, teacherDeskY + teacherDeskDepth, 10, 30); // Legs
@@ -0,0 +1,703 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load simulator for the opening minutes of elective registration.
+ * <p>
+ * A configurable population of virtual students, each running on its own virtual thread, arrives
+ * shortly after registration opens, thinks for a while before every attempt and tries to take seats
+ * in its preferred electives through the shared {@link EnrollmentSystem}. Preferences follow a Zipf
+ * distribution over a random popularity ranking, so a few electives are wanted by almost everybody
+ * and fill up within seconds while the tail stays half empty. A student first tries to take all of
+ * its top choices in one batch (see {@link EnrollmentSystem#reserveSeats(List)}); if one of them is
+ * full, nothing is held and it goes on one elective at a time, moving on to the next preference, until
+ * it holds {@code picksPerStudent} electives or has tried {@code maxAttemptsPerStudent} times. Some
+ * students then change their mind and give one seat back; the seat goes to the discipline's waitlist
+ * first, if anybody is waiting.
+ * <p>
+ * With {@link #useAllocationWindow(long, SeatAllocationEngine.Mechanism)} registration opens with an
+ * {@link AllocationRound} instead: students who arrive while the window is open hand in twice as many
+ * ranked preferences as they want electives, wait for the round to be resolved and only then go on
+ * first come, first served for whatever they still miss.
+ * <p>
+ * The simulator measures throughput, attempt latency percentiles, rejected attempts and the time at
+ * which every discipline filled up. A reporter thread aggregates these into an immutable
+ * {@link Snapshot} a few times per second; consumers such as the enrollment window only read
+ * {@link #getLatestSnapshot()} and never drive the simulation themselves.
+ */
+public class RegistrationRushSimulator {
+    private static final long SNAPSHOT_INTERVAL_MS = 200;
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final double CHANGE_OF_MIND_PROBABILITY = 0.2;
+
+    private final EnrollmentSystem system;
+    private final List<Discipline> electives;
+    private final int population;
+    private final int picksPerStudent;
+    private final int maxAttemptsPerStudent;
+    private final long meanArrivalMillis;
+    private final long meanThinkMillis;
+    private long allocationWindowMillis;
+    private SeatAllocationEngine.Mechanism allocationMechanism;
+    private volatile AllocationRound allocationRound;
+
+    private final double[] preferenceCdf; // Cumulative Zipf weights over the popularity ranking
+    private final int[] popularityOrder; // Rank -> index into electives
+
+    // Statistics written by the virtual students
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+    private final AtomicLongArray rejectionsPerDiscipline;
+    private final AtomicLongArray fillTimeMillis; // -1 while not full
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicInteger activeStudents = new AtomicInteger();
+    private final AtomicInteger finishedStudents = new AtomicInteger();
+
+    private volatile long startNanos;
+    private volatile boolean running;
+    private volatile Snapshot latestSnapshot;
+    private ExecutorService students;
+    private Thread reporter;
+
+    /**
+     * Aggregated view of the simulation at one moment. Immutable.
+     */
+    public static final class Snapshot {
+        private final long sequence;
+        private final long elapsedMillis;
+        private final boolean finished;
+        private final int activeStudents;
+        private final int finishedStudents;
+        private final long attempts;
+        private final long successes;
+        private final long rejections;
+        private final long drops;
+        private final double throughputPerSecond;
+        private final double p50Micros;
+        private final double p90Micros;
+        private final double p99Micros;
+        private final double maxMicros;
+        private final List<DisciplineStats> disciplines;
+
+        private Snapshot(long sequence, long elapsedMillis, boolean finished, int activeStudents, int finishedStudents,
+                         long attempts, long successes, long rejections, long drops, double throughputPerSecond,
+                         double p50Micros, double p90Micros, double p99Micros, double maxMicros,
+                         List<DisciplineStats> disciplines) {
+            this.sequence = sequence;
+            this.elapsedMillis = elapsedMillis;
+            this.finished = finished;
+            this.activeStudents = activeStudents;
+            this.finishedStudents = finishedStudents;
+            this.attempts = attempts;
+            this.successes = successes;
+            this.rejections = rejections;
+            this.drops = drops;
+            this.throughputPerSecond = throughputPerSecond;
+            this.p50Micros = p50Micros;
+            this.p90Micros = p90Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+            this.disciplines = disciplines;
+        }
+
+        /**
+         * Returns the number of this snapshot; it grows by one with every published snapshot.
+         * @return The sequence number.
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Checks whether every virtual student has finished.
+         * @return true if this is the final snapshot.
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+
+        public int getActiveStudents() {
+            return activeStudents;
+        }
+
+        public int getFinishedStudents() {
+            return finishedStudents;
+        }
+
+        public long getAttempts() {
+            return attempts;
+        }
+
+        public long getSuccesses() {
+            return successes;
+        }
+
+        public long getRejections() {
+            return rejections;
+        }
+
+        /**
+         * Returns the number of seats given back by students who changed their mind.
+         * @return The number of drops.
+         */
+        public long getDrops() {
+            return drops;
+        }
+
+        /**
+         * Returns the share of attempts that found the discipline already full.
+         * @return The contention ratio between 0 and 1.
+         */
+        public double getContentionRatio() {
+            return attempts == 0 ? 0 : (double) rejections / attempts;
+        }
+
+        /**
+         * Returns the number of successful enrollments per second since the previous snapshot.
+         * @return The current throughput.
+         */
+        public double getThroughputPerSecond() {
+            return throughputPerSecond;
+        }
+
+        public double getP50Micros() {
+            return p50Micros;
+        }
+
+        public double getP90Micros() {
+            return p90Micros;
+        }
+
+        public double getP99Micros() {
+            return p99Micros;
+        }
+
+        public double getMaxMicros() {
+            return maxMicros;
+        }
+
+        /**
+         * Returns the per-discipline statistics, most popular discipline first.
+         * @return An unmodifiable list.
+         */
+        public List<DisciplineStats> getDisciplines() {
+            return disciplines;
+        }
+
+        /**
+         * Formats the snapshot as a few lines of text for logs and the console.
+         * @return The report.
+         */
+        public String toReport() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("%6.1f с: активних %d, завершили %d, спроб %d, записів %d, відмов %d (%.0f%%), виписок %d, %.0f записів/с%n",
+                    elapsedMillis / 1000.0, activeStudents, finishedStudents, attempts, successes, rejections,
+                    getContentionRatio() * 100, drops, throughputPerSecond));
+            report.append(String.format("        затримка спроби: p50 %.1f мкс, p90 %.1f мкс, p99 %.1f мкс, макс. %.1f мкс%n",
+                    p50Micros, p90Micros, p99Micros, maxMicros));
+            return report.toString();
+        }
+    }
+
+    /**
+     * Statistics of one discipline within a {@link Snapshot}.
+     */
+    public static final class DisciplineStats {
+        private final Discipline discipline;
+        private final int enrolled;
+        private final int maxCapacity;
+        private final long rejections;
+        private final long fillTimeMillis;
+
+        private DisciplineStats(Discipline discipline, Discipline.CapacitySnapshot capacity, long rejections, long fillTimeMillis) {
+            this.discipline = discipline;
+            this.enrolled = capacity.getEnrolled();
+            this.maxCapacity = capacity.getMaxCapacity();
+            this.rejections = rejections;
+            this.fillTimeMillis = fillTimeMillis;
+        }
+
+        public Discipline getDiscipline() {
+            return discipline;
+        }
+
+        public int getEnrolled() {
+            return enrolled;
+        }
+
+        public int getMaxCapacity() {
+            return maxCapacity;
+        }
+
+        public long getRejections() {
+            return rejections;
+        }
+
+        /**
+         * Returns how long after the start the discipline became full.
+         * @return The fill time in milliseconds, or -1 if it is not full.
+         */
+        public long getFillTimeMillis() {
+            return fillTimeMillis;
+        }
+    }
+
+    /**
+     * Log-linear latency histogram that many threads can record into without locking.
+     * Bucket {@code 8 * k + s} covers [2^k * (8 + s) / 8, 2^k * (9 + s) / 8) nanoseconds,
+     * so every value is kept with at most 12.5% error.
+     */
+    private static final class LatencyHistogram {
+        private static final int SUB_BUCKETS = 8;
+        private static final int MAX_EXPONENT = 40; // About 18 minutes
+        private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKETS * (MAX_EXPONENT + 1));
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            long value = Math.max(nanos, SUB_BUCKETS);
+            int exponent = 63 - Long.numberOfLeadingZeros(value) - 3; // value >> exponent is in [8, 16)
+            int bucket = Math.min(exponent, MAX_EXPONENT) * SUB_BUCKETS + (int) ((value >> exponent) - SUB_BUCKETS);
+            counts.incrementAndGet(Math.min(bucket, counts.length() - 1));
+            total.increment();
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        /**
+         * Returns the value below which the given share of the recorded values lies.
+         */
+        double percentileNanos(double percentile) {
+            long count = total.sum();
+            if (count == 0) {
+                return 0;
+            }
+            long threshold = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length(); bucket++) {
+                seen += counts.get(bucket);
+                if (seen >= threshold) {
+                    int exponent = bucket / SUB_BUCKETS;
+                    int sub = bucket % SUB_BUCKETS;
+                    return (double) ((long) (SUB_BUCKETS + sub + 1) << exponent); // Upper bound of the bucket
+                }
+            }
+            return max.get();
+        }
+
+        long maxNanos() {
+            return max.get();
+        }
+    }
+
+    /**
+     * Creates a simulator. Nothing runs until {@link #start()} is called.
+     *
+     * @param system The enrollment system all virtual students contend on.
+     * @param electives The electives the virtual students choose from.
+     * @param population The number of virtual students.
+     * @param picksPerStudent How many electives each student wants to hold.
+     * @param meanArrivalMillis Mean delay between the opening of registration and a student's arrival.
+     * @param meanThinkMillis Mean think time before each enrollment attempt.
+     */
+    public RegistrationRushSimulator(EnrollmentSystem system, List<Discipline> electives, int population,
+                                     int picksPerStudent, long meanArrivalMillis, long meanThinkMillis) {
+        this.system = system;
+        this.electives = List.copyOf(electives);
+        this.population = population;
+        this.picksPerStudent = picksPerStudent;
+        this.maxAttemptsPerStudent = picksPerStudent * 3;
+        this.meanArrivalMillis = meanArrivalMillis;
+        this.meanThinkMillis = meanThinkMillis;
+        this.rejectionsPerDiscipline = new AtomicLongArray(this.electives.size());
+        this.fillTimeMillis = new AtomicLongArray(this.electives.size());
+        for (int i = 0; i < this.electives.size(); i++) {
+            fillTimeMillis.set(i, -1);
+        }
+
+        // Random popularity ranking with Zipf weights 1 / rank^s
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < this.electives.size(); i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random());
+        popularityOrder = new int[order.size()];
+        preferenceCdf = new double[order.size()];
+        double sum = 0;
+        for (int rank = 0; rank < order.size(); rank++) {
+            popularityOrder[rank] = order.get(rank);
+            sum += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            preferenceCdf[rank] = sum;
+        }
+        for (int rank = 0; rank < preferenceCdf.length; rank++) {
+            preferenceCdf[rank] /= sum;
+        }
+    }
+
+    /**
+     * Opens registration with a window in which preferences are collected and then allocated at once.
+     * Must be called before {@link #start()}.
+     *
+     * @param windowMillis How long after the start the preferences are collected.
+     * @param mechanism The assignment rule of the round.
+     */
+    public synchronized void useAllocationWindow(long windowMillis, SeatAllocationEngine.Mechanism mechanism) {
+        this.allocationWindowMillis = windowMillis;
+        this.allocationMechanism = mechanism;
+    }
+
+    /**
+     * Returns the allocation round of this simulation, so that others (such as the enrollment window)
+     * can submit their preferences to it.
+     * @return The round, or null if the simulation has no allocation window or has not started.
+     */
+    public AllocationRound getAllocationRound() {
+        return allocationRound;
+    }
+
+    /**
+     * Starts all virtual students and the snapshot reporter. Has no effect if already started.
+     */
+    public synchronized void start() {
+        if (students != null) {
+            return;
+        }
+        running = true;
+        startNanos = System.nanoTime();
+        latestSnapshot = buildSnapshot(0, 0, false);
+        students = Executors.newVirtualThreadPerTaskExecutor();
+        if (allocationMechanism != null) {
+            AllocationRound round = new AllocationRound(system, electives, allocationMechanism, System.nanoTime());
+            allocationRound = round;
+            students.submit(() -> closeAllocationWindow(round));
+        }
+        if (!electives.isEmpty()) {
+            for (int i = 0; i < population; i++) {
+                students.submit(this::runStudent);
+            }
+        }
+        students.shutdown();
+
+        reporter = new Thread(this::runReporter, "registration-rush-reporter");
+        reporter.setDaemon(true);
+        reporter.start();
+    }
+
+    /**
+     * Stops the simulation; sleeping virtual students are interrupted and leave.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (students != null) {
+            students.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the most recently published snapshot.
+     * @return The latest snapshot, or null before {@link #start()}.
+     */
+    public Snapshot getLatestSnapshot() {
+        return latestSnapshot;
+    }
+
+    /**
+     * Waits until every virtual student has finished and the final snapshot is published.
+     *
+     * @param timeoutMillis The maximum time to wait.
+     * @return true if the simulation finished in time.
+     * @throws InterruptedException if the waiting thread is interrupted.
+     */
+    public boolean awaitFinished(long timeoutMillis) throws InterruptedException {
+        if (!students.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        reporter.join(Math.max(1, timeoutMillis));
+        return true;
+    }
+
+    /**
+     * Resolves the round when its window is over, or at once if the simulation is stopped.
+     */
+    private void closeAllocationWindow(AllocationRound round) {
+        try {
+            Thread.sleep(allocationWindowMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            round.resolve();
+        }
+    }
+
+    /**
+     * The life of one virtual student.
+     */
+    private void runStudent() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean arrived = false;
+        try {
+            Thread.sleep(exponential(random, meanArrivalMillis));
+            activeStudents.incrementAndGet();
+            arrived = true;
+            boolean[] tried = new boolean[electives.size()];
+            List<Discipline> held = new ArrayList<>(picksPerStudent);
+            int triedCount = tryAllocationRound(random, tried, held);
+            if (triedCount == 0) {
+                triedCount = tryBatch(random, tried, held);
+            }
+            for (int attempt = 1; attempt < maxAttemptsPerStudent && held.size() < picksPerStudent && running; attempt++) {
+                if (triedCount == electives.size()) {
+                    break; // Every elective has been tried
+                }
+                int index = pickPreference(random, tried);
+                tried[index] = true;
+                triedCount++;
+                Thread.sleep(exponential(random, meanThinkMillis));
+
+                Discipline discipline = electives.get(index);
+                long begin = System.nanoTime();
+                boolean reserved = system.reserveSeat(discipline);
+                latencies.record(System.nanoTime() - begin);
+                attempts.increment();
+                if (reserved) {
+                    successes.increment();
+                    held.add(discipline);
+                    recordIfFull(index);
+                } else {
+                    recordRejection(index);
+                }
+            }
+
+            if (!held.isEmpty() && running && random.nextDouble() < CHANGE_OF_MIND_PROBABILITY) {
+                Thread.sleep(exponential(random, meanThinkMillis));
+                if (system.releaseSeat(held.get(random.nextInt(held.size())))) {
+                    drops.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (arrived) {
+                activeStudents.decrementAndGet();
+            }
+            finishedStudents.incrementAndGet();
+        }
+    }
+
+    /**
+     * Hands the student's preferences in to the allocation round, if it is still open, and waits for
+     * the outcome.
+     * @return The number of electives now marked as tried, or 0 if the round was not open.
+     */
+    private int tryAllocationRound(ThreadLocalRandom random, boolean[] tried, List<Discipline> held) throws InterruptedException {
+        AllocationRound round = allocationRound;
+        if (round == null || !round.isOpen()) {
+            return 0;
+        }
+        int size = Math.min(picksPerStudent * 2, electives.size());
+        int[] indexes = new int[size];
+        List<Discipline> ranked = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes[i] = pickPreference(random, tried);
+            tried[indexes[i]] = true;
+            ranked.add(electives.get(indexes[i]));
+        }
+        CompletableFuture<List<Discipline>> outcome = round.submitAnonymous(ranked, picksPerStudent);
+        if (outcome == null) {
+            for (int index : indexes) {
+                tried[index] = false; // Closed in the meantime
+            }
+            return 0;
+        }
+        List<Discipline> assigned;
+        try {
+            assigned = outcome.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Allocation round failed", e.getCause());
+        }
+        attempts.increment();
+        successes.add(assigned.size());
+        held.addAll(assigned);
+        for (int index : indexes) {
+            recordIfFull(index);
+        }
+        return size;
+    }
+
+    /**
+     * The first attempt of a student: draws its top {@code picksPerStudent} preferences and tries to
+     * take all of them at once. On failure only the full elective counts as tried.
+     * @return The number of electives now marked as tried.
+     */
+    private int tryBatch(ThreadLocalRandom random, boolean[] tried, List<Discipline> held) throws InterruptedException {
+        int size = Math.min(picksPerStudent, electives.size());
+        int[] indexes = new int[size];
+        List<Discipline> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes[i] = pickPreference(random, tried);
+            tried[indexes[i]] = true;
+            batch.add(electives.get(indexes[i]));
+        }
+        Thread.sleep(exponential(random, meanThinkMillis));
+
+        long begin = System.nanoTime();
+        Discipline full = system.reserveSeats(batch);
+        latencies.record(System.nanoTime() - begin);
+        attempts.increment();
+        if (full == null) {
+            successes.add(size);
+            held.addAll(batch);
+            for (int index : indexes) {
+                recordIfFull(index);
+            }
+            return size;
+        }
+        for (int index : indexes) {
+            if (electives.get(index) == full) {
+                recordRejection(index);
+            } else {
+                tried[index] = false;
+            }
+        }
+        return 1;
+    }
+
+    private void recordIfFull(int index) {
+        if (!electives.get(index).hasAvailableSlots()) {
+            fillTimeMillis.compareAndSet(index, -1, elapsedMillis());
+        }
+    }
+
+    private void recordRejection(int index) {
+        rejections.increment();
+        rejectionsPerDiscipline.incrementAndGet(index);
+        fillTimeMillis.compareAndSet(index, -1, elapsedMillis());
+    }
+
+    /**
+     * Draws an elective the student has not tried yet from the Zipf preference distribution.
+     */
+    private int pickPreference(ThreadLocalRandom random, boolean[] tried) {
+        while (true) {
+            int rank = Arrays.binarySearch(preferenceCdf, random.nextDouble());
+            rank = rank >= 0 ? rank : Math.min(-rank - 1, preferenceCdf.length - 1);
+            int index = popularityOrder[rank];
+            if (!tried[index]) {
+                return index;
+            }
+        }
+    }
+
+    private static long exponential(ThreadLocalRandom random, long mean) {
+        return mean <= 0 ? 0 : (long) (-Math.log(1 - random.nextDouble()) * mean);
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Publishes a snapshot every {@value #SNAPSHOT_INTERVAL_MS} ms until all students have finished.
+     */
+    private void runReporter() {
+        long sequence = 1;
+        long lastSuccesses = 0;
+        long lastNanos = System.nanoTime();
+        while (true) {
+            boolean done = students.isTerminated();
+            long now = System.nanoTime();
+            long currentSuccesses = successes.sum();
+            double throughput = (currentSuccesses - lastSuccesses) * 1e9 / Math.max(1, now - lastNanos);
+            latestSnapshot = buildSnapshot(sequence++, throughput, done);
+            lastSuccesses = currentSuccesses;
+            lastNanos = now;
+            if (done) {
+                return;
+            }
+            try {
+                students.awaitTermination(SNAPSHOT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private Snapshot buildSnapshot(long sequence, double throughput, boolean finished) {
+        List<DisciplineStats> stats = new ArrayList<>(electives.size());
+        for (int index : popularityOrder) {
+            Discipline discipline = electives.get(index);
+            stats.add(new DisciplineStats(discipline, discipline.snapshotCapacity(),
+                    rejectionsPerDiscipline.get(index), fillTimeMillis.get(index)));
+        }
+        return new Snapshot(sequence, elapsedMillis(), finished, activeStudents.get(), finishedStudents.get(),
+                attempts.sum(), successes.sum(), rejections.sum(), drops.sum(), throughput,
+                latencies.percentileNanos(0.50) / 1000, latencies.percentileNanos(0.90) / 1000,
+                latencies.percentileNanos(0.99) / 1000, latencies.maxNanos() / 1000.0,
+                Collections.unmodifiableList(stats));
+    }
+
+    /**
+     * Runs a stand-alone registration rush against the full catalog of one program and prints the
+     * snapshots. Arguments: population (default 50000), course (default 2), mean think time in ms (default 50),
+     * allocation window in ms (default 0, no window; the round uses deferred acceptance).
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int population = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int course = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        long thinkMillis = args.length > 2 ? Long.parseLong(args[2]) : 50;
+        long windowMillis = args.length > 3 ? Long.parseLong(args[3]) : 0;
+
+        EnrollmentSystem system = new EnrollmentSystem();
+        for (DisciplineCatalog.Offering offering : DisciplineCatalog.getInstance()
+                .getOfferings("Бакалаврат", "Інженерія програмного забезпечення", course)) {
+            system.addDiscipline(offering.newDiscipline());
+        }
+        List<Discipline> electives = system.getElectiveDisciplines(course);
+        System.out.println("Віртуальних студентів: " + population + ", вибіркових дисциплін: " + electives.size());
+
+        RegistrationRushSimulator simulator = new RegistrationRushSimulator(system, electives, population, 5, 1000, thinkMillis);
+        if (windowMillis > 0) {
+            simulator.useAllocationWindow(windowMillis, SeatAllocationEngine.Mechanism.DEFERRED_ACCEPTANCE);
+        }
+        simulator.start();
+        long lastPrinted = -1;
+        while (!simulator.awaitFinished(1000)) {
+            Snapshot snapshot = simulator.getLatestSnapshot();
+            if (snapshot.getSequence() != lastPrinted) {
+                System.out.print(snapshot.toReport());
+                lastPrinted = snapshot.getSequence();
+            }
+        }
+
+        Snapshot result = simulator.getLatestSnapshot();
+        System.out.print(result.toReport());
+        System.out.println("Час заповнення дисциплін (від найпопулярнішої):");
+        for (DisciplineStats stats : result.getDisciplines()) {
+            System.out.printf("  %-60s %4d/%-4s відмов %7d  %s%n",
+                    stats.getDiscipline().getName(), stats.getEnrolled(),
+                    stats.getMaxCapacity() == EnrollmentSystem.UNLIMITED_CAPACITY ? "∞" : String.valueOf(stats.getMaxCapacity()),
+                    stats.getRejections(),
+                    stats.getFillTimeMillis() < 0 ? "не заповнена" : "заповнена за " + stats.getFillTimeMillis() + " мс");
+        }
+    }
+}
@@ -0,0 +1,666 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk import of students, e.g. to seed a whole faculty for load tests of the enrollment and session stages.
+ * <p>
+ * The roster is streamed, so its size is not limited by memory. Two formats are read, told apart by
+ * the first character:
+ * <ul>
+ *     <li>CSV with a header line naming the columns {@code studentId}, {@code name}, {@code course},
+ *     {@code major} and optionally {@code degree} (bachelor's if empty) and {@code electives}
+ *     (discipline IDs separated by {@code ;}). Fields may be quoted; a quoted field cannot span lines.</li>
+ *     <li>A JSON array of objects with the same keys, {@code electives} being an array.</li>
+ * </ul>
+ * The calling thread parses records into partitions of {@value #PARTITION_SIZE}, which are imported on a
+ * worker pool; at most two partitions per worker wait at a time, so a fast reader cannot run ahead.
+ * <p>
+ * Every program (degree, major and course) gets its own {@link EnrollmentSystem}, set up from the
+ * {@link DisciplineCatalog} the way the enrollment window sets up its own: the catalog gives the same
+ * discipline ID a different schedule, or even a different kind, in different programs, and a system
+ * registers an ID once. Each student is added to the system of their program and enrolled in its
+ * mandatory disciplines the way the enrollment window does it, the mandatory disciplines of earlier
+ * courses are recorded as passed, and the electives of the roster are enrolled as one batch
+ * ({@link EnrollmentSystem#enrollStudentToDisciplines(String, java.util.Collection)}), with the usual
+ * credit, timetable, prerequisite and seat checks. A record that cannot be imported, or whose
+ * electives are refused, is a {@link Failure}; the import goes on. Student IDs are unique across the
+ * faculty.
+ * <p>
+ * Run with {@code java org.example.RosterImporter [students] [threads] [roster file]} to seed a synthetic
+ * faculty, or one read from a file.
+ */
+public class RosterImporter {
+    public static final int PARTITION_SIZE = 1000;
+    public static final int MAX_REPORTED_FAILURES = 1000;
+
+    private final DisciplineCatalog catalog;
+    private final int threads;
+    private final Map<String, Program> programs = new ConcurrentHashMap<>();
+    private final Set<String> studentIds = ConcurrentHashMap.newKeySet();
+    private final Gson gson = new Gson();
+
+    /**
+     * Receives the progress of an import. Called by the worker threads after every partition.
+     */
+    public interface ProgressListener {
+        void progress(Progress progress);
+    }
+
+    /**
+     * One roster record. Filled by Gson for JSON rosters.
+     */
+    private static final class Record {
+        String studentId;
+        String name;
+        String degree;
+        int course;
+        String major;
+        List<String> electives;
+        transient long position; // Line of a CSV roster, element number of a JSON roster
+    }
+
+    /**
+     * The system of one program.
+     */
+    private static final class Program {
+        private final EnrollmentSystem system; // Null if the catalog does not have the program
+        private final List<Discipline> mandatory;
+        private final List<String> completedBefore;
+
+        private Program(EnrollmentSystem system, List<Discipline> mandatory, List<String> completedBefore) {
+            this.system = system;
+            this.mandatory = mandatory;
+            this.completedBefore = completedBefore;
+        }
+    }
+
+    /**
+     * A roster record that was not imported, or whose electives were refused.
+     */
+    public static final class Failure {
+        private final long position;
+        private final String studentId;
+        private final String message;
+
+        private Failure(long position, String studentId, String message) {
+            this.position = position;
+            this.studentId = studentId;
+            this.message = message;
+        }
+
+        /**
+         * Returns where the record is in the roster.
+         * @return The line of a CSV roster, or the element number (from 1) of a JSON roster.
+         */
+        public long getPosition() {
+            return position;
+        }
+
+        public String getStudentId() {
+            return studentId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + position + (studentId == null ? "" : " (" + studentId + ")") + ": " + message;
+        }
+    }
+
+    /**
+     * Counters of an import at one moment.
+     */
+    public static final class Progress {
+        private final int records;
+        private final int students;
+        private final int failures;
+        private final long millis;
+
+        private Progress(int records, int students, int failures, long millis) {
+            this.records = records;
+            this.students = students;
+            this.failures = failures;
+            this.millis = millis;
+        }
+
+        /**
+         * Returns the number of records handled so far.
+         * @return The number of records.
+         */
+        public int getRecords() {
+            return records;
+        }
+
+        /**
+         * Returns the number of students added to the system, including those whose electives were refused.
+         * @return The number of students.
+         */
+        public int getStudents() {
+            return students;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public String toReport() {
+            return String.format("Опрацьовано записів: %d, додано студентів: %d, помилок: %d, %d мс (%.0f студентів/с)%n",
+                    records, students, failures, millis, millis == 0 ? 0.0 : students * 1000.0 / millis);
+        }
+    }
+
+    /**
+     * Result of a finished import.
+     */
+    public static final class Report {
+        private final Progress totals;
+        private final List<Failure> failures;
+
+        private Report(Progress totals, List<Failure> failures) {
+            this.totals = totals;
+            this.failures = failures;
+        }
+
+        public Progress getTotals() {
+            return totals;
+        }
+
+        /**
+         * Returns the failures in roster order, at most {@value #MAX_REPORTED_FAILURES} of them;
+         * {@link Progress#getFailures()} counts all.
+         * @return An unmodifiable list.
+         */
+        public List<Failure> getFailures() {
+            return failures;
+        }
+    }
+
+    /**
+     * Accumulates the outcome of one import across the worker threads.
+     */
+    private static final class Run {
+        private final long begin = System.nanoTime();
+        private final AtomicInteger records = new AtomicInteger();
+        private final AtomicInteger students = new AtomicInteger();
+        private final AtomicInteger failureCount = new AtomicInteger();
+        private final List<Failure> failures = new ArrayList<>(); // Guarded by itself
+        private final ProgressListener listener;
+
+        private Run(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        void fail(Record record, String message) {
+            if (failureCount.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                synchronized (failures) {
+                    failures.add(new Failure(record.position, record.studentId, message));
+                }
+            }
+        }
+
+        Progress progress() {
+            return new Progress(records.get(), students.get(), failureCount.get(), (System.nanoTime() - begin) / 1_000_000);
+        }
+
+        Report report() {
+            List<Failure> sorted;
+            synchronized (failures) {
+                sorted = new ArrayList<>(failures);
+            }
+            sorted.sort((a, b) -> Long.compare(a.position, b.position));
+            return new Report(progress(), Collections.unmodifiableList(sorted));
+        }
+    }
+
+    /**
+     * Creates an importer.
+     *
+     * @param catalog The catalog the programs are taken from.
+     * @param threads The number of worker threads.
+     */
+    public RosterImporter(DisciplineCatalog catalog, int threads) {
+        this.catalog = catalog;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Imports a roster, returning when every record has been handled.
+     *
+     * @param roster The roster, CSV or JSON; read to the end but not closed.
+     * @param listener Receives the progress after every partition; may be null.
+     * @return The totals and the failures.
+     * @throws IOException if the roster cannot be read, or its header or JSON structure is malformed.
+     * @throws InterruptedException if interrupted while waiting for the workers; the import is abandoned.
+     */
+    public Report importRoster(Reader roster, ProgressListener listener) throws IOException, InterruptedException {
+        BufferedReader in = roster instanceof BufferedReader ? (BufferedReader) roster : new BufferedReader(roster);
+        Run run = new Run(listener);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        Semaphore inFlight = new Semaphore(threads * 2);
+        try {
+            PartitionSink sink = partition -> {
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        importPartition(partition, run);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            };
+            if (firstCharacter(in) == '[') {
+                readJson(in, run, sink);
+            } else {
+                readCsv(in, run, sink);
+            }
+        } finally {
+            workers.shutdown();
+        }
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        return run.report();
+    }
+
+    private interface PartitionSink {
+        void accept(List<Record> partition) throws InterruptedException;
+    }
+
+    private static int firstCharacter(BufferedReader in) throws IOException {
+        while (true) {
+            in.mark(1);
+            int c = in.read();
+            if (c < 0 || !Character.isWhitespace(c) && c != '\uFEFF') {
+                in.reset();
+                return c;
+            }
+        }
+    }
+
+    private void readJson(BufferedReader in, Run run, PartitionSink sink) throws IOException, InterruptedException {
+        JsonReader json = new JsonReader(in);
+        List<Record> partition = new ArrayList<>(PARTITION_SIZE);
+        long position = 0;
+        json.beginArray();
+        while (json.hasNext()) {
+            // A whole element is read first, so one of the wrong shape is reported and the stream goes on
+            JsonElement element;
+            try {
+                element = JsonParser.parseReader(json);
+            } catch (JsonSyntaxException | JsonIOException e) {
+                throw new IOException("Неправильний JSON у списку студентів після запису " + position + ".", e);
+            }
+            Record record;
+            try {
+                record = gson.fromJson(element, Record.class);
+            } catch (JsonParseException e) {
+                record = new Record();
+                record.position = ++position;
+                JsonElement studentId = element.isJsonObject() ? element.getAsJsonObject().get("studentId") : null;
+                if (studentId != null && studentId.isJsonPrimitive()) {
+                    record.studentId = studentId.getAsString();
+                }
+                run.records.incrementAndGet();
+                run.fail(record, "Неправильний запис: " + e.getMessage());
+                continue;
+            }
+            if (record == null) {
+                record = new Record();
+            }
+            record.position = ++position;
+            partition.add(record);
+            if (partition.size() == PARTITION_SIZE) {
+                sink.accept(partition);
+                partition = new ArrayList<>(PARTITION_SIZE);
+            }
+        }
+        json.endArray();
+        if (!partition.isEmpty()) {
+            sink.accept(partition);
+        }
+    }
+
+    private void readCsv(BufferedReader in, Run run, PartitionSink sink) throws IOException, InterruptedException {
+        String header = in.readLine();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        for (String required : List.of("studentId", "name", "course", "major")) {
+            if (!columns.containsKey(required)) {
+                throw new IOException("У заголовку списку студентів немає стовпця '" + required + "'.");
+            }
+        }
+
+        List<Record> partition = new ArrayList<>(PARTITION_SIZE);
+        long line = 1;
+        String text;
+        while ((text = in.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            Record record = new Record();
+            record.position = line;
+            try {
+                List<String> fields = splitCsv(text);
+                record.studentId = field(fields, columns, "studentId");
+                record.name = field(fields, columns, "name");
+                record.degree = field(fields, columns, "degree");
+                record.major = field(fields, columns, "major");
+                String course = field(fields, columns, "course");
+                record.course = course == null ? 0 : Integer.parseInt(course);
+                String electives = field(fields, columns, "electives");
+                record.electives = new ArrayList<>();
+                if (electives != null) {
+                    for (String id : electives.split(";")) {
+                        if (!id.isBlank()) {
+                            record.electives.add(id.trim());
+                        }
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                run.records.incrementAndGet();
+                run.fail(record, "Неправильний запис: " + e.getMessage());
+                continue;
+            }
+            partition.add(record);
+            if (partition.size() == PARTITION_SIZE) {
+                sink.accept(partition);
+                partition = new ArrayList<>(PARTITION_SIZE);
+            }
+        }
+        if (!partition.isEmpty()) {
+            sink.accept(partition);
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits one CSV line; a field in double quotes may contain commas and doubled quotes.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("незакриті лапки");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void importPartition(List<Record> partition, Run run) {
+        for (Record record : partition) {
+            try {
+                importRecord(record, run);
+            } catch (RuntimeException e) {
+                run.fail(record, "Непередбачена помилка: " + e);
+            }
+            run.records.incrementAndGet();
+        }
+        if (run.listener != null) {
+            run.listener.progress(run.progress());
+        }
+    }
+
+    private void importRecord(Record record, Run run) {
+        if (record.studentId == null || record.studentId.isBlank() || record.name == null || record.major == null) {
+            run.fail(record, "Не вказано ID, ім'я або спеціальність студента.");
+            return;
+        }
+        String degree = record.degree == null ? DisciplineCatalog.BACHELOR_DEGREE : record.degree;
+        Program program = program(degree, record.major, record.course);
+        if (program == null) {
+            run.fail(record, "У каталозі немає програми: " + degree + ", " + record.major + ", " + record.course + " курс.");
+            return;
+        }
+
+        if (!studentIds.add(record.studentId)) {
+            run.fail(record, "Студент з ID '" + record.studentId + "' вже існує.");
+            return;
+        }
+        EnrollmentSystem system = program.system;
+        Student student = new Student(record.studentId, record.name, record.course, record.major);
+        for (Discipline mandatory : program.mandatory) {
+            student.enrollDiscipline(mandatory);
+        }
+        system.addStudent(student);
+        system.setCompletedDisciplines(record.studentId, program.completedBefore);
+        run.students.incrementAndGet();
+
+        List<String> electives = record.electives == null ? Collections.emptyList() : record.electives;
+        if (electives.isEmpty()) {
+            return;
+        }
+        for (String id : electives) {
+            if (system.getDisciplineById(id).filter(discipline -> !discipline.isMandatory()).isEmpty()) {
+                run.fail(record, "Дисципліна з ID '" + id + "' не є вибірковою для програми студента.");
+                return;
+            }
+        }
+        String message = system.enrollStudentToDisciplines(record.studentId, electives);
+        if (!student.isEnrolledIn(electives.get(0))) {
+            run.fail(record, message);
+        }
+    }
+
+    /**
+     * Returns the system of a program, setting it up on first use.
+     * @return The program, or null if the catalog does not have it.
+     */
+    private Program program(String degree, String major, int course) {
+        Program program = programs.computeIfAbsent(key(degree, major, course), key -> {
+            List<DisciplineCatalog.Offering> offerings = catalog.getOfferings(degree, major, course);
+            if (offerings.isEmpty()) {
+                return new Program(null, null, null);
+            }
+            EnrollmentSystem system = new EnrollmentSystem();
+            system.setPrerequisites(catalog.getPrerequisites());
+            for (DisciplineCatalog.Offering offering : offerings) {
+                system.addDiscipline(offering.newDiscipline());
+            }
+            return new Program(system, List.copyOf(system.getMandatoryDisciplines(course)),
+                    List.copyOf(catalog.getCompletedBefore(degree, major, course)));
+        });
+        return program.system == null ? null : program;
+    }
+
+    private static String key(String degree, String major, int course) {
+        return degree + "|" + major + "|" + course;
+    }
+
+    /**
+     * Returns the system of a program with the students imported into it so far.
+     *
+     * @param degree The degree.
+     * @param major The major.
+     * @param course The course.
+     * @return The system, or null if no student of the program was imported.
+     */
+    public EnrollmentSystem getSystem(String degree, String major, int course) {
+        Program program = programs.get(key(degree, major, course));
+        return program == null ? null : program.system;
+    }
+
+    /**
+     * Returns the systems of all programs students were imported into.
+     * @return A new list, in no particular order.
+     */
+    public List<EnrollmentSystem> getSystems() {
+        List<EnrollmentSystem> systems = new ArrayList<>();
+        for (Program program : programs.values()) {
+            if (program.system != null) {
+                systems.add(program.system);
+            }
+        }
+        return systems;
+    }
+
+    /**
+     * Writes a synthetic CSV roster: students spread over all programs of the catalog, each choosing
+     * two electives of their program that clash with nothing and whose prerequisites are passed.
+     */
+    private static void writeSyntheticRoster(Path file, int students, DisciplineCatalog catalog) throws IOException {
+        List<String[]> programs = new ArrayList<>();
+        for (String degree : List.of(DisciplineCatalog.BACHELOR_DEGREE, DisciplineCatalog.MASTER_DEGREE)) {
+            for (String major : List.of("Інженерія програмного забезпечення", "Комп'ютерні науки", "Прикладна математика")) {
+                for (int course = 1; !catalog.getOfferings(degree, major, course).isEmpty(); course++) {
+                    programs.add(new String[]{degree, major, String.valueOf(course)});
+                }
+            }
+        }
+        // What a student of each program can take, so that choices are refused only for lack of seats or credits
+        PrerequisiteGraph prerequisites = catalog.getPrerequisites();
+        List<List<DisciplineCatalog.Offering>> eligible = new ArrayList<>();
+        long[] mandatorySlots = new long[programs.size()];
+        for (int p = 0; p < programs.size(); p++) {
+            String[] program = programs.get(p);
+            int course = Integer.parseInt(program[2]);
+            for (DisciplineCatalog.Offering mandatory : catalog.getMandatoryOfferings(program[0], program[1], course)) {
+                mandatorySlots[p] |= mandatory.getDefinition().getScheduleSlots();
+            }
+            long[] completed = prerequisites.setOf(catalog.getCompletedBefore(program[0], program[1], course));
+            List<DisciplineCatalog.Offering> unlocked = new ArrayList<>();
+            for (DisciplineCatalog.Offering elective : catalog.getElectiveOfferings(program[0], program[1], course)) {
+                if (prerequisites.isUnlocked(elective.getDefinition().getDisciplineId(), completed)) {
+                    unlocked.add(elective);
+                }
+            }
+            eligible.add(unlocked);
+        }
+        Random random = new Random(42);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("studentId,name,degree,course,major,electives");
+            out.newLine();
+            for (int i = 0; i < students; i++) {
+                int p = random.nextInt(programs.size());
+                String[] program = programs.get(p);
+                List<DisciplineCatalog.Offering> electives = new ArrayList<>(eligible.get(p));
+                Collections.shuffle(electives, random);
+                StringBuilder choices = new StringBuilder();
+                long slots = mandatorySlots[p];
+                int chosen = 0;
+                for (DisciplineCatalog.Offering elective : electives) {
+                    DisciplineCatalog.Definition definition = elective.getDefinition();
+                    if (chosen < 2 && (slots & definition.getScheduleSlots()) == 0) {
+                        choices.append(choices.length() == 0 ? "" : ";").append(definition.getDisciplineId());
+                        slots |= definition.getScheduleSlots();
+                        chosen++;
+                    }
+                }
+                String suffix = DisciplineCatalog.MASTER_DEGREE.equals(program[0]) ? "мп" : "бп";
+                out.write(String.format("І %06d/24 %s,Студент %d,%s,%s,\"%s\",%s",
+                        i, suffix, i, program[0], program[2], program[1], choices));
+                out.newLine();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 30_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        DisciplineCatalog catalog = DisciplineCatalog.getInstance();
+
+        Path roster;
+        if (args.length > 2) {
+            roster = Path.of(args[2]);
+        } else {
+            roster = Files.createTempFile("roster", ".csv");
+            roster.toFile().deleteOnExit();
+            long begin = System.nanoTime();
+            writeSyntheticRoster(roster, students, catalog);
+            System.out.println("Згенеровано список з " + students + " студентів за "
+                    + (System.nanoTime() - begin) / 1_000_000 + " мс: " + roster);
+        }
+
+        RosterImporter importer = new RosterImporter(catalog, threads);
+        AtomicInteger partitions = new AtomicInteger();
+        Report report;
+        try (Reader in = Files.newBufferedReader(roster, StandardCharsets.UTF_8)) {
+            report = importer.importRoster(in, progress -> {
+                if (partitions.incrementAndGet() % 10 == 0) {
+                    System.out.print(progress.toReport());
+                }
+            });
+        }
+
+        System.out.print(report.getTotals().toReport());
+        int electiveSeats = 0;
+        List<EnrollmentSystem> systems = importer.getSystems();
+        for (EnrollmentSystem system : systems) {
+            for (Student student : system.getStudents().values()) {
+                electiveSeats += student.getElectiveCount();
+            }
+        }
+        System.out.println("Програм: " + systems.size() + ", зайнято місць на вибіркових дисциплінах: " + electiveSeats);
+        for (Failure failure : report.getFailures().subList(0, Math.min(5, report.getFailures().size()))) {
+            System.out.println("  " + failure);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Check of how {@link RosterImporter} handles broken JSON rosters. An element of the wrong shape is
+ * reported as a failed record and the import goes on; a document that is cut off must end the import
+ * with an {@link IOException}, never with an unchecked exception.
+ * Run with {@code java org.example.RosterImporterCheck}; exits with status 1 if a check fails.
+ */
+public class RosterImporterCheck {
+    private static final String MAJOR = "Інженерія програмного забезпечення";
+    private static final String GOOD_A = student("A", 2);
+    private static final String GOOD_B = student("B", 3);
+
+    public static void main(String[] args) throws InterruptedException {
+        List<String> failures = new ArrayList<>();
+
+        String roster = "[" + GOOD_A + ", {\"studentId\": \"C\", \"course\": \"два\", \"major\": \"" + MAJOR + "\"}, 42, "
+                + "{\"studentId\": \"D\", \"electives\": 5}, " + GOOD_B + "]";
+        try {
+            RosterImporter.Report report = newImporter().importRoster(new StringReader(roster), null);
+            RosterImporter.Progress totals = report.getTotals();
+            if (totals.getRecords() != 5 || totals.getStudents() != 2 || totals.getFailures() != 3) {
+                failures.add("Записи неправильної форми: " + totals.toReport());
+            }
+        } catch (IOException | RuntimeException e) {
+            failures.add("Записи неправильної форми перервали імпорт: " + e);
+        }
+
+        String[] truncated = {
+                "[" + GOOD_A + ", {\"studentId\": \"B\", \"name\": \"Студент",
+                "[" + GOOD_A + ", {\"studentId\": \"B\", ",
+                "[" + GOOD_A + ",",
+                "[" + GOOD_A,
+                "[",
+        };
+        for (String document : truncated) {
+            try {
+                newImporter().importRoster(new StringReader(document), null);
+                failures.add("Обрізаний документ прочитано без помилки: " + document);
+            } catch (IOException e) {
+                // Expected
+            } catch (RuntimeException e) {
+                failures.add("Обрізаний документ дав неперевірений виняток " + e + ": " + document);
+            }
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("Усі перевірки пройдено: хибні записи пропущено, обрізаний документ дає IOException.");
+        } else {
+            failures.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    private static RosterImporter newImporter() {
+        return new RosterImporter(DisciplineCatalog.getInstance(), 2);
+    }
+
+    private static String student(String studentId, int course) {
+        return "{\"studentId\": \"" + studentId + "\", \"name\": \"Студент " + studentId + "\", \"degree\": \"Бакалаврат\", "
+                + "\"course\": " + course + ", \"major\": \"" + MAJOR + "\"}";
+    }
+}
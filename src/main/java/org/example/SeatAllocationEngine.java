@@ -0,0 +1,386 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns seats in oversubscribed electives to many students at once, instead of first come, first served.
+ * <p>
+ * Each student gives a ranked list of electives, how many of them they want, how many credits they
+ * may still take and which weekly slots their timetable already takes; each elective has a number of free
+ * seats and its own slots. A student never gets two electives whose classes overlap. Two mechanisms are supported:
+ * <ul>
+ *     <li>{@link Mechanism#RANDOM_SERIAL_DICTATORSHIP}: students are taken one by one in priority order
+ *     and each takes their best remaining choices that still have seats and fit their credits and timetable.</li>
+ *     <li>{@link Mechanism#DEFERRED_ACCEPTANCE}: students propose to their choices in rank order and every
+ *     elective tentatively holds the best-priority proposers up to its capacity, rejecting the worst one
+ *     when a better one arrives; rejected students go on down their list. A choice that does not fit the
+ *     credits or clashes with the slots a student holds at that moment is skipped for good.</li>
+ * </ul>
+ * Priorities are plain numbers, lower is better, e.g. a lottery from {@link #lottery(int, long)}.
+ * Everything is kept in primitive arrays: the preference lists are validated and packed into one array
+ * in parallel, and each elective keeps its tentative holders in a heap inside one shared array.
+ * Run {@code java org.example.SeatAllocationEngine [students] [electives]} for a benchmark.
+ */
+public class SeatAllocationEngine {
+    /** Capacity of an elective without a seat limit. */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+    /** Timetable of a student whose electives may overlap, e.g. a simulated one. */
+    public static final long NO_TIMETABLE = -1;
+
+    /**
+     * The assignment rule.
+     */
+    public enum Mechanism {
+        RANDOM_SERIAL_DICTATORSHIP,
+        DEFERRED_ACCEPTANCE
+    }
+
+    private final int[] capacity;
+    private final int[] units;
+    private final long[] slots;
+    private final int[] budget;
+    private final long[] busy;
+    private final int[] demand;
+    private final int[] priority;
+    private final int[] start; // Choices of student s are choices[start[s]..start[s + 1])
+    private final int[] choices;
+
+    /**
+     * The seats each student got.
+     */
+    public static final class Allocation {
+        private final int[] start;
+        private final int[] count;
+        private final int[] assigned; // Electives of student s are assigned[start[s]..start[s] + count[s])
+        private final int total;
+
+        private Allocation(int[] start, int[] count, int[] assigned) {
+            this.start = start;
+            this.count = count;
+            this.assigned = assigned;
+            int sum = 0;
+            for (int c : count) {
+                sum += c;
+            }
+            this.total = sum;
+        }
+
+        /**
+         * Returns the electives assigned to a student.
+         * @param student Index of the student.
+         * @return Indexes of the electives, in rank order for serial dictatorship, in index order otherwise.
+         */
+        public int[] getAssigned(int student) {
+            return Arrays.copyOfRange(assigned, start[student], start[student] + count[student]);
+        }
+
+        public int getAssignedCount(int student) {
+            return count[student];
+        }
+
+        /**
+         * Returns the number of seats assigned to all students together.
+         * @return The number of seats.
+         */
+        public int getTotalAssigned() {
+            return total;
+        }
+    }
+
+    /**
+     * Prepares an allocation. Choices that are out of range, repeated, without seats, worth more
+     * credits than the student may take or clashing with the student's timetable are dropped here,
+     * in parallel over the students.
+     *
+     * @param capacity Free seats per elective, or {@link #UNLIMITED}.
+     * @param units Credits per elective, in half-credit units (see {@link ElectiveRecommender#toUnits(double)}).
+     * @param slots Weekly time slots of each elective (see {@link Timetable}).
+     * @param budget Units each student may still take.
+     * @param busy Slots each student's timetable already takes, or {@link #NO_TIMETABLE}.
+     * @param demand Number of electives each student wants.
+     * @param priority Priority of each student, lower is better; ties go to the lower index.
+     * @param rankedChoices Elective indexes each student wants, best first.
+     */
+    public SeatAllocationEngine(int[] capacity, int[] units, long[] slots, int[] budget, long[] busy, int[] demand,
+                                int[] priority, int[][] rankedChoices) {
+        this.capacity = capacity;
+        this.units = units;
+        this.slots = slots;
+        this.budget = budget;
+        this.busy = busy;
+        this.demand = demand;
+        this.priority = priority;
+
+        int students = rankedChoices.length;
+        int[] lengths = new int[students];
+        IntStream.range(0, students).parallel().forEach(s -> lengths[s] = filter(s, rankedChoices[s], null, 0));
+        this.start = new int[students + 1];
+        for (int s = 0; s < students; s++) {
+            start[s + 1] = start[s] + lengths[s];
+        }
+        this.choices = new int[start[students]];
+        IntStream.range(0, students).parallel().forEach(s -> filter(s, rankedChoices[s], choices, start[s]));
+    }
+
+    /**
+     * Keeps the usable choices of one student, in order, writing them to {@code out} if it is not null.
+     * @return The number of choices kept.
+     */
+    private int filter(int student, int[] ranked, int[] out, int offset) {
+        int kept = 0;
+        for (int i = 0; i < ranked.length; i++) {
+            int elective = ranked[i];
+            if (elective < 0 || elective >= capacity.length || capacity[elective] <= 0 || units[elective] > budget[student]
+                    || clashes(student, busy[student], elective)) {
+                continue;
+            }
+            boolean repeated = false;
+            for (int j = 0; j < i && !repeated; j++) {
+                repeated = ranked[j] == elective; // Lists are short, a scan is cheaper than a set
+            }
+            if (!repeated) {
+                if (out != null) {
+                    out[offset + kept] = elective;
+                }
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Returns a random priority for every student: a permutation of 0..students-1.
+     *
+     * @param students The number of students.
+     * @param seed Seed of the draw.
+     * @return The priorities.
+     */
+    public static int[] lottery(int students, long seed) {
+        int[] tickets = new int[students];
+        for (int s = 0; s < students; s++) {
+            tickets[s] = s;
+        }
+        Random random = new Random(seed);
+        for (int s = students - 1; s > 0; s--) {
+            int other = random.nextInt(s + 1);
+            int ticket = tickets[s];
+            tickets[s] = tickets[other];
+            tickets[other] = ticket;
+        }
+        return tickets;
+    }
+
+    /**
+     * Computes the assignment.
+     * @param mechanism The assignment rule.
+     * @return The electives assigned to each student.
+     */
+    public Allocation allocate(Mechanism mechanism) {
+        return mechanism == Mechanism.RANDOM_SERIAL_DICTATORSHIP ? serialDictatorship() : deferredAcceptance();
+    }
+
+    private Allocation serialDictatorship() {
+        int students = budget.length;
+        int[] remaining = capacity.clone();
+        int[] count = new int[students];
+        int[] assigned = new int[choices.length];
+        for (int s : studentsByPriority()) {
+            int left = budget[s];
+            long taken = busy[s];
+            for (int i = start[s]; i < start[s + 1] && count[s] < demand[s]; i++) {
+                int elective = choices[i];
+                if (remaining[elective] > 0 && units[elective] <= left && !clashes(s, taken, elective)) {
+                    if (remaining[elective] != UNLIMITED) {
+                        remaining[elective]--;
+                    }
+                    left -= units[elective];
+                    taken |= slots[elective];
+                    assigned[start[s] + count[s]++] = elective;
+                }
+            }
+        }
+        return new Allocation(start, count, assigned);
+    }
+
+    private int[] studentsByPriority() {
+        long[] keys = new long[budget.length];
+        for (int s = 0; s < keys.length; s++) {
+            keys[s] = ((long) priority[s] << 32) | s;
+        }
+        Arrays.parallelSort(keys);
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    private Allocation deferredAcceptance() {
+        int students = budget.length;
+        int electives = capacity.length;
+
+        // A heap per elective, worst holder on top, sized by the number of students who may propose
+        int[] heapStart = new int[electives + 1];
+        for (int choice : choices) {
+            heapStart[choice + 1]++;
+        }
+        for (int c = 0; c < electives; c++) {
+            heapStart[c + 1] = heapStart[c] + Math.min(heapStart[c + 1], capacity[c]);
+        }
+        int[] heaps = new int[heapStart[electives]];
+        int[] heapSize = new int[electives];
+
+        int[] next = Arrays.copyOf(start, students); // Next choice to propose to
+        int[] held = new int[students];
+        int[] left = budget.clone();
+        long[] taken = busy.clone(); // Held electives never overlap, so a rejection just clears its slots
+        int[] pending = new int[students]; // Stack of students who may still propose
+        boolean[] isPending = new boolean[students];
+        int pendingCount = 0;
+        for (int s = students - 1; s >= 0; s--) {
+            pending[pendingCount++] = s;
+            isPending[s] = true;
+        }
+
+        while (pendingCount > 0) {
+            int s = pending[--pendingCount];
+            isPending[s] = false;
+            while (held[s] < demand[s] && next[s] < start[s + 1]) {
+                int elective = choices[next[s]++];
+                if (units[elective] > left[s] || clashes(s, taken[s], elective)) {
+                    continue;
+                }
+                int base = heapStart[elective];
+                if (heapSize[elective] < capacity[elective]) {
+                    heaps[base + heapSize[elective]] = s;
+                    siftUp(heaps, base, heapSize[elective]++);
+                } else if (better(s, heaps[base])) {
+                    int rejected = heaps[base];
+                    heaps[base] = s;
+                    siftDown(heaps, base, heapSize[elective]);
+                    held[rejected]--;
+                    left[rejected] += units[elective];
+                    taken[rejected] &= ~slots[elective];
+                    if (!isPending[rejected]) {
+                        pending[pendingCount++] = rejected;
+                        isPending[rejected] = true;
+                    }
+                } else {
+                    continue; // Rejected at once
+                }
+                held[s]++;
+                left[s] -= units[elective];
+                taken[s] |= slots[elective];
+            }
+        }
+
+        int[] count = new int[students];
+        int[] assigned = new int[choices.length];
+        for (int c = 0; c < electives; c++) {
+            for (int i = heapStart[c]; i < heapStart[c] + heapSize[c]; i++) {
+                int s = heaps[i];
+                assigned[start[s] + count[s]++] = c;
+            }
+        }
+        return new Allocation(start, count, assigned);
+    }
+
+    private boolean clashes(int student, long taken, int elective) {
+        return busy[student] != NO_TIMETABLE && (slots[elective] & taken) != 0;
+    }
+
+    private boolean better(int a, int b) {
+        return priority[a] < priority[b] || (priority[a] == priority[b] && a < b);
+    }
+
+    // Max-heap by badness: the worst student (who would be rejected first) is at the root
+
+    private void siftUp(int[] heap, int base, int index) {
+        int s = heap[base + index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!better(heap[base + parent], s)) {
+                break;
+            }
+            heap[base + index] = heap[base + parent];
+            index = parent;
+        }
+        heap[base + index] = s;
+    }
+
+    private void siftDown(int[] heap, int base, int size) {
+        int index = 0;
+        int s = heap[base];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && better(heap[base + child], heap[base + child + 1])) {
+                child++; // The worse child
+            }
+            if (!better(s, heap[base + child])) {
+                break;
+            }
+            heap[base + index] = heap[base + child];
+            index = child;
+        }
+        heap[base + index] = s;
+    }
+
+    /**
+     * Allocates seats for a synthetic population with Zipf-distributed preferences and prints how long
+     * each mechanism takes. Arguments: students (default 100000), electives (default 500).
+     */
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int electives = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int wanted = 5;
+        int listLength = 12;
+        Random random = new Random(1);
+
+        int[] capacity = new int[electives];
+        int[] units = new int[electives];
+        long[] slots = new long[electives];
+        for (int c = 0; c < electives; c++) {
+            capacity[c] = c % 25 == 0 ? UNLIMITED : 20 + random.nextInt(200);
+            units[c] = ElectiveRecommender.toUnits(2 + random.nextInt(7) * 0.5);
+            slots[c] = Timetable.slotOf(random.nextInt(Timetable.DAYS), 1 + random.nextInt(Timetable.PAIRS_PER_DAY));
+        }
+        double[] cdf = new double[electives];
+        double sum = 0;
+        for (int rank = 0; rank < electives; rank++) {
+            sum += 1.0 / (rank + 1);
+            cdf[rank] = sum;
+        }
+        int[][] ranked = new int[students][listLength];
+        int[] budget = new int[students];
+        long[] busy = new long[students];
+        int[] demand = new int[students];
+        for (int s = 0; s < students; s++) {
+            for (int i = 0; i < listLength; i++) {
+                int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+                ranked[s][i] = rank >= 0 ? rank : Math.min(-rank - 1, electives - 1);
+            }
+            budget[s] = ElectiveRecommender.toUnits(15 + random.nextInt(10));
+            busy[s] = Timetable.slotOf(random.nextInt(Timetable.DAYS), 1 + random.nextInt(Timetable.PAIRS_PER_DAY));
+            demand[s] = wanted;
+        }
+        int[] priority = lottery(students, 2);
+        System.out.println("Студентів: " + students + ", дисциплін: " + electives + ", побажань на студента: " + listLength);
+
+        for (int run = 0; run < 3; run++) {
+            for (Mechanism mechanism : Mechanism.values()) {
+                long begin = System.nanoTime();
+                SeatAllocationEngine engine = new SeatAllocationEngine(capacity, units, slots, budget, busy, demand, priority, ranked);
+                long prepared = System.nanoTime();
+                Allocation allocation = engine.allocate(mechanism);
+                long end = System.nanoTime();
+                System.out.printf("%-26s підготовка %6.1f мс, розподіл %6.1f мс, місць розподілено %d%n", mechanism,
+                        (prepared - begin) / 1e6, (end - prepared) / 1e6, allocation.getTotalAssigned());
+            }
+        }
+    }
+}
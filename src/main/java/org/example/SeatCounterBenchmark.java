@@ -0,0 +1,128 @@
+package org.example;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for the seat counter of {@link Discipline}.
+ * Every thread repeatedly takes a seat and gives it back, either all on one discipline (a registration
+ * rush on a single popular elective) or spread over several disciplines. The lock-free counter is
+ * compared with a monitor-based counter that works like the old synchronized enrollStudent/dropStudent.
+ * Run with {@code java org.example.SeatCounterBenchmark [seconds per run]}.
+ */
+public class SeatCounterBenchmark {
+    private static final int DISCIPLINES_SPREAD = 16;
+    private static final int CAPACITY = Integer.MAX_VALUE / 2; // Never fills up, so every reserve succeeds
+
+    /**
+     * The old locking behavior, kept here only as a baseline.
+     */
+    private static class MonitorCounter {
+        private int enrolled;
+        private final int maxCapacity;
+
+        MonitorCounter(int maxCapacity) {
+            this.maxCapacity = maxCapacity;
+        }
+
+        synchronized boolean tryReserve() {
+            if (enrolled < maxCapacity) {
+                enrolled++;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean release() {
+            if (enrolled > 0) {
+                enrolled--;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private interface Counter {
+        void reserveAndRelease(int slot);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long millisPerRun = (args.length > 0 ? Long.parseLong(args[0]) : 1) * 1000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Ядер: " + cores + ", тривалість прогону: " + millisPerRun + " мс");
+        System.out.printf("%-8s %-12s %18s %18s%n", "Потоки", "Дисципліни", "CAS, млн оп/с", "Монітор, млн оп/с");
+
+        for (int disciplineCount : new int[]{1, DISCIPLINES_SPREAD}) {
+            for (int threads = 1; threads <= cores * 2; threads *= 2) {
+                Discipline[] disciplines = new Discipline[disciplineCount];
+                MonitorCounter[] monitors = new MonitorCounter[disciplineCount];
+                for (int i = 0; i < disciplineCount; i++) {
+                    disciplines[i] = new Discipline("B" + i, "Бенчмарк " + i, "", 3, 0, CAPACITY, false, 2);
+                    monitors[i] = new MonitorCounter(CAPACITY);
+                }
+                Counter cas = slot -> {
+                    Discipline d = disciplines[slot];
+                    if (d.tryReserveSeat()) {
+                        d.releaseSeat();
+                    }
+                };
+                Counter monitor = slot -> {
+                    MonitorCounter m = monitors[slot];
+                    if (m.tryReserve()) {
+                        m.release();
+                    }
+                };
+
+                run(cas, threads, disciplineCount, millisPerRun / 4); // Warm-up
+                double casRate = run(cas, threads, disciplineCount, millisPerRun);
+                run(monitor, threads, disciplineCount, millisPerRun / 4);
+                double monitorRate = run(monitor, threads, disciplineCount, millisPerRun);
+                System.out.printf("%-8d %-12d %18.2f %18.2f%n", threads, disciplineCount, casRate / 1e6, monitorRate / 1e6);
+            }
+        }
+    }
+
+    /**
+     * Runs the given counter from several threads for a fixed time.
+     * @return Reserve-and-release pairs per second over all threads.
+     */
+    private static double run(Counter counter, int threads, int disciplineCount, long millis) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long[] operations = new long[threads];
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        for (int t = 0; t < threads; t++) {
+            final int index = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long count = 0;
+                int slot = index % disciplineCount;
+                while ((count & 1023) != 0 || System.nanoTime() < deadline) {
+                    counter.reserveAndRelease(slot);
+                    slot = slot + 1 == disciplineCount ? 0 : slot + 1;
+                    count++;
+                }
+                operations[index] = count;
+                done.countDown();
+            }, "seat-bench-" + t);
+            worker.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+
+        long total = 0;
+        for (long ops : operations) {
+            total += ops;
+        }
+        return total * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,141 @@
+package org.example;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * A chain of pre-scaled copies of a sprite (a mipmap), each level half the size of the previous one.
+ * Drawing picks the smallest level that is still at least as large as the requested size, so the
+ * per-frame scaling never has to shrink the sprite by more than 2x. Once the caller reports that the
+ * zoom has settled, an exact-size copy is rendered once and then simply blitted on following frames.
+ */
+public class SpriteMipmap {
+    private static final int MIN_LEVEL_SIZE = 8; // Stop halving once a side would drop below this
+
+    private final BufferedImage[] levels;
+
+    private BufferedImage exactImage; // High-quality copy at the last settled size
+    private int exactWidth = -1;
+    private int exactHeight = -1;
+
+    /**
+     * Builds the mipmap chain for the given sprite.
+     * @param source The full-resolution sprite image.
+     */
+    public SpriteMipmap(BufferedImage source) {
+        int count = 1;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        while (w / 2 >= MIN_LEVEL_SIZE && h / 2 >= MIN_LEVEL_SIZE) {
+            w /= 2;
+            h /= 2;
+            count++;
+        }
+
+        levels = new BufferedImage[count];
+        levels[0] = toCompatible(source);
+        for (int i = 1; i < count; i++) {
+            BufferedImage previous = levels[i - 1];
+            levels[i] = scale(previous, previous.getWidth() / 2, previous.getHeight() / 2);
+        }
+    }
+
+    /**
+     * Returns the number of levels in the chain.
+     * @return The level count (at least 1).
+     */
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    /**
+     * Returns the smallest level that is not smaller than the requested size.
+     * @param targetWidth The width the sprite will be drawn at, in device pixels.
+     * @param targetHeight The height the sprite will be drawn at, in device pixels.
+     * @return The best-matching pre-scaled image.
+     */
+    public BufferedImage levelFor(int targetWidth, int targetHeight) {
+        int i = 0;
+        while (i + 1 < levels.length
+                && levels[i + 1].getWidth() >= targetWidth
+                && levels[i + 1].getHeight() >= targetHeight) {
+            i++;
+        }
+        return levels[i];
+    }
+
+    /**
+     * Draws the sprite into the given rectangle of device space.
+     * While zooming, the nearest mip level is scaled with bilinear filtering. When {@code settled} is true,
+     * an exact-size image is rendered once (bicubic, from the nearest level) and reused until the size changes.
+     *
+     * @param g2d The graphics context, without any scene scaling applied.
+     * @param x The X-coordinate of the sprite on the panel.
+     * @param y The Y-coordinate of the sprite on the panel.
+     * @param width The drawn width in device pixels.
+     * @param height The drawn height in device pixels.
+     * @param settled true if the zoom is not changing, so the quality upgrade may be used.
+     */
+    public void draw(Graphics2D g2d, int x, int y, int width, int height, boolean settled) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        if (settled) {
+            if (exactImage == null || exactWidth != width || exactHeight != height) {
+                exactImage = scale(levelFor(width, height), width, height);
+                exactWidth = width;
+                exactHeight = height;
+            }
+            g2d.drawImage(exactImage, x, y, null);
+            return;
+        }
+
+        BufferedImage level = levelFor(width, height);
+        if (level.getWidth() == width && level.getHeight() == height) {
+            g2d.drawImage(level, x, y, null);
+            return;
+        }
+
+        Object oldInterpolation = g2d.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(level, x, y, width, height, null);
+        if (oldInterpolation != null) {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, oldInterpolation);
+        }
+    }
+
+    /**
+     * Renders the source into a new translucent image of the given size using bicubic interpolation.
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = createImage(Math.max(1, width), Math.max(1, height));
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(source, 0, 0, scaled.getWidth(), scaled.getHeight(), null);
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Copies the source into an image whose pixel layout matches the screen, so blits need no conversion.
+     */
+    private static BufferedImage toCompatible(BufferedImage source) {
+        BufferedImage copy = createImage(source.getWidth(), source.getHeight());
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    private static BufferedImage createImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+}
@@ -1,7 +1,22 @@
 package org.example;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.HashMap;
@@ -11,19 +26,163 @@ import java.util.Map;
  * Represents a student within the educational system.
  * This class stores information about the student, their enrolled disciplines,
  * trimester scores, and academic status.
+ * <p>
+ * Enrolled disciplines are kept in an insertion-ordered hash index keyed by discipline ID, and the exam
+ * disciplines are a second index derived from it, so membership checks, enroll, drop and score updates
+ * take constant time. In JSON both are still written as the arrays {@code enrolledDisciplines} and
+ * {@code examDisciplines}; on load the indexes are rebuilt from {@code enrolledDisciplines}, after the
+ * marks and automatic passes saved on the {@code examDisciplines} copies are merged onto them.
+ * <p>
+ * The enrollment state is guarded by the student's monitor, so it can be changed by the
+ * {@link EnrollmentSystem} on one thread and read by the GUI on another; the system holds the same
+ * monitor to make its checks and the change one atomic step.
  */
+@JsonAdapter(Student.JsonAdapterFactory.class)
 public class Student implements Serializable {
+    private static final String ENROLLED_DISCIPLINES_KEY = "enrolledDisciplines";
+    private static final String EXAM_DISCIPLINES_KEY = "examDisciplines";
+    private static final String KEY_BEFORE_DISCIPLINES = "major"; // The arrays follow this key, as in older saves
+
     private String studentId;
     private String name;
     private int course;
     private String major;
-    private List<Discipline> enrolledDisciplines;
-    private List<Discipline> examDisciplines;
+    private transient DisciplineIndex enrolledDisciplines = new DisciplineIndex();
+    private transient DisciplineIndex examDisciplines = new DisciplineIndex();
+    private transient Timetable timetable = new Timetable(); // Derived from enrolledDisciplines
     private Map<String, Integer> trimesterScores;
     private Map<String, Integer> zalikAttempts = new HashMap<>(); // Stores the number of attempts for "zalik" (pass/fail) disciplines
+    // Running totals over enrolledDisciplines, kept in step on every enroll/drop and saved with the student
+    private double totalCredits;
     private int electiveCount;
+    private int examCount;
     private boolean expelled;
 
+    /**
+     * Disciplines in insertion order, indexed by discipline ID.
+     */
+    private static final class DisciplineIndex {
+        private final Map<String, Discipline> byId = new LinkedHashMap<>();
+        private List<Discipline> view; // Read-only snapshot for callers, rebuilt after a change
+
+        boolean add(Discipline discipline) {
+            if (byId.putIfAbsent(discipline.getDisciplineId(), discipline) != null) {
+                return false;
+            }
+            view = null;
+            return true;
+        }
+
+        boolean remove(String disciplineId) {
+            if (byId.remove(disciplineId) == null) {
+                return false;
+            }
+            view = null;
+            return true;
+        }
+
+        boolean contains(String disciplineId) {
+            return byId.containsKey(disciplineId);
+        }
+
+        void clear() {
+            byId.clear();
+            view = null;
+        }
+
+        List<Discipline> asList() {
+            if (view == null) {
+                view = Collections.unmodifiableList(new ArrayList<>(byId.values()));
+            }
+            return view;
+        }
+    }
+
+    /**
+     * Reads and writes students in the save format used before the indexes: the reflective adapter
+     * handles the plain fields, and the discipline indexes are written as arrays right after the major.
+     */
+    static final class JsonAdapterFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (type.getRawType() != Student.class) {
+                return null;
+            }
+            TypeAdapter<Student> fields = gson.getDelegateAdapter(this, TypeToken.get(Student.class));
+            TypeAdapter<List<Discipline>> disciplines = gson.getAdapter(new TypeToken<List<Discipline>>() {});
+            TypeAdapter<JsonElement> elements = gson.getAdapter(JsonElement.class);
+
+            return (TypeAdapter<T>) new TypeAdapter<Student>() {
+                @Override
+                public void write(JsonWriter out, Student student) throws IOException {
+                    if (student == null) {
+                        out.nullValue();
+                        return;
+                    }
+                    JsonObject json = new JsonObject();
+                    for (Map.Entry<String, JsonElement> entry : fields.toJsonTree(student).getAsJsonObject().entrySet()) {
+                        json.add(entry.getKey(), entry.getValue());
+                        if (entry.getKey().equals(KEY_BEFORE_DISCIPLINES)) {
+                            addDisciplines(json, student);
+                        }
+                    }
+                    if (!json.has(ENROLLED_DISCIPLINES_KEY)) {
+                        addDisciplines(json, student);
+                    }
+                    elements.write(out, json);
+                }
+
+                private void addDisciplines(JsonObject json, Student student) {
+                    json.add(ENROLLED_DISCIPLINES_KEY, disciplines.toJsonTree(student.getEnrolledDisciplines()));
+                    json.add(EXAM_DISCIPLINES_KEY, disciplines.toJsonTree(student.getExamDisciplines()));
+                }
+
+                @Override
+                public Student read(JsonReader in) throws IOException {
+                    JsonElement tree = elements.read(in);
+                    if (tree == null || tree.isJsonNull()) {
+                        return null;
+                    }
+                    JsonObject json = tree.getAsJsonObject();
+                    JsonElement enrolled = json.remove(ENROLLED_DISCIPLINES_KEY);
+                    JsonElement exams = json.remove(EXAM_DISCIPLINES_KEY); // Derived from the enrolled disciplines
+                    Student student = fields.fromJsonTree(json);
+                    List<Discipline> enrolledList = enrolled == null || enrolled.isJsonNull()
+                            ? Collections.emptyList() : disciplines.fromJsonTree(enrolled);
+                    if (exams != null && !exams.isJsonNull()) {
+                        mergeExamState(enrolledList, disciplines.fromJsonTree(exams));
+                    }
+                    student.setEnrolledDisciplines(enrolledList);
+                    return student;
+                }
+
+                /**
+                 * Older saves hold the exam disciplines as separate copies, and the exam windows updated
+                 * only those: a mark or an automatic pass found there is carried over to the enrolled copy.
+                 */
+                private void mergeExamState(List<Discipline> enrolled, List<Discipline> exams) {
+                    Map<String, Discipline> byId = new HashMap<>();
+                    for (Discipline discipline : enrolled) {
+                        byId.putIfAbsent(discipline.getDisciplineId(), discipline);
+                    }
+                    for (Discipline exam : exams) {
+                        Discipline discipline = exam == null ? null : byId.get(exam.getDisciplineId());
+                        if (discipline == null) {
+                            continue;
+                        }
+                        if (exam.getCurrentStudentsMark() != 0) {
+                            discipline.setCurrentStudentsMark(exam.getCurrentStudentsMark());
+                        }
+                        if (exam.getAvtomat()) {
+                            discipline.setAvtomat();
+                        }
+                    }
+                }
+            };
+        }
+    }
+
     /**
      * Constructs a new Student object with specified name, course, and major.
      * The student ID is automatically generated based on the course (bachelor or master).
@@ -33,14 +192,26 @@ public class Student implements Serializable {
      * @param major The student's major.
      */
     public Student(String name, int course, String major) {
+        // Assign student ID based on course (assuming bachelor/master distinction at course 4)
+        this(course <= 4 ? "І 005/24 бп" : "І 005/24 мп", name, course, major);
+    }
+
+    /**
+     * Constructs a new Student object with an explicit student ID, e.g. for students imported in bulk.
+     *
+     * @param studentId The unique identifier of the student.
+     * @param name The full name of the student.
+     * @param course The current course (year) of the student.
+     * @param major The student's major.
+     */
+    public Student(String studentId, String name, int course, String major) {
+        this.studentId = studentId;
         this.name = name;
         this.course = course;
-        // Assign student ID based on course (assuming bachelor/master distinction at course 4)
-        this.studentId = course <= 4 ? "І 005/24 бп" : "І 005/24 мп";
         this.major = major;
-        this.enrolledDisciplines = new ArrayList<>();
-        this.examDisciplines = new ArrayList<>();
+        this.totalCredits = 0;
         this.electiveCount = 0;
+        this.examCount = 0;
         this.trimesterScores = new HashMap<>();
     }
 
@@ -89,12 +260,22 @@ public class Student implements Serializable {
     }
 
     /**
-     * Gets the list of disciplines the student is currently enrolled in.
+     * Gets the list of disciplines the student is currently enrolled in, in enrollment order.
      *
-     * @return A list of {@link Discipline} objects.
+     * @return A read-only list of {@link Discipline} objects.
      */
-    public List<Discipline> getEnrolledDisciplines() {
-        return enrolledDisciplines;
+    public synchronized List<Discipline> getEnrolledDisciplines() {
+        return enrolledDisciplines.asList();
+    }
+
+    /**
+     * Checks whether the student is enrolled in a discipline.
+     *
+     * @param disciplineId The identifier of the discipline.
+     * @return {@code true} if the student is enrolled in it.
+     */
+    public synchronized boolean isEnrolledIn(String disciplineId) {
+        return enrolledDisciplines.contains(disciplineId);
     }
 
     /**
@@ -102,17 +283,91 @@ public class Student implements Serializable {
      *
      * @return The number of elective disciplines.
      */
-    public int getElectiveCount() {
+    public synchronized int getElectiveCount() {
         return electiveCount;
     }
 
+    /**
+     * Gets the total number of credits of all disciplines the student is enrolled in.
+     *
+     * @return The sum of credits.
+     */
+    public synchronized double getTotalCredits() {
+        return totalCredits;
+    }
+
+    /**
+     * Gets the number of enrolled disciplines that end with an exam.
+     *
+     * @return The number of exam disciplines.
+     */
+    public synchronized int getExamCount() {
+        return examCount;
+    }
+
+    /**
+     * Checks whether a discipline takes a time slot already taken by one the student is enrolled in.
+     *
+     * @param discipline The discipline.
+     * @return {@code true} if its classes overlap the student's timetable.
+     */
+    public synchronized boolean clashesWith(Discipline discipline) {
+        return timetable.clashesWith(discipline);
+    }
+
+    /**
+     * Finds an enrolled discipline whose classes overlap those of the given one.
+     *
+     * @param discipline The discipline.
+     * @return The first enrolled discipline it clashes with, or {@code null} if there is none.
+     */
+    public synchronized Discipline findClash(Discipline discipline) {
+        if (!timetable.clashesWith(discipline)) {
+            return null; // The usual case, answered without looking at the disciplines
+        }
+        for (Discipline enrolled : enrolledDisciplines.byId.values()) {
+            if ((enrolled.getScheduleSlots() & discipline.getScheduleSlots()) != 0) {
+                return enrolled;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the weekly time slots taken by the disciplines the student is enrolled in.
+     * @return The slot set (see {@link Timetable}).
+     */
+    public synchronized long getBusySlots() {
+        return timetable.getBusySlots();
+    }
+
+    /**
+     * Recomputes the running totals and the timetable from the enrolled disciplines.
+     * Needed after the enrolled disciplines are replaced wholesale.
+     */
+    public synchronized void recalculateTotals() {
+        double credits = 0;
+        int electives = 0;
+        timetable.clear();
+        for (Discipline discipline : enrolledDisciplines.byId.values()) {
+            credits += discipline.getCredits();
+            timetable.add(discipline);
+            if (!discipline.isMandatory()) {
+                electives++;
+            }
+        }
+        this.totalCredits = credits;
+        this.electiveCount = electives;
+        this.examCount = examDisciplines.byId.size();
+    }
+
     /**
      * Retrieves the trimester score for a specific discipline.
      *
      * @param disciplineId The identifier of the discipline.
      * @return The score (0-100) or {@code null} if the student is not enrolled in the discipline or the score has not been set.
      */
-    public Integer getTrimesterScore(String disciplineId) {
+    public synchronized Integer getTrimesterScore(String disciplineId) {
         return trimesterScores.get(disciplineId);
     }
 
@@ -129,20 +384,22 @@ public class Student implements Serializable {
     /**
      * Enrolls the student in a discipline and optionally sets an initial score.
      * If the student is already enrolled, it will update the score if provided.
-     * It also increments the elective count if the discipline is not mandatory
-     * and adds the discipline to exam disciplines if its control type is "Екзамен".
+     * It also updates the running totals and adds the discipline to exam disciplines
+     * if its control type is "Екзамен".
      *
      * @param discipline The {@link Discipline} to enroll in.
      * @param initialScore The initial trimester score (0-100). Can be {@code null} if the score is not to be set immediately.
      */
-    public void enrollDiscipline(Discipline discipline, Integer initialScore) {
-        if (!enrolledDisciplines.contains(discipline)) {
-            enrolledDisciplines.add(discipline);
+    public synchronized void enrollDiscipline(Discipline discipline, Integer initialScore) {
+        if (enrolledDisciplines.add(discipline)) {
+            totalCredits += discipline.getCredits();
+            timetable.add(discipline);
             if (!discipline.isMandatory()) {
                 electiveCount++;
             }
-            if (discipline.getControlType().equals("Екзамен")) {
+            if (Discipline.CONTROL_TYPE_EXAM.equals(discipline.getControlType())) {
                 examDisciplines.add(discipline);
+                examCount++;
             }
         }
         if (initialScore != null) {
@@ -162,17 +419,21 @@ public class Student implements Serializable {
 
     /**
      * Drops a student from a discipline and removes the corresponding score.
-     * If the discipline is elective, it decrements the elective count.
+     * The running totals are updated accordingly.
      *
      * @param discipline The {@link Discipline} to drop.
      */
-    public void dropDiscipline(Discipline discipline) {
-        if (enrolledDisciplines.remove(discipline)) {
+    public synchronized void dropDiscipline(Discipline discipline) {
+        if (enrolledDisciplines.remove(discipline.getDisciplineId())) {
+            totalCredits -= discipline.getCredits();
+            timetable.remove(discipline);
             if (!discipline.isMandatory()) {
                 electiveCount--;
             }
             trimesterScores.remove(discipline.getDisciplineId()); // Remove the score as well
-            examDisciplines.remove(discipline); // Also remove from exam disciplines if it was there
+            if (examDisciplines.remove(discipline.getDisciplineId())) { // Also remove from exam disciplines if it was there
+                examCount--;
+            }
         }
     }
 
@@ -185,19 +446,12 @@ public class Student implements Serializable {
      * @throws IllegalArgumentException If the score is outside the valid range (0-100).
      * @throws IllegalStateException If the student is not enrolled in the specified discipline.
      */
-    public void setTrimesterScore(String disciplineId, int score) {
+    public synchronized void setTrimesterScore(String disciplineId, int score) {
         if (score < 0 || score > 100) {
             throw new IllegalArgumentException("Бал за триместр має бути від 0 до 100.");
         }
         // Check if the student is actually enrolled in this discipline before setting the score
-        boolean isEnrolled = false;
-        for (Discipline d : enrolledDisciplines) {
-            if (d.getDisciplineId().equals(disciplineId)) {
-                isEnrolled = true;
-                break;
-            }
-        }
-        if (!isEnrolled) {
+        if (!enrolledDisciplines.contains(disciplineId)) {
             throw new IllegalStateException("Студент не записаний на дисципліну з ID: " + disciplineId);
         }
 
@@ -210,7 +464,7 @@ public class Student implements Serializable {
      * @param disciplineId The identifier of the discipline.
      * @return The number of attempts, or 0 if no attempts have been recorded.
      */
-    public int getZalikAttempts(String disciplineId) {
+    public synchronized int getZalikAttempts(String disciplineId) {
         return zalikAttempts.getOrDefault(disciplineId, 0);
     }
 
@@ -219,7 +473,7 @@ public class Student implements Serializable {
      *
      * @param disciplineId The identifier of the discipline.
      */
-    public void incrementZalikAttempts(String disciplineId) {
+    public synchronized void incrementZalikAttempts(String disciplineId) {
         zalikAttempts.put(disciplineId, getZalikAttempts(disciplineId) + 1);
     }
 
@@ -277,30 +531,44 @@ public class Student implements Serializable {
     }
 
     /**
-     * Gets the list of disciplines for which the student has to take an exam.
+     * Gets the list of disciplines for which the student has to take an exam, in enrollment order.
      *
-     * @return A list of {@link Discipline} objects that are exam disciplines.
+     * @return A read-only list of {@link Discipline} objects that are exam disciplines.
      */
-    public List<Discipline> getExamDisciplines() {
-        return examDisciplines;
+    public synchronized List<Discipline> getExamDisciplines() {
+        return examDisciplines.asList();
     }
 
     /**
-     * Sets the list of disciplines for which the student has to take an exam.
+     * Replaces the disciplines the student is currently enrolled in.
+     * This method should be used with caution as it replaces the existing enrollment.
+     * The exam disciplines and the running totals are derived from the new list; duplicates are ignored.
      *
-     * @param examDisciplines The new list of exam disciplines.
+     * @param enrolledDisciplines The new list of enrolled disciplines.
      */
-    public void setExamDisciplines(List<Discipline> examDisciplines) {
-        this.examDisciplines = examDisciplines;
+    public synchronized void setEnrolledDisciplines(List<Discipline> enrolledDisciplines) {
+        this.enrolledDisciplines.clear();
+        this.examDisciplines.clear();
+        for (Discipline discipline : enrolledDisciplines) {
+            if (this.enrolledDisciplines.add(discipline)
+                    && Discipline.CONTROL_TYPE_EXAM.equals(discipline.getControlType())) {
+                this.examDisciplines.add(discipline);
+            }
+        }
+        recalculateTotals();
     }
 
-    /**
-     * Sets the list of disciplines the student is currently enrolled in.
-     * This method should be used with caution as it replaces the existing list.
-     *
-     * @param enrolledDisciplines The new list of enrolled disciplines.
-     */
-    public void setEnrolledDisciplines(List<Discipline> enrolledDisciplines) {
-        this.enrolledDisciplines = enrolledDisciplines;
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(new ArrayList<>(getEnrolledDisciplines()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        enrolledDisciplines = new DisciplineIndex();
+        examDisciplines = new DisciplineIndex();
+        timetable = new Timetable();
+        setEnrolledDisciplines((List<Discipline>) in.readObject());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,265 @@
+package org.example;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Random;
+import javax.imageio.ImageIO;
+
+/**
+ * A crowd of NPC students walking around the GamePanel scene.
+ * The state of every avatar is kept in parallel primitive arrays (one array per attribute) instead of
+ * one object per student, so {@link #update()} is a single tight pass over the arrays and drawing only
+ * touches the avatars that fall inside the visible part of the scene. All avatars share the same
+ * few mipmapped sprites.
+ */
+public class StudentCrowd {
+    private static final String[] SPRITE_PATHS = {
+            "assets/Models/Hero/girl1.png",
+            "assets/Models/Hero/girl2.png",
+            "assets/Models/Hero/girl3.png"
+    };
+    private static final double SPRITE_SCALE = 0.08; // Avatars are much smaller than the hero (0.4)
+    private static final float MAX_SPEED = 1.2f; // Scene pixels per tick
+    private static final float SWAY_SPEED = 0.08f;
+    private static final float SWAY_AMPLITUDE = 3.0f;
+    private static final float ENERGY_DECAY = 0.02f; // Energy lost per tick while walking
+    private static final float REST_ENERGY = 10f; // Below this an avatar stops to rest
+    private static final float REST_RECOVERY = 0.3f; // Energy regained per tick while resting
+
+    private static SpriteMipmap[] sharedSprites;
+    private static int[] spriteWidths;
+    private static int[] spriteHeights;
+
+    private final int worldWidth;
+    private final int worldHeight;
+    private final Random random = new Random();
+
+    private int size;
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private float[] swayPhase;
+    private float[] energy;
+    private byte[] sprite;
+    private int[] nameIndex;
+
+    private int lastDrawnCount;
+
+    /**
+     * Creates a crowd of the given size spread over the scene area.
+     *
+     * @param size The number of NPC students.
+     * @param worldWidth The width of the area they walk in, in scene coordinates.
+     * @param worldHeight The height of the area they walk in, in scene coordinates.
+     */
+    public StudentCrowd(int size, int worldWidth, int worldHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        loadSharedSprites();
+        resize(size);
+    }
+
+    /**
+     * Changes the number of avatars. Existing avatars keep their state; new ones are placed randomly.
+     * @param newSize The new crowd size.
+     */
+    public void resize(int newSize) {
+        float[] newX = new float[newSize];
+        float[] newY = new float[newSize];
+        float[] newVx = new float[newSize];
+        float[] newVy = new float[newSize];
+        float[] newSway = new float[newSize];
+        float[] newEnergy = new float[newSize];
+        byte[] newSprite = new byte[newSize];
+        int[] newName = new int[newSize];
+
+        int kept = Math.min(size, newSize);
+        if (kept > 0) {
+            System.arraycopy(x, 0, newX, 0, kept);
+            System.arraycopy(y, 0, newY, 0, kept);
+            System.arraycopy(vx, 0, newVx, 0, kept);
+            System.arraycopy(vy, 0, newVy, 0, kept);
+            System.arraycopy(swayPhase, 0, newSway, 0, kept);
+            System.arraycopy(energy, 0, newEnergy, 0, kept);
+            System.arraycopy(sprite, 0, newSprite, 0, kept);
+            System.arraycopy(nameIndex, 0, newName, 0, kept);
+        }
+        for (int i = kept; i < newSize; i++) {
+            newX[i] = random.nextFloat() * worldWidth;
+            newY[i] = random.nextFloat() * worldHeight;
+            newVx[i] = (random.nextFloat() * 2 - 1) * MAX_SPEED;
+            newVy[i] = (random.nextFloat() * 2 - 1) * MAX_SPEED;
+            newSway[i] = random.nextFloat() * (float) (2 * Math.PI);
+            newEnergy[i] = 50 + random.nextFloat() * 50;
+            newSprite[i] = (byte) random.nextInt(SPRITE_PATHS.length);
+            newName[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        x = newX;
+        y = newY;
+        vx = newVx;
+        vy = newVy;
+        swayPhase = newSway;
+        energy = newEnergy;
+        sprite = newSprite;
+        nameIndex = newName;
+        size = newSize;
+    }
+
+    /**
+     * Returns the number of avatars in the crowd.
+     * @return The crowd size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns how many avatars passed viewport culling during the last {@link #draw} call.
+     * @return The number of avatars drawn on the last frame.
+     */
+    public int getLastDrawnCount() {
+        return lastDrawnCount;
+    }
+
+    /**
+     * Picks the name of a random avatar from the given list, so chat messages can come from the crowd.
+     * @param names The names to choose from.
+     * @return The name of a random avatar, or a random name if the crowd is empty.
+     */
+    public String randomName(String[] names) {
+        if (size == 0) {
+            return names[random.nextInt(names.length)];
+        }
+        return names[nameIndex[random.nextInt(size)] % names.length];
+    }
+
+    /**
+     * Advances every avatar by one tick: walking, bouncing off the scene edges, tiring and resting.
+     */
+    public void update() {
+        final float[] x = this.x;
+        final float[] y = this.y;
+        final float[] vx = this.vx;
+        final float[] vy = this.vy;
+        final float[] swayPhase = this.swayPhase;
+        final float[] energy = this.energy;
+        final int n = size;
+        final float maxX = worldWidth;
+        final float maxY = worldHeight;
+
+        for (int i = 0; i < n; i++) {
+            float e = energy[i];
+            if (e < REST_ENERGY) {
+                // Resting: stay in place until energy is back
+                e += REST_RECOVERY;
+                energy[i] = e >= 100f ? 100f : e;
+                continue;
+            }
+
+            float nx = x[i] + vx[i];
+            float ny = y[i] + vy[i];
+            if (nx < 0 || nx > maxX) {
+                vx[i] = -vx[i];
+                nx = x[i];
+            }
+            if (ny < 0 || ny > maxY) {
+                vy[i] = -vy[i];
+                ny = y[i];
+            }
+            x[i] = nx;
+            y[i] = ny;
+            swayPhase[i] += SWAY_SPEED;
+            energy[i] = e - ENERGY_DECAY;
+        }
+    }
+
+    /**
+     * Draws the avatars that are inside the visible part of the scene.
+     *
+     * @param g2d The graphics context, without any scene scaling applied.
+     * @param offsetX The X-offset of the scene.
+     * @param offsetY The Y-offset of the scene.
+     * @param sceneScale The scaling factor of the scene.
+     * @param viewWidth The width of the panel.
+     * @param viewHeight The height of the panel.
+     * @param zoomSettled true if the scene scale is stable, so sprites may use exact-size copies.
+     */
+    public void draw(Graphics2D g2d, int offsetX, int offsetY, double sceneScale, int viewWidth, int viewHeight, boolean zoomSettled) {
+        if (sharedSprites == null || size == 0) {
+            lastDrawnCount = 0;
+            return;
+        }
+
+        int spriteCount = sharedSprites.length;
+        int[] drawWidths = new int[spriteCount];
+        int[] drawHeights = new int[spriteCount];
+        int maxWidth = 0;
+        int maxHeight = 0;
+        for (int s = 0; s < spriteCount; s++) {
+            drawWidths[s] = (int) Math.round(spriteWidths[s] * sceneScale);
+            drawHeights[s] = (int) Math.round(spriteHeights[s] * sceneScale);
+            maxWidth = Math.max(maxWidth, spriteWidths[s]);
+            maxHeight = Math.max(maxHeight, spriteHeights[s]);
+        }
+
+        // Visible rectangle in scene coordinates, grown by one sprite so partly visible avatars are kept
+        double minSceneX = -offsetX / sceneScale - maxWidth;
+        double minSceneY = -offsetY / sceneScale - maxHeight - SWAY_AMPLITUDE;
+        double maxSceneX = (viewWidth - offsetX) / sceneScale;
+        double maxSceneY = (viewHeight - offsetY) / sceneScale + SWAY_AMPLITUDE;
+
+        final float[] x = this.x;
+        final float[] y = this.y;
+        final int n = size;
+        int drawn = 0;
+        for (int i = 0; i < n; i++) {
+            float ax = x[i];
+            float ay = y[i];
+            if (ax < minSceneX || ax > maxSceneX || ay < minSceneY || ay > maxSceneY) {
+                continue;
+            }
+            int s = sprite[i];
+            float sway = SWAY_AMPLITUDE * (float) Math.sin(swayPhase[i]);
+            int screenX = (int) (offsetX + ax * sceneScale);
+            int screenY = (int) (offsetY + (ay + sway) * sceneScale);
+            sharedSprites[s].draw(g2d, screenX, screenY, drawWidths[s], drawHeights[s], zoomSettled);
+            drawn++;
+        }
+        lastDrawnCount = drawn;
+    }
+
+    /**
+     * Loads the avatar sprites once for all crowds.
+     */
+    private static synchronized void loadSharedSprites() {
+        if (sharedSprites != null) {
+            return;
+        }
+        SpriteMipmap[] sprites = new SpriteMipmap[SPRITE_PATHS.length];
+        int[] widths = new int[SPRITE_PATHS.length];
+        int[] heights = new int[SPRITE_PATHS.length];
+        for (int i = 0; i < SPRITE_PATHS.length; i++) {
+            try {
+                URL url = StudentCrowd.class.getClassLoader().getResource(SPRITE_PATHS[i]);
+                if (url == null) {
+                    System.err.println("Помилка під час завантаження зображення студента з ресурсу " + SPRITE_PATHS[i]);
+                    return;
+                }
+                BufferedImage image = ImageIO.read(url);
+                sprites[i] = new SpriteMipmap(image);
+                widths[i] = (int) (image.getWidth() * SPRITE_SCALE);
+                heights[i] = (int) (image.getHeight() * SPRITE_SCALE);
+            } catch (IOException e) {
+                System.err.println("Помилка під час читання зображення студента: " + e.getMessage());
+                return;
+            }
+        }
+        spriteWidths = widths;
+        spriteHeights = heights;
+        sharedSprites = sprites;
+    }
+}
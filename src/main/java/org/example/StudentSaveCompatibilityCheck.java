@@ -0,0 +1,96 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Round-trip check of the student save format. A save written before the discipline indexes keeps the
+ * exam disciplines as separate copies, with questions, and only those copies carry the exam mark and the
+ * automatic pass; loading it must keep them, and saving and loading again must give the same student.
+ * Run with {@code java org.example.StudentSaveCompatibilityCheck}; exits with status 1 if a check fails.
+ */
+public class StudentSaveCompatibilityCheck {
+    private static final String OLD_SAVE = """
+            {
+              "studentId": "І 005/24 бп",
+              "name": "Перевірка",
+              "course": 4,
+              "major": "Інженерія програмного забезпечення",
+              "enrolledDisciplines": [
+                {"disciplineId": "E1", "name": "Екзаменаційна", "instructor": "Викладач", "credits": 4.0,
+                 "maxCapacity": 65, "currentEnrollment": 65, "isMandatory": true, "targetCourse": 4,
+                 "controlType": "Екзамен", "isZalik": false, "avtomat": false, "currentStudentsMark": 0,
+                 "questions": [{"question": "1. Питання?", "options": ["А", "Б"], "correctAnswer": 0}]},
+                {"disciplineId": "Z1", "name": "Залікова", "instructor": "Викладач", "credits": 3.0,
+                 "maxCapacity": 30, "currentEnrollment": 12, "isMandatory": false, "targetCourse": 4,
+                 "controlType": "Залік", "isZalik": true, "avtomat": false, "currentStudentsMark": 75}
+              ],
+              "examDisciplines": [
+                {"disciplineId": "E1", "name": "Екзаменаційна", "instructor": "Викладач", "credits": 4.0,
+                 "maxCapacity": 65, "currentEnrollment": 65, "isMandatory": true, "targetCourse": 4,
+                 "controlType": "Екзамен", "isZalik": false, "avtomat": true, "currentStudentsMark": 87,
+                 "questions": [{"question": "1. Питання?", "options": ["А", "Б"], "correctAnswer": 0}]}
+              ],
+              "trimesterScores": {"E1": 87},
+              "totalCredits": 7.0,
+              "electiveCount": 1,
+              "examCount": 1,
+              "expelled": false
+            }
+            """;
+
+    public static void main(String[] args) {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        List<String> failures = new ArrayList<>();
+
+        Student loaded = gson.fromJson(OLD_SAVE, Student.class);
+        check(loaded, "старого збереження", failures);
+
+        String saved = gson.toJson(loaded);
+        JsonObject json = JsonParser.parseString(saved).getAsJsonObject();
+        JsonArray exams = json.getAsJsonArray("examDisciplines");
+        if (exams == null || exams.size() != 1 || !exams.get(0).isJsonObject()
+                || exams.get(0).getAsJsonObject().get("currentStudentsMark").getAsInt() != 87) {
+            failures.add("Екзаменаційні дисципліни записано не у форматі старих збережень: " + exams);
+        }
+        check(gson.fromJson(saved, Student.class), "повторного збереження", failures);
+
+        if (failures.isEmpty()) {
+            System.out.println("Усі перевірки пройдено: старе збереження прочитано, оцінки та автомати збережено.");
+        } else {
+            failures.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    private static void check(Student student, String source, List<String> failures) {
+        List<Discipline> enrolled = student.getEnrolledDisciplines();
+        if (enrolled.size() != 2 || student.getExamDisciplines().size() != 1) {
+            failures.add("Після " + source + ": дисциплін " + enrolled.size() + ", екзаменів "
+                    + student.getExamDisciplines().size() + ", а має бути 2 і 1.");
+            return;
+        }
+        Discipline exam = student.getExamDisciplines().get(0);
+        if (exam != enrolled.get(0)) {
+            failures.add("Після " + source + ": екзамен не є тією самою дисципліною, що в списку записаних.");
+        }
+        if (exam.getCurrentStudentsMark() != 87 || !exam.getAvtomat()) {
+            failures.add("Після " + source + ": оцінка екзамену " + exam.getCurrentStudentsMark()
+                    + ", автомат " + exam.getAvtomat() + ", а має бути 87 і true.");
+        }
+        if (enrolled.get(1).getCurrentStudentsMark() != 75) {
+            failures.add("Після " + source + ": оцінка заліку " + enrolled.get(1).getCurrentStudentsMark()
+                    + ", а має бути 75.");
+        }
+        if (student.getTotalCredits() != 7.0 || student.getExamCount() != 1) {
+            failures.add("Після " + source + ": кредитів " + student.getTotalCredits() + ", екзаменів "
+                    + student.getExamCount() + ".");
+        }
+    }
+}
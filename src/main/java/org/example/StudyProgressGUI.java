@@ -144,10 +144,7 @@ public class StudyProgressGUI extends JFrame {
     private void updateStudentInfoLabel() {
         JLabel studentInfoLabel = (JLabel) ((BorderLayout) getContentPane().getLayout()).getLayoutComponent(BorderLayout.NORTH);
         if (currentStudent != null) {
-            double totalCredits = 0;
-            for (Discipline discipline : currentStudent.getEnrolledDisciplines()) {
-                totalCredits += discipline.getCredits();
-            }
+            double totalCredits = currentStudent.getTotalCredits();
             studentInfoLabel.setText("Студент: " + currentStudent.getName() + " (ID: " + currentStudent.getStudentId() +
                     ", курс: " + currentStudent.getCourse() + ", спеціальність: " + currentStudent.getMajor() +
                     ", кредити: " + totalCredits + ")");
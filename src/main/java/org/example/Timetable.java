@@ -0,0 +1,137 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The weekly timetable of a student: which lecture pairs of the week are taken by the disciplines
+ * the student is enrolled in.
+ * <p>
+ * A week has {@value #DAYS} working days of {@value #PAIRS_PER_DAY} pairs each, so a set of time slots
+ * fits in one {@code long} with bit {@code day * PAIRS_PER_DAY + (pair - 1)} per slot. A discipline
+ * stores its slots in that form (see {@link Discipline#getScheduleSlots()}), and checking whether it
+ * clashes with the timetable is one AND, however many disciplines the student has. Each slot also
+ * counts the disciplines in it, so disciplines that were allowed to overlap (mandatory ones, old saves)
+ * can be removed again without freeing a slot another discipline still holds.
+ * <p>
+ * Not thread-safe; {@link Student} guards its timetable with its own monitor.
+ */
+public class Timetable {
+    public static final int DAYS = 5;
+    public static final int PAIRS_PER_DAY = 7;
+    public static final int SLOT_COUNT = DAYS * PAIRS_PER_DAY;
+
+    private static final String[] DAY_NAMES = {"Пн", "Вт", "Ср", "Чт", "Пт"};
+
+    private final byte[] disciplinesInSlot = new byte[SLOT_COUNT];
+    private long busySlots;
+
+    /**
+     * Returns the slot set of one pair of the week.
+     *
+     * @param day The day, 0 (Monday) to {@value #DAYS} - 1.
+     * @param pair The pair of the day, 1 to {@value #PAIRS_PER_DAY}.
+     * @return A slot set with one slot.
+     */
+    public static long slotOf(int day, int pair) {
+        if (day < 0 || day >= DAYS || pair < 1 || pair > PAIRS_PER_DAY) {
+            throw new IllegalArgumentException("Немає такої пари в розкладі: день " + day + ", пара " + pair);
+        }
+        return 1L << (day * PAIRS_PER_DAY + pair - 1);
+    }
+
+    /**
+     * Parses time slots written as a day and a pair number, e.g. {@code "Пн 2"}.
+     *
+     * @param slots The slots; null means no slots.
+     * @return The slot set.
+     * @throws IllegalArgumentException if a slot is malformed.
+     */
+    public static long parse(List<String> slots) {
+        long result = 0;
+        if (slots == null) {
+            return result;
+        }
+        for (String slot : slots) {
+            String[] parts = slot.trim().split("\\s+");
+            int day = parts.length == 2 ? List.of(DAY_NAMES).indexOf(parts[0]) : -1;
+            if (day < 0) {
+                throw new IllegalArgumentException("Неправильний запис пари в розкладі: '" + slot + "'");
+            }
+            try {
+                result |= slotOf(day, Integer.parseInt(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Неправильний запис пари в розкладі: '" + slot + "'", e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Formats a slot set in the form {@link #parse(List)} reads, in the order of the week.
+     *
+     * @param slots The slot set.
+     * @return E.g. "Пн 2, Чт 3", or an empty string for no slots.
+     */
+    public static String format(long slots) {
+        StringBuilder text = new StringBuilder();
+        for (long rest = slots; rest != 0; rest &= rest - 1) {
+            int slot = Long.numberOfTrailingZeros(rest);
+            text.append(text.length() == 0 ? "" : ", ")
+                    .append(DAY_NAMES[slot / PAIRS_PER_DAY]).append(' ').append(slot % PAIRS_PER_DAY + 1);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the slots taken by at least one discipline.
+     * @return The slot set.
+     */
+    public long getBusySlots() {
+        return busySlots;
+    }
+
+    /**
+     * Returns the slots of a discipline that are already taken.
+     *
+     * @param discipline The discipline.
+     * @return The clashing slots, empty (0) if there is no clash.
+     */
+    public long clashesOf(Discipline discipline) {
+        return busySlots & discipline.getScheduleSlots();
+    }
+
+    public boolean clashesWith(Discipline discipline) {
+        return clashesOf(discipline) != 0;
+    }
+
+    /**
+     * Takes the slots of a discipline, whether or not they clash.
+     * @param discipline The discipline.
+     */
+    public void add(Discipline discipline) {
+        for (long rest = discipline.getScheduleSlots(); rest != 0; rest &= rest - 1) {
+            int slot = Long.numberOfTrailingZeros(rest);
+            disciplinesInSlot[slot]++;
+            busySlots |= 1L << slot;
+        }
+    }
+
+    /**
+     * Gives back the slots of a discipline added before.
+     * @param discipline The discipline.
+     */
+    public void remove(Discipline discipline) {
+        for (long rest = discipline.getScheduleSlots(); rest != 0; rest &= rest - 1) {
+            int slot = Long.numberOfTrailingZeros(rest);
+            if (disciplinesInSlot[slot] > 0 && --disciplinesInSlot[slot] == 0) {
+                busySlots &= ~(1L << slot);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(disciplinesInSlot, (byte) 0);
+        busySlots = 0;
+    }
+}